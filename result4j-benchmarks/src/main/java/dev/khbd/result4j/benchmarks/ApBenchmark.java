@@ -0,0 +1,58 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Combination of independent results.
+ *
+ * <p>{@code direct} combines results in one step and allocates only the combined result and its value on success
+ * and nothing on error. {@code holder} goes through intermediate apply object, which is usually
+ * removed by escape analysis, but may be allocated if the call is not inlined.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ApBenchmark {
+
+    @Param({"true", "false"})
+    boolean success;
+
+    private Result<String, Integer> result1;
+    private Result<String, Integer> result2;
+    private Result<String, Integer> result3;
+
+    @Setup
+    public void setup() {
+        result1 = Result.success(4242);
+        result2 = Result.success(4343);
+        result3 = success ? Result.success(4444) : Result.error("error");
+    }
+
+    @Benchmark
+    public Result<String, Integer> direct() {
+        return Result.ap(result1, result2, result3, (a, b, c) -> a + b + c);
+    }
+
+    @Benchmark
+    public Result<String, Integer> holder() {
+        return Result.ap(result1, result2, result3).apply((a, b, c) -> a + b + c);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.khbd.result4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks entry point.
+ *
+ * <p>Runner accepts the same command line options as jmh itself,
+ * but always runs benchmarks with gc and peak heap profilers, so allocation rate
+ * per operation and peak heap usage are reported together with time per operation.
+ *
+ * <pre>{@code
+ * java -jar result4j-benchmarks/target/benchmarks.jar ChainBenchmark
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+public class BenchmarkRunner {
+
+    private static final String GC_PROFILER = "gc";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams()
+            || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cmdOptions);
+        if (!profilerEnabled(cmdOptions, GCProfiler.class, GC_PROFILER)) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!profilerEnabled(cmdOptions, PeakHeapProfiler.class, PeakHeapProfiler.class.getName())) {
+            builder.addProfiler(PeakHeapProfiler.class);
+        }
+        Options options = builder.build();
+
+        new Runner(options).run();
+    }
+
+    private static boolean profilerEnabled(CommandLineOptions cmdOptions, Class<?> profilerClass, String alias) {
+        return cmdOptions.getProfilers().stream()
+                .anyMatch(profiler -> profiler.getKlass().equals(alias)
+                                      || profiler.getKlass().equals(profilerClass.getName()));
+    }
+}
@@ -0,0 +1,69 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.NoData;
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factories which return shared instances for common values.
+ *
+ * <p>All benchmarks except {@code success_uncached} are expected to allocate nothing.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CanonicalInstancesBenchmark {
+
+    // fields are not final to prevent constant folding
+    private Result<String, String> result = Result.success("Alex");
+    private boolean flag = true;
+    private int small = 42;
+    private int big = 4242;
+    private ErrorCode code = ErrorCode.NOT_FOUND;
+
+    @Benchmark
+    public Result<String, NoData> drop() {
+        return result.drop();
+    }
+
+    @Benchmark
+    public Result<String, Boolean> success_boolean() {
+        return Result.success(flag);
+    }
+
+    @Benchmark
+    public Option<Integer> some_smallInteger() {
+        return Option.some(small);
+    }
+
+    @Benchmark
+    public Result<String, Integer> success_uncached() {
+        return Result.success(big);
+    }
+
+    @Benchmark
+    public Result<ErrorCode, NoData> error_enum() {
+        return Result.error(code);
+    }
+
+    public enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN
+    }
+}
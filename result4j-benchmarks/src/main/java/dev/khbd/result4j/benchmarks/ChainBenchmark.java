@@ -0,0 +1,91 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map and flatMap chains over result and option.
+ *
+ * <p>Each chain has five steps. On success path every step allocates a new container,
+ * on error path every step returns the same instance.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChainBenchmark {
+
+    @Param({"true", "false"})
+    boolean success;
+
+    private Result<String, Integer> result;
+    private Option<Integer> option;
+
+    @Setup
+    public void setup() {
+        result = success ? Result.success(1) : Result.error("error");
+        option = success ? Option.some(1) : Option.none();
+    }
+
+    @Benchmark
+    public Result<String, Integer> result_map() {
+        return result.map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v * 5)
+                .map(v -> v + 7);
+    }
+
+    @Benchmark
+    public Result<String, Integer> result_flatMap() {
+        return result.flatMap(v -> Result.success(v + 1))
+                .flatMap(v -> Result.success(v * 2))
+                .flatMap(v -> Result.success(v - 3))
+                .flatMap(v -> Result.success(v * 5))
+                .flatMap(v -> Result.success(v + 7));
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> result_mapError() {
+        return result.mapError(String::length)
+                .mapError(v -> v + 1)
+                .mapError(v -> v * 2)
+                .mapError(v -> v - 3)
+                .mapError(v -> v * 5);
+    }
+
+    @Benchmark
+    public Option<Integer> option_map() {
+        return option.map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v * 5)
+                .map(v -> v + 7);
+    }
+
+    @Benchmark
+    public Option<Integer> option_flatMap() {
+        return option.flatMap(v -> Option.some(v + 1))
+                .flatMap(v -> Option.some(v * 2))
+                .flatMap(v -> Option.some(v - 3))
+                .flatMap(v -> Option.some(v * 5))
+                .flatMap(v -> Option.some(v + 7));
+    }
+}
@@ -0,0 +1,145 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sequencing and traversing collectors over large streams
+ * compared with stream-free {@code sequence} and {@code traverse} methods.
+ *
+ * <p>Failure position controls where the first error or empty option is placed:
+ * nowhere, in the middle of the stream or at the very end of it.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CollectorsBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param
+    FailurePosition failurePosition;
+
+    private List<Integer> values;
+    private List<Result<String, Integer>> results;
+    private List<Option<Integer>> options;
+
+    @Setup
+    public void setup() {
+        int failureIndex = failurePosition.index(size);
+
+        values = new ArrayList<>(size);
+        results = new ArrayList<>(size);
+        options = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // negative value is a failure marker for traversing functions
+            int value = i == failureIndex ? -1 : i;
+            values.add(value);
+            results.add(value < 0 ? Result.error("error") : Result.success(value));
+            options.add(value < 0 ? Option.none() : Option.some(value));
+        }
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> result_sequencing() {
+        return results.stream().collect(Result.sequencing(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> result_traversing() {
+        return values.stream().collect(Result.traversing(CollectorsBenchmark::toResult, Collectors.toList()));
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> result_takeUntilError_sequencing() {
+        return Result.takeUntilError(results.stream()).collect(Result.sequencing(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> result_sequence() {
+        return Result.sequence(results);
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> result_traverse() {
+        return Result.traverse(values, CollectorsBenchmark::toResult);
+    }
+
+    @Benchmark
+    public Option<List<Integer>> option_sequencing() {
+        return options.stream().collect(Option.sequencing(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Option<List<Integer>> option_traversing() {
+        return values.stream().collect(Option.traversing(CollectorsBenchmark::toOption, Collectors.toList()));
+    }
+
+    @Benchmark
+    public Option<List<Integer>> option_takeUntilEmpty_sequencing() {
+        return Option.takeUntilEmpty(options.stream()).collect(Option.sequencing(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Option<List<Integer>> option_sequence() {
+        return Option.sequence(options);
+    }
+
+    @Benchmark
+    public Option<List<Integer>> option_traverse() {
+        return Option.traverse(values, CollectorsBenchmark::toOption);
+    }
+
+    private static Result<String, Integer> toResult(Integer value) {
+        return value < 0 ? Result.error("error") : Result.success(value);
+    }
+
+    private static Option<Integer> toOption(Integer value) {
+        return value < 0 ? Option.none() : Option.some(value);
+    }
+
+    public enum FailurePosition {
+        NONE {
+            @Override
+            int index(int size) {
+                return -1;
+            }
+        },
+        MIDDLE {
+            @Override
+            int index(int size) {
+                return size / 2;
+            }
+        },
+        LAST {
+            @Override
+            int index(int size) {
+                return size - 1;
+            }
+        };
+
+        abstract int index(int size);
+    }
+}
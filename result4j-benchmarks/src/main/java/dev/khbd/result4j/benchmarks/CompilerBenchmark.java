@@ -0,0 +1,287 @@
+package dev.khbd.result4j.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compile time of synthetic sources with and without result4j plugin.
+ *
+ * <p>Each scenario generates sources of specified size once per trial,
+ * and each benchmark operation compiles all of them in process. Comparing scores for
+ * growing sizes shows how plugin scales, and comparing them with plain compilation
+ * shows plugin overhead.
+ *
+ * <pre>{@code
+ * java -jar result4j-benchmarks/target/benchmarks.jar CompilerBenchmark -p scenario=LONG_METHOD
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xms2g", "-Xmx2g",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.comp=ALL-UNNAMED"
+})
+public class CompilerBenchmark {
+
+    @Param
+    Scenario scenario;
+
+    @Param({"100", "200", "400", "500"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean plugin;
+
+    private List<Path> sources;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path root = Files.createTempDirectory("result4j-bench-src");
+        Path pkg = Files.createDirectories(root.resolve("bench"));
+
+        List<String> units = scenario.units(size);
+        sources = new ArrayList<>(units.size());
+        for (int i = 0; i < units.size(); i++) {
+            Path file = pkg.resolve("Class" + i + ".java");
+            Files.writeString(file, unit(i, units.get(i)));
+            sources.add(file);
+        }
+
+        output = Files.createTempDirectory("result4j-bench-out");
+    }
+
+    @Benchmark
+    public boolean compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+
+            List<String> arguments = plugin
+                    ? List.of("-proc:none", "-classpath", System.getProperty("java.class.path"), "-Xplugin:result4j")
+                    : List.of("-proc:none", "-classpath", System.getProperty("java.class.path"));
+
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+            Boolean success = compiler.getTask(null, fileManager, null, arguments, null, units).call();
+            if (!success) {
+                throw new IllegalStateException("Benchmark sources were not compiled");
+            }
+            return success;
+        }
+    }
+
+    private static String unit(int index, String members) {
+        return """
+                package bench;
+
+                import dev.khbd.result4j.core.Result;
+
+                import java.util.function.Function;
+
+                public class Class%d {
+
+                    %s
+
+                    public static Result<String, Integer> number(int number) {
+                        return number >= 0 ? Result.success(number) : Result.error("negative");
+                    }
+                }
+                """.formatted(index, members);
+    }
+
+    public enum Scenario {
+
+        /**
+         * Many small compilation units, each has a method with a few unwrap calls.
+         * Number of compilation units is equal to size.
+         */
+        MANY_FILES {
+            @Override
+            List<String> units(int size) {
+                return IntStream.range(0, size)
+                        .mapToObj(i -> method(0, IntStream.range(0, 5)
+                                .mapToObj(j -> "sum += number(" + j + ").unwrap();")
+                                .collect(Collectors.joining("\n"))))
+                        .toList();
+            }
+        },
+
+        /**
+         * One compilation unit with a single method.
+         * Number of statements with unwrap calls is equal to size.
+         */
+        LONG_METHOD {
+            @Override
+            List<String> units(int size) {
+                return List.of(method(0, IntStream.range(0, size)
+                        .mapToObj(i -> "int v" + i + " = number(" + i + ").unwrap();\nsum += v" + i + ";")
+                        .collect(Collectors.joining("\n"))));
+            }
+        },
+
+        /**
+         * One compilation unit with unwrap calls in separate statements.
+         * Statements are spread over methods with {@literal 50} statements in each,
+         * number of statements is equal to size.
+         */
+        SPLIT_METHODS {
+            @Override
+            List<String> units(int size) {
+                return List.of(IntStream.range(0, size / 50)
+                        .mapToObj(m -> method(m, IntStream.range(0, 50)
+                                .mapToObj(i -> "sum += number(" + i + ").unwrap();")
+                                .collect(Collectors.joining("\n"))))
+                        .collect(Collectors.joining("\n")));
+            }
+        },
+
+        /**
+         * One compilation unit with all unwrap calls in one statement.
+         * Number of unwrap calls is equal to size.
+         */
+        LONG_EXPRESSION {
+            @Override
+            List<String> units(int size) {
+                return List.of(method(0, IntStream.range(0, size)
+                        .mapToObj(i -> "number(" + i + ").unwrap()")
+                        .collect(Collectors.joining(" + ", "sum = ", ";"))));
+            }
+        },
+
+        /**
+         * Very large compilation, where every compilation unit has an unwrap call.
+         * Number of compilation units is twenty times size, up to {@literal 10000} units for the largest size.
+         * Plugin infrastructure is created once per compilation, so time and allocated memory
+         * per unit are expected to stay the same for all sizes.
+         */
+        MANY_UNWRAP_FILES {
+            @Override
+            List<String> units(int size) {
+                return IntStream.range(0, size * 20)
+                        .mapToObj(i -> method(0, UNWRAP_BODY))
+                        .toList();
+            }
+        },
+
+        /**
+         * Project-like compilation, where only every tenth compilation unit has an unwrap call.
+         * Number of compilation units is ten times size, so plugin overhead on units
+         * without unwrap calls is visible, up to {@literal 5000} units for the largest size.
+         */
+        FEW_UNWRAP_FILES {
+            @Override
+            List<String> units(int size) {
+                return IntStream.range(0, size * 10)
+                        .mapToObj(i -> i % 10 == 0 ? UNWRAP_BODY : PLAIN_BODY)
+                        .map(body -> method(0, body))
+                        .toList();
+            }
+        },
+
+        /**
+         * Project-like compilation without unwrap calls at all.
+         * Number of compilation units is ten times size, up to {@literal 5000} units for the largest size,
+         * so units are expected to be skipped by plugin before any processing.
+         */
+        NO_UNWRAP_FILES {
+            @Override
+            List<String> units(int size) {
+                return IntStream.range(0, size * 10)
+                        .mapToObj(i -> method(0, PLAIN_BODY))
+                        .toList();
+            }
+        },
+
+        /**
+         * One compilation unit with deeply nested unwrap calls.
+         * Each statement nests unwrap calls in receivers and arguments of each other.
+         * Nesting depth is equal to size divided by ten, there are ten such statements.
+         */
+        NESTED_EXPRESSIONS {
+            @Override
+            List<String> units(int size) {
+                int depth = size / 10;
+                return List.of(method(0, IntStream.range(0, 10)
+                        .mapToObj(i -> "sum += " + nested(depth) + ";")
+                        .collect(Collectors.joining("\n"))));
+            }
+
+            private String nested(int depth) {
+                String expression = "number(1).unwrap()";
+                for (int i = 0; i < depth; i++) {
+                    expression = "number(" + expression + " + number(" + i + ").unwrap()).unwrap()";
+                }
+                return expression;
+            }
+        },
+
+        /**
+         * One compilation unit with lambdas which use unwrap calls in their bodies.
+         * Number of lambdas is equal to size, half of them are nested into other lambdas.
+         */
+        LAMBDAS {
+            @Override
+            List<String> units(int size) {
+                return List.of(method(0, IntStream.range(0, size / 2)
+                        .mapToObj(i -> """
+                                Function<Integer, Result<String, Integer>> f%d = v -> {
+                                    Function<Integer, Result<String, Integer>> inner = w -> Result.success(number(w).unwrap() + %d);
+                                    int value = number(v).unwrap();
+                                    return Result.success(inner.apply(value).unwrap());
+                                };
+                                sum += f%d.apply(%d).unwrap();
+                                """.formatted(i, i, i, i))
+                        .collect(Collectors.joining("\n"))));
+            }
+        };
+
+        private static final String UNWRAP_BODY = "sum += number(1).unwrap();";
+        private static final String PLAIN_BODY = "sum += number(1).map(v -> v + 1).getOrElse(0);";
+
+        abstract List<String> units(int size);
+
+        static String method(int index, String body) {
+            return """
+                    public static Result<String, Integer> sum%d() {
+                        int sum = 0;
+                        %s
+                        return Result.success(sum);
+                    }
+                    """.formatted(index, body);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Dispatch over result variants at a hot call site.
+ *
+ * <p>Results are mixed successes and errors, so accessor calls see both variants.
+ * Accessor based code is compared with {@code instanceof} and {@code switch}
+ * patterns over sealed hierarchy.
+ *
+ * <p>Map benchmarks pass several different functions through the same {@code map}
+ * call site, which makes call to function inside {@code map} megamorphic.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"0", "10", "50"})
+    int errorPercent;
+
+    private Result<String, Integer>[] results;
+    private Function<Integer, Integer>[] functions;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Random random = new Random(42);
+
+        results = new Result[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = random.nextInt(100) < errorPercent ? Result.error("error") : Result.success(i);
+        }
+
+        functions = new Function[]{
+                (Function<Integer, Integer>) v -> v + 1,
+                (Function<Integer, Integer>) v -> v * 2,
+                (Function<Integer, Integer>) v -> v - 3,
+                (Function<Integer, Integer>) v -> v ^ 5
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long accessors() {
+        long sum = 0;
+        for (Result<String, Integer> result : results) {
+            if (result.isError()) {
+                sum += result.getError().length();
+            } else {
+                sum += result.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long instanceofPattern() {
+        long sum = 0;
+        for (Result<String, Integer> result : results) {
+            if (result instanceof Result.Ok<String, Integer>(var value)) {
+                sum += value;
+            } else if (result instanceof Result.Error<String, Integer>(var error)) {
+                sum += error.length();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long switchPattern() {
+        long sum = 0;
+        for (Result<String, Integer> result : results) {
+            sum += switch (result) {
+                case Result.Ok<String, Integer>(var value) -> value;
+                case Result.Error<String, Integer>(var error) -> error.length();
+            };
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long map_monomorphic() {
+        Function<Integer, Integer> function = functions[0];
+        long sum = 0;
+        for (Result<String, Integer> result : results) {
+            sum += result.map(function).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long map_megamorphic() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += results[i].map(functions[i & 3]).getOrElse(0);
+        }
+        return sum;
+    }
+}
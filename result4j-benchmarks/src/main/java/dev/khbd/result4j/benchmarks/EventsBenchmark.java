@@ -0,0 +1,91 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of flight recorder events for error creation and propagation.
+ *
+ * <p>{@code none} runs without recording, so the cost should be the same as without events at all.
+ * {@code default} runs a recording with default settings, where result4j events are disabled,
+ * and {@code enabled} runs a recording where result4j events are enabled with stack traces.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventsBenchmark {
+
+    @Param({"none", "default", "enabled"})
+    String recording;
+
+    // field is not final to prevent constant folding
+    private Integer code = 4242;
+
+    private Recording running;
+
+    @Setup
+    public void setup() {
+        if (recording.equals("none")) {
+            return;
+        }
+        running = new Recording();
+        if (recording.equals("enabled")) {
+            running.enable("dev.khbd.result4j.ErrorCreated").withStackTrace();
+            running.enable("dev.khbd.result4j.ErrorPropagated").withStackTrace();
+        }
+        running.setToDisk(false);
+        running.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (running != null) {
+            running.close();
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> error() {
+        return Result.error(code);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errorAndPropagate() {
+        return third();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Result<Integer, String> first() {
+        return Result.error(code);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Result<Integer, String> second() {
+        return Result.propagate(first());
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Result<Integer, String> third() {
+        return Result.propagate(second());
+    }
+}
@@ -0,0 +1,57 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.NoData;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapping of code which may throw an exception.
+ *
+ * <p>Failing code creates a new exception on each call, so the cost of
+ * stack trace filling is included, as it is in real code.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FromErroneousBenchmark {
+
+    @Param({"false", "true"})
+    boolean fail;
+
+    private int counter;
+
+    @Benchmark
+    public Result<Exception, Integer> callable() {
+        return Result.fromErroneous(this::compute);
+    }
+
+    @Benchmark
+    public Result<Exception, NoData> runnable() {
+        return Result.fromErroneous(() -> {
+            compute();
+        });
+    }
+
+    private int compute() {
+        if (fail) {
+            throw new IllegalStateException("error");
+        }
+        return ++counter;
+    }
+}
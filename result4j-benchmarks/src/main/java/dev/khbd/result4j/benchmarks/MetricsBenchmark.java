@@ -0,0 +1,60 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.CountingResultMetrics;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting metrics listener under contention.
+ *
+ * <p>All available cores update the same listener, so time per operation should stay
+ * about the same when number of threads grows. {@code result_noListener} creates result
+ * without registered listener, so it shows that hooks are removed from compiled code.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class MetricsBenchmark {
+
+    private final CountingResultMetrics metrics = new CountingResultMetrics();
+
+    // field is not final to prevent constant folding
+    private Integer code = 4242;
+
+    @Benchmark
+    public void successCreated() {
+        metrics.successCreated();
+    }
+
+    @Benchmark
+    public void errorCreated() {
+        metrics.errorCreated(code);
+    }
+
+    @Benchmark
+    public CountingResultMetrics.Snapshot snapshot() {
+        return metrics.snapshot();
+    }
+
+    @Benchmark
+    public Result<Integer, String> result_noListener() {
+        return Result.error(code);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions from option to other containers.
+ *
+ * <p>Each benchmark except {@code toStream} is expected to allocate at most one object,
+ * the returned container. Conversions of empty option allocate nothing.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionConversionBenchmark {
+
+    @Param({"true", "false"})
+    boolean present;
+
+    private Option<Integer> option;
+
+    @Setup
+    public void setup() {
+        option = present ? Option.some(4242) : Option.none();
+    }
+
+    @Benchmark
+    public Result<String, Integer> toResult_value() {
+        return option.toResult("error");
+    }
+
+    @Benchmark
+    public Result<String, Integer> toResult_supplier() {
+        return option.toResult(() -> "error");
+    }
+
+    @Benchmark
+    public Optional<Integer> toOptional() {
+        return option.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Integer> toStream() {
+        // stream is lazy, so it has to be consumed
+        return option.toStream().findFirst();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.benchmarks.CollectorsBenchmark.FailurePosition;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Traversal with CPU-heavy function: sequential, parallel stream and fork-join traversal.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelTraverseBenchmark {
+
+    private static final long TOKENS = 100;
+
+    @Param({"100000"})
+    int size;
+
+    @Param
+    FailurePosition failurePosition;
+
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        int failureIndex = failurePosition.index(size);
+
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // negative value is a failure marker for validation function
+            values.add(i == failureIndex ? -1 : i);
+        }
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> traverse() {
+        return Result.traverse(values, ParallelTraverseBenchmark::validate);
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> parallelStream_traversing() {
+        return values.parallelStream().collect(Result.traversing(ParallelTraverseBenchmark::validate, Collectors.toList()));
+    }
+
+    @Benchmark
+    public Result<String, List<Integer>> traverseParallel() {
+        return Result.traverseParallel(values, ParallelTraverseBenchmark::validate, ForkJoinPool.commonPool());
+    }
+
+    private static Result<String, Integer> validate(Integer value) {
+        Blackhole.consumeCPU(TOKENS);
+        return value < 0 ? Result.error("error") : Result.success(value);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error propagation through three nested calls with result and with exceptions.
+ *
+ * <p>The deepest call fails or succeeds depending on parameter.
+ * Exception based version creates a new exception on each failure.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropagationBenchmark {
+
+    @Param({"false", "true"})
+    boolean fail;
+
+    private int value = 42;
+
+    @Benchmark
+    public Result<String, Integer> result() {
+        return resultLevel1(value);
+    }
+
+    @Benchmark
+    public Result<String, Integer> exception() {
+        try {
+            return Result.success(exceptionLevel1(value));
+        } catch (IllegalStateException e) {
+            return Result.error(e.getMessage());
+        }
+    }
+
+    private Result<String, Integer> resultLevel1(int v) {
+        return resultLevel2(v).map(r -> r + 1);
+    }
+
+    private Result<String, Integer> resultLevel2(int v) {
+        return resultLevel3(v).map(r -> r * 2);
+    }
+
+    private Result<String, Integer> resultLevel3(int v) {
+        if (fail) {
+            return Result.error("error");
+        }
+        return Result.success(v);
+    }
+
+    private int exceptionLevel1(int v) {
+        return exceptionLevel2(v) + 1;
+    }
+
+    private int exceptionLevel2(int v) {
+        return exceptionLevel3(v) * 2;
+    }
+
+    private int exceptionLevel3(int v) {
+        if (fail) {
+            throw new IllegalStateException("error");
+        }
+        return v;
+    }
+}
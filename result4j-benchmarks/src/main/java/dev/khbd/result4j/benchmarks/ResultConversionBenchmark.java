@@ -0,0 +1,97 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.NoData;
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions from result to other containers and factories from other containers.
+ *
+ * <p>Each benchmark except {@code toStream} is expected to allocate at most one object,
+ * the returned container, which is 16 bytes with compressed oops. Conversions which return
+ * shared or the same instance, like {@code drop} or {@code toOption} on error, allocate nothing.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultConversionBenchmark {
+
+    @Param({"true", "false"})
+    boolean success;
+
+    // values are not cached by factories, so allocation of returned container is visible
+    private Integer value;
+    private Result<String, Integer> result;
+    private Result<String, Integer> other;
+    private Option<Integer> option;
+    private Optional<Integer> optional;
+
+    @Setup
+    public void setup() {
+        value = success ? 4242 : null;
+        result = success ? Result.success(value) : Result.error("error");
+        other = Result.success(4343);
+        option = Option.fromNullable(value);
+        optional = Optional.ofNullable(value);
+    }
+
+    @Benchmark
+    public Option<Integer> toOption() {
+        return result.toOption();
+    }
+
+    @Benchmark
+    public Optional<Integer> toStream() {
+        // stream is lazy, so it has to be consumed
+        return result.toStream().findFirst();
+    }
+
+    @Benchmark
+    public Result<String, NoData> drop() {
+        return result.drop();
+    }
+
+    @Benchmark
+    public Result<NoData, Integer> dropError() {
+        return result.dropError();
+    }
+
+    @Benchmark
+    public Result<String, Integer> orElse_value() {
+        return result.orElse(other);
+    }
+
+    @Benchmark
+    public Result<String, Integer> fromOption_value() {
+        return Result.fromOption(option, "error");
+    }
+
+    @Benchmark
+    public Result<String, Integer> fromOptional_value() {
+        return Result.fromOptional(optional, "error");
+    }
+
+    @Benchmark
+    public Result<String, Integer> fromNullable_value() {
+        return Result.fromNullable(value, "error");
+    }
+}
@@ -0,0 +1,116 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import dev.khbd.result4j.core.ResultFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chain of transformations over already completed asynchronous result:
+ * hand-written {@link CompletableFuture} wrapping against {@link ResultFuture}.
+ *
+ * <p>Futures are returned from benchmarks instead of being joined and every transformation
+ * is built in a separate method, so intermediate stages escape as they do in real code.
+ * Transformation functions capture state.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultFutureBenchmark {
+
+    // fields are not final to prevent constant folding
+    private Result<String, Integer> success = Result.success(1000);
+    private Result<String, Integer> error = Result.error("error");
+    private int increment = 1;
+
+    @Benchmark
+    public CompletableFuture<Result<String, Integer>> completableFuture_success() {
+        return chain(CompletableFuture.completedFuture(success), increment);
+    }
+
+    @Benchmark
+    public ResultFuture<String, Integer> resultFuture_success() {
+        return chain(ResultFuture.completed(success), increment);
+    }
+
+    @Benchmark
+    public CompletableFuture<Result<String, Integer>> completableFuture_error() {
+        return chain(CompletableFuture.completedFuture(error), increment);
+    }
+
+    @Benchmark
+    public ResultFuture<String, Integer> resultFuture_error() {
+        return chain(ResultFuture.completed(error), increment);
+    }
+
+    private static CompletableFuture<Result<String, Integer>> chain(CompletableFuture<Result<String, Integer>> future,
+                                                                 int increment) {
+        return recover(mapError(flatMap(map(future, increment), increment)), increment);
+    }
+
+    private static ResultFuture<String, Integer> chain(ResultFuture<String, Integer> future, int increment) {
+        return recover(mapError(flatMap(map(future, increment), increment)), increment);
+    }
+
+    // each step is a separate not inlined method, as stages are usually built in different layers,
+    // so intermediate stages escape and cannot be scalar replaced
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static CompletableFuture<Result<String, Integer>> map(CompletableFuture<Result<String, Integer>> future,
+                                                               int increment) {
+        return future.thenApply(result -> result.map(v -> v + increment));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static CompletableFuture<Result<String, Integer>> flatMap(CompletableFuture<Result<String, Integer>> future,
+                                                                   int increment) {
+        return future.thenApply(result -> result.flatMap(v -> Result.success(v * increment)));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static CompletableFuture<Result<String, Integer>> mapError(CompletableFuture<Result<String, Integer>> future) {
+        return future.thenApply(result -> result.mapError(String::toUpperCase));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static CompletableFuture<Result<String, Integer>> recover(CompletableFuture<Result<String, Integer>> future,
+                                                                   int increment) {
+        return future.thenApply(result -> result.orElse(e -> Result.success(increment)));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ResultFuture<String, Integer> map(ResultFuture<String, Integer> future, int increment) {
+        return future.map(v -> v + increment);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ResultFuture<String, Integer> flatMap(ResultFuture<String, Integer> future, int increment) {
+        return future.flatMap(v -> ResultFuture.success(v * increment));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ResultFuture<String, Integer> mapError(ResultFuture<String, Integer> future) {
+        return future.mapError(String::toUpperCase);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ResultFuture<String, Integer> recover(ResultFuture<String, Integer> future, int increment) {
+        return future.recover(e -> Result.success(increment));
+    }
+}
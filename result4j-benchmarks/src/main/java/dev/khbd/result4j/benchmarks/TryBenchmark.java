@@ -0,0 +1,91 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import dev.khbd.result4j.core.StacklessException;
+import dev.khbd.result4j.core.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capture of thrown exceptions with different kinds of exceptions.
+ *
+ * <p>{@code success} does not throw, {@code exception} throws a new exception with stack trace,
+ * {@code stackless} throws a new {@link StacklessException} and {@code preallocated}
+ * throws the same stackless exception instance on each call. Code is called through
+ * a few frames, so stack trace filling costs about as much as in real code.
+ * {@code try_failure} returns the same kinds of failures by {@link Try#failure(Exception)}
+ * and {@link Try#failure(String)} without throwing.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TryBenchmark {
+
+    private static final StacklessException PREALLOCATED = new StacklessException("error");
+
+    @Param({"success", "exception", "stackless", "preallocated"})
+    String outcome;
+
+    private int counter;
+
+    @Benchmark
+    public Try<Integer> try_of() {
+        return Try.of(this::parse);
+    }
+
+    @Benchmark
+    public Integer try_ofMapRecover() {
+        return Try.of(this::parse)
+                .map(v -> v + 1)
+                .recover(RuntimeException.class, e -> 0)
+                .getOrElse(-1);
+    }
+
+    @Benchmark
+    public Try<Integer> try_failure() {
+        return switch (outcome) {
+            case "exception" -> Try.failure(new IllegalStateException("error"));
+            case "stackless" -> Try.failure("error");
+            case "preallocated" -> Try.failure(PREALLOCATED);
+            default -> Try.success(++counter);
+        };
+    }
+
+    @Benchmark
+    public Result<Exception, Integer> result_fromErroneous() {
+        return Result.fromErroneous(this::parse);
+    }
+
+    private int parse() {
+        return parseDigits(3);
+    }
+
+    private int parseDigits(int depth) {
+        if (depth > 0) {
+            return parseDigits(depth - 1);
+        }
+        switch (outcome) {
+            case "exception" -> throw new IllegalStateException("error");
+            case "stackless" -> throw new StacklessException("error");
+            case "preallocated" -> throw PREALLOCATED;
+            default -> {
+                return ++counter;
+            }
+        }
+    }
+}
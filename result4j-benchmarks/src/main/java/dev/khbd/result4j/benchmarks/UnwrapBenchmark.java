@@ -0,0 +1,159 @@
+package dev.khbd.result4j.benchmarks;
+
+import dev.khbd.result4j.core.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same pipeline written with unwrap calls, with flatMap calls and with checked exceptions.
+ *
+ * <p>Pipeline is a chain of nested calls of specified depth. The deepest call produces
+ * a value or fails, each level above it adds a step to the value and propagates failure up.
+ * Module is compiled with result4j plugin, so unwrap based pipeline runs code
+ * generated by the plugin.
+ *
+ * <p>Each invocation runs pipeline for a batch of inputs, where the specified
+ * percent of inputs fails.
+ *
+ * @author Sergei Khadanovich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UnwrapBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"0", "1", "50"})
+    int errorPercent;
+
+    @Param({"3", "5", "7", "10"})
+    int depth;
+
+    private boolean[] failures;
+
+    @Setup
+    public void setup() {
+        failures = new boolean[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE * errorPercent / 100; i++) {
+            failures[i] = true;
+        }
+
+        // shuffle failures to make branches unpredictable
+        Random random = new Random(42);
+        for (int i = BATCH_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            boolean tmp = failures[i];
+            failures[i] = failures[j];
+            failures[j] = tmp;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long unwrap() {
+        long sum = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sum += unwrapLevel(depth, i).getOrElse(Failure::input);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long flatMap() {
+        long sum = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sum += flatMapLevel(depth, i).getOrElse(Failure::input);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long exception() {
+        long sum = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            try {
+                sum += exceptionLevel(depth, i);
+            } catch (FailureException e) {
+                sum += e.getInput();
+            }
+        }
+        return sum;
+    }
+
+    private Result<Failure, Integer> unwrapLevel(int level, int input) {
+        if (level == 0) {
+            return source(input);
+        }
+        int value = unwrapLevel(level - 1, input).unwrap();
+        return step(value, level);
+    }
+
+    private Result<Failure, Integer> flatMapLevel(int level, int input) {
+        if (level == 0) {
+            return source(input);
+        }
+        return flatMapLevel(level - 1, input).flatMap(value -> step(value, level));
+    }
+
+    private int exceptionLevel(int level, int input) throws FailureException {
+        if (level == 0) {
+            return sourceOrThrow(input);
+        }
+        int value = exceptionLevel(level - 1, input);
+        return value * 31 + level;
+    }
+
+    private Result<Failure, Integer> source(int input) {
+        if (failures[input]) {
+            return Result.error(new Failure(input));
+        }
+        return Result.success(input);
+    }
+
+    private static Result<Failure, Integer> step(int value, int level) {
+        return Result.success(value * 31 + level);
+    }
+
+    private int sourceOrThrow(int input) throws FailureException {
+        if (failures[input]) {
+            throw new FailureException(input);
+        }
+        return input;
+    }
+
+    record Failure(int input) {
+    }
+
+    static class FailureException extends Exception {
+
+        private final int input;
+
+        FailureException(int input) {
+            super("Pipeline failed for input " + input);
+            this.input = input;
+        }
+
+        int getInput() {
+            return input;
+        }
+    }
+}
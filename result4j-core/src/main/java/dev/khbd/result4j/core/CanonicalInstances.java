@@ -0,0 +1,146 @@
+package dev.khbd.result4j.core;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shared immutable instances for common values.
+ *
+ * <p>Success results and some options are shared for {@link NoData}, {@link Boolean}
+ * and small {@link Integer}, {@link Long} and {@link Character} values, but only if value
+ * is the cached instance itself (as returned by {@code valueOf}), so {@code get()} returns
+ * exactly the same instance as was passed.
+ *
+ * <p>Error results are shared for enum constants. Errors are kept per enum class
+ * in {@link ClassValue}, so enum classes can still be unloaded.
+ *
+ * @author Sergei Khadanovich
+ */
+@UtilityClass
+class CanonicalInstances {
+
+    private static final int NO_DATA = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+
+    private static final int INTEGER_OFFSET = 3;
+    private static final int LONG_OFFSET = INTEGER_OFFSET + 256;
+    private static final int CHARACTER_OFFSET = LONG_OFFSET + 256;
+    private static final int SIZE = CHARACTER_OFFSET + 128;
+
+    private static final ClassValue<Result.Error<?, ?>[]> ENUM_ERRORS = new ClassValue<>() {
+        @Override
+        protected Result.Error<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Result.Error<?, ?>[] errors = new Result.Error<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                errors[i] = new Result.Error<>(constants[i]);
+            }
+            return errors;
+        }
+    };
+
+    /**
+     * Find shared success result for value.
+     *
+     * @param value success value
+     * @return shared success result or {@literal null} if value is not cached
+     */
+    static Result.Ok<?, ?> ok(Object value) {
+        int slot = slot(value);
+        return slot < 0 ? null : Holder.OKS[slot];
+    }
+
+    /**
+     * Find shared some option for value.
+     *
+     * @param value option value
+     * @return shared some option or {@literal null} if value is not cached
+     */
+    static Option.Some<?> some(Object value) {
+        int slot = slot(value);
+        return slot < 0 ? null : Holder.SOMES[slot];
+    }
+
+    /**
+     * Find shared error result for error value.
+     *
+     * @param error error value
+     * @return shared error result or {@literal null} if error is not an enum constant
+     */
+    static Result.Error<?, ?> error(Object error) {
+        if (error instanceof Enum<?> constant) {
+            return ENUM_ERRORS.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        return null;
+    }
+
+    private static int slot(Object value) {
+        if (value == NoData.INSTANCE) {
+            return NO_DATA;
+        }
+        if (value instanceof Boolean) {
+            if (value == Boolean.FALSE) {
+                return FALSE;
+            }
+            return value == Boolean.TRUE ? TRUE : -1;
+        }
+        if (value instanceof Integer integer) {
+            int v = integer;
+            if (v >= -128 && v <= 127 && value == Integer.valueOf(v)) {
+                return INTEGER_OFFSET + v + 128;
+            }
+            return -1;
+        }
+        if (value instanceof Long number) {
+            long v = number;
+            if (v >= -128 && v <= 127 && value == Long.valueOf(v)) {
+                return LONG_OFFSET + (int) v + 128;
+            }
+            return -1;
+        }
+        if (value instanceof Character character) {
+            char v = character;
+            if (v <= 127 && value == Character.valueOf(v)) {
+                return CHARACTER_OFFSET + v;
+            }
+            return -1;
+        }
+        return -1;
+    }
+
+    private static Object valueAt(int slot) {
+        if (slot == NO_DATA) {
+            return NoData.INSTANCE;
+        }
+        if (slot == FALSE) {
+            return Boolean.FALSE;
+        }
+        if (slot == TRUE) {
+            return Boolean.TRUE;
+        }
+        if (slot < LONG_OFFSET) {
+            return Integer.valueOf(slot - INTEGER_OFFSET - 128);
+        }
+        if (slot < CHARACTER_OFFSET) {
+            return Long.valueOf(slot - LONG_OFFSET - 128);
+        }
+        return Character.valueOf((char) (slot - CHARACTER_OFFSET));
+    }
+
+    /**
+     * Lazy holder of shared instances.
+     */
+    private static class Holder {
+
+        private static final Result.Ok<?, ?>[] OKS = new Result.Ok<?, ?>[SIZE];
+        private static final Option.Some<?>[] SOMES = new Option.Some<?>[SIZE];
+
+        static {
+            for (int slot = 0; slot < SIZE; slot++) {
+                Object value = valueAt(slot);
+                OKS[slot] = new Result.Ok<>(value);
+                SOMES[slot] = new Option.Some<>(value);
+            }
+        }
+    }
+}
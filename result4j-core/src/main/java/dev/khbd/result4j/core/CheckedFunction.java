@@ -0,0 +1,21 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Function which can throw checked exceptions.
+ *
+ * @param <T> argument type
+ * @param <R> result type
+ * @author Sergei Khadanovich
+ */
+@FunctionalInterface
+public interface CheckedFunction<T, R> {
+
+    /**
+     * Apply function.
+     *
+     * @param t argument
+     * @return function result
+     * @throws Exception if function fails
+     */
+    R apply(T t) throws Exception;
+}
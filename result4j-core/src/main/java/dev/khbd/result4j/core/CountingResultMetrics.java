@@ -0,0 +1,119 @@
+package dev.khbd.result4j.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener which counts results and errors by error class.
+ *
+ * <p>Counters are {@link LongAdder}s, which are striped between threads, so counting
+ * does not contend even if results are created on many cores at the same time.
+ * Counters of an error class are created once, when the first error of that class is seen.
+ *
+ * <p>Registered instance can be found in {@link ResultMetrics#installed()}:
+ * <pre>{@code
+ *     CountingResultMetrics metrics = ResultMetrics.installed().stream()
+ *             .filter(CountingResultMetrics.class::isInstance)
+ *             .map(CountingResultMetrics.class::cast)
+ *             .findFirst()
+ *             .orElseThrow();
+ *     CountingResultMetrics.Snapshot snapshot = metrics.snapshot();
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+public final class CountingResultMetrics implements ResultMetrics {
+
+    private final LongAdder successes = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, ErrorCounters> errors = new ConcurrentHashMap<>();
+
+    @Override
+    public void successCreated() {
+        successes.increment();
+    }
+
+    @Override
+    public void errorCreated(Object error) {
+        counters(error).created.increment();
+    }
+
+    @Override
+    public void errorMapped(Object from, Object to) {
+        counters(from).mapped.increment();
+    }
+
+    @Override
+    public void errorRecovered(Object error) {
+        counters(error).recovered.increment();
+    }
+
+    /**
+     * Take snapshot of counters.
+     *
+     * <p>Snapshot is taken without locks, so it does not block counting, but counters
+     * updated concurrently with taking snapshot may be included partially.
+     *
+     * @return snapshot
+     */
+    public Snapshot snapshot() {
+        Map<Class<?>, ErrorCounts> counts = new HashMap<>();
+        errors.forEach((type, counters) -> counts.put(type, counters.counts()));
+        return new Snapshot(successes.sum(), Map.copyOf(counts));
+    }
+
+    private ErrorCounters counters(Object error) {
+        Class<?> type = error.getClass();
+        ErrorCounters counters = errors.get(type);
+        if (counters == null) {
+            counters = errors.computeIfAbsent(type, __ -> new ErrorCounters());
+        }
+        return counters;
+    }
+
+    /**
+     * Counters of one error class.
+     */
+    private static final class ErrorCounters {
+
+        private final LongAdder created = new LongAdder();
+        private final LongAdder mapped = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+
+        ErrorCounts counts() {
+            return new ErrorCounts(created.sum(), mapped.sum(), recovered.sum());
+        }
+    }
+
+    /**
+     * Counters snapshot.
+     *
+     * @param successes number of created success results
+     * @param errors    error counts by error class
+     */
+    public record Snapshot(long successes, Map<Class<?>, ErrorCounts> errors) {
+
+        /**
+         * Get error counts of error class.
+         *
+         * @param type error class
+         * @return error counts or zero counts if no error of such class has been seen
+         */
+        public ErrorCounts errors(Class<?> type) {
+            return errors.getOrDefault(type, ErrorCounts.ZERO);
+        }
+    }
+
+    /**
+     * Error counts of one error class.
+     *
+     * @param created   number of created error results
+     * @param mapped    number of errors mapped to another error
+     * @param recovered number of errors recovered to success
+     */
+    public record ErrorCounts(long created, long mapped, long recovered) {
+
+        private static final ErrorCounts ZERO = new ErrorCounts(0, 0, 0);
+    }
+}
@@ -0,0 +1,336 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+
+import lombok.NonNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Option data type specialized for {@code double} values.
+ *
+ * <p>Value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Option<Double>}.
+ * <pre>{@code
+ *     String message = switch (option) {
+ *         case DoubleOption.Some(var value) -> "Value is " + value;
+ *         case DoubleOption.None() -> "No value";
+ *     };
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+public sealed interface DoubleOption permits DoubleOption.Some, DoubleOption.None {
+
+    /**
+     * Check if current instance is empty or not.
+     *
+     * @return {@literal true} if option is empty and {@literal false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get internal value.
+     *
+     * @return internal value
+     * @throws NoSuchElementException if option is empty
+     */
+    double get();
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultValue default value
+     * @return internal value or default
+     */
+    double getOrElse(double defaultValue);
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultF default value provider
+     * @return internal value or default
+     */
+    double getOrElse(DoubleSupplier defaultF);
+
+    /**
+     * Check internal value by specified predicate.
+     *
+     * @param predicate predicate
+     */
+    DoubleOption filter(DoublePredicate predicate);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    DoubleOption map(DoubleUnaryOperator function);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    DoubleOption flatMap(DoubleFunction<DoubleOption> function);
+
+    /**
+     * Transform internal value into object.
+     *
+     * @param function transformer
+     * @param <R>      new value type
+     * @return transformed generic option
+     */
+    <R> Option<R> mapToObj(DoubleFunction<? extends R> function);
+
+    /**
+     * Convert to generic option with boxed value.
+     */
+    Option<Double> boxed();
+
+    /**
+     * Convert option instance to optional.
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param error error value
+     * @param <E>   error type
+     * @return result
+     */
+    default <E> DoubleResult<E> toResult(@NonNull E error) {
+        return toResult(() -> error);
+    }
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param errorF error provider
+     * @param <E>    error type
+     * @return result
+     */
+    <E> DoubleResult<E> toResult(Supplier<E> errorF);
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Option#unwrap()}, but value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      double result = find(key).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      DoubleOption $$rev = find(key);
+     *      if (!($$rev instanceof DoubleOption.Some(var $$revVal))) {
+     *          return DoubleOption.propagate($$rev);
+     *      }
+     *      double result = $$revVal;
+     * }</pre>
+     */
+    default double unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create empty option value.
+     *
+     * @return none option
+     */
+    static DoubleOption none() {
+        Events.failureCreated();
+        return None.INSTANCE;
+    }
+
+    /**
+     * Propagate empty option.
+     *
+     * <p>This method is used by code generated for unwrap calls.
+     *
+     * @param option empty option
+     * @return empty option
+     * @throws IllegalStateException if option is not empty
+     */
+    static DoubleOption propagate(@NonNull DoubleOption option) {
+        if (!option.isEmpty()) {
+            throw new IllegalStateException("Option is not empty");
+        }
+        Events.errorPropagated(option);
+        return none();
+    }
+
+    /**
+     * Create some option value.
+     *
+     * @param value value
+     * @return some option
+     */
+    static DoubleOption some(double value) {
+        return new Some(value);
+    }
+
+    /**
+     * Create option value from {@link OptionalDouble}.
+     *
+     * @param value optional value
+     * @return some if supplied optional is not empty
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static DoubleOption fromOptional(@NonNull OptionalDouble value) {
+        return value.isPresent() ? some(value.getAsDouble()) : none();
+    }
+
+    /**
+     * Create option from generic option with boxed value.
+     *
+     * @param option generic option
+     * @return unboxed option
+     */
+    static DoubleOption fromOption(@NonNull Option<Double> option) {
+        return option.isEmpty() ? none() : some(option.get());
+    }
+
+    /**
+     * Option with value.
+     *
+     * @param value value
+     */
+    record Some(double value) implements DoubleOption {
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public double get() {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(@NonNull DoubleSupplier defaultF) {
+            return value;
+        }
+
+        @Override
+        public DoubleOption filter(@NonNull DoublePredicate predicate) {
+            if (predicate.test(value)) {
+                return this;
+            }
+            return DoubleOption.none();
+        }
+
+        @Override
+        public DoubleOption map(@NonNull DoubleUnaryOperator function) {
+            return DoubleOption.some(function.applyAsDouble(value));
+        }
+
+        @Override
+        public DoubleOption flatMap(@NonNull DoubleFunction<DoubleOption> function) {
+            DoubleOption result = function.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return result;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull DoubleFunction<? extends R> function) {
+            return Option.fromNullable(function.apply(value));
+        }
+
+        @Override
+        public Option<Double> boxed() {
+            return Option.some(value);
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public <E> DoubleResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return DoubleResult.success(value);
+        }
+    }
+
+    /**
+     * Empty option.
+     *
+     * <p>Use {@link DoubleOption#none()} to get shared instance.
+     */
+    record None() implements DoubleOption {
+
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public double get() {
+            throw new NoSuchElementException("Option is empty");
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public double getOrElse(@NonNull DoubleSupplier defaultF) {
+            return defaultF.getAsDouble();
+        }
+
+        @Override
+        public DoubleOption filter(@NonNull DoublePredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public DoubleOption map(@NonNull DoubleUnaryOperator function) {
+            return this;
+        }
+
+        @Override
+        public DoubleOption flatMap(@NonNull DoubleFunction<DoubleOption> function) {
+            return this;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull DoubleFunction<? extends R> function) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Double> boxed() {
+            return Option.none();
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public <E> DoubleResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return DoubleResult.error(errorF.get());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.NonNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Result data type specialized for {@code double} success values.
+ *
+ * <p>Success value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Result<E, Double>}.
+ * <pre>{@code
+ *     String message = switch (result) {
+ *         case DoubleResult.Ok(var value) -> "Value is " + value;
+ *         case DoubleResult.Error(var error) -> "Error is " + error;
+ *     };
+ * }</pre>
+ *
+ * @param <E> error value type
+ * @author Sergei Khadanovich
+ */
+public sealed interface DoubleResult<E> permits DoubleResult.Ok, DoubleResult.Error {
+
+    /**
+     * Is result error.
+     *
+     * @return {@literal true} if result is error and {@literal false} otherwise
+     */
+    boolean isError();
+
+    /**
+     * Is result success.
+     *
+     * @return {@literal true} if result is success and {@literal false} otherwise
+     */
+    default boolean isSuccess() {
+        return !isError();
+    }
+
+    /**
+     * Get error value.
+     *
+     * @return error value
+     * @throws IllegalStateException if result is success
+     */
+    E getError();
+
+    /**
+     * Get success value.
+     *
+     * @return success value
+     * @throws IllegalStateException if result is error
+     */
+    double get();
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value
+     * @return success value
+     */
+    double getOrElse(double other);
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value function
+     * @return success value
+     */
+    double getOrElse(ToDoubleFunction<? super E> other);
+
+    /**
+     * Transform success value.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    DoubleResult<E> map(DoubleUnaryOperator f);
+
+    /**
+     * Transform success value into new result.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    DoubleResult<E> flatMap(DoubleFunction<DoubleResult<? extends E>> f);
+
+    /**
+     * Transform success value into object.
+     *
+     * @param f   transform function
+     * @param <V> new success value type
+     * @return transformed generic result
+     */
+    <V> Result<E, V> mapToObj(DoubleFunction<V> f);
+
+    /**
+     * Transform error value.
+     *
+     * @param f   transform function
+     * @param <O> new error type
+     * @return transformed result
+     */
+    <O> DoubleResult<O> mapError(Function<? super E, O> f);
+
+    /**
+     * Convert to generic result with boxed success value.
+     */
+    Result<E, Double> boxed();
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Result#unwrap()}, but success value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      double result = parse(text).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      DoubleResult<ParseError> $$rev = parse(text);
+     *      if (!($$rev instanceof DoubleResult.Ok(var $$revVal))) {
+     *          return DoubleResult.propagate($$rev);
+     *      }
+     *      double result = $$revVal;
+     * }</pre>
+     */
+    default double unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create success result value.
+     *
+     * @param value success value
+     * @param <E>   error type
+     * @return success result
+     */
+    static <E> DoubleResult<E> success(double value) {
+        Metrics.successCreated();
+        return new Ok<>(value);
+    }
+
+    /**
+     * Create failure result value.
+     *
+     * @param error error
+     * @param <E>   error type
+     * @return error result
+     */
+    static <E> DoubleResult<E> error(@NonNull E error) {
+        Events.errorCreated(error, "DoubleResult.error");
+        Metrics.errorCreated(error);
+        return new Error<>(error);
+    }
+
+    /**
+     * Propagate error result.
+     *
+     * <p>The same error instance is returned, so propagation does not allocate.
+     * This method is used by code generated for unwrap calls.
+     *
+     * @param result error result
+     * @param <E>    error type
+     * @return the same error result
+     * @throws IllegalStateException if result is success
+     */
+    static <E> DoubleResult<E> propagate(@NonNull DoubleResult<? extends E> result) {
+        if (result.isSuccess()) {
+            throw new IllegalStateException("Result is success");
+        }
+        Events.errorPropagated(result);
+        // This cast is correct because <E> is at a covariant position.
+        return cast(result);
+    }
+
+    /**
+     * Create result from generic result with boxed success value.
+     *
+     * @param result generic result
+     * @param <E>    error type
+     * @return unboxed result
+     */
+    static <E> DoubleResult<E> fromResult(@NonNull Result<? extends E, Double> result) {
+        if (result.isError()) {
+            return error(result.getError());
+        }
+        return success(result.get());
+    }
+
+    /**
+     * Success result.
+     *
+     * @param value success value
+     * @param <E>   error type
+     */
+    record Ok<E>(double value) implements DoubleResult<E> {
+
+        @Override
+        public boolean isError() {
+            return false;
+        }
+
+        @Override
+        public E getError() {
+            throw new IllegalStateException("Result is success");
+        }
+
+        @Override
+        public double get() {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(double other) {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(@NonNull ToDoubleFunction<? super E> other) {
+            return value;
+        }
+
+        @Override
+        public DoubleResult<E> map(@NonNull DoubleUnaryOperator f) {
+            return DoubleResult.success(f.applyAsDouble(value));
+        }
+
+        @Override
+        public DoubleResult<E> flatMap(@NonNull DoubleFunction<DoubleResult<? extends E>> f) {
+            DoubleResult<? extends E> result = f.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return cast(result);
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull DoubleFunction<V> f) {
+            return Result.success(f.apply(value));
+        }
+
+        @Override
+        public <O> DoubleResult<O> mapError(@NonNull Function<? super E, O> f) {
+            return cast(this);
+        }
+
+        @Override
+        public Result<E, Double> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Error result.
+     *
+     * @param error error value
+     * @param <E>   error type
+     */
+    record Error<E>(@NonNull E error) implements DoubleResult<E> {
+
+        @Override
+        public boolean isError() {
+            return true;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+
+        @Override
+        public double get() {
+            throw new IllegalStateException("Result is error");
+        }
+
+        @Override
+        public double getOrElse(double other) {
+            return other;
+        }
+
+        @Override
+        public double getOrElse(@NonNull ToDoubleFunction<? super E> other) {
+            return other.applyAsDouble(error);
+        }
+
+        @Override
+        public DoubleResult<E> map(@NonNull DoubleUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public DoubleResult<E> flatMap(@NonNull DoubleFunction<DoubleResult<? extends E>> f) {
+            return this;
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull DoubleFunction<V> f) {
+            return Result.Error.of(error);
+        }
+
+        @Override
+        public <O> DoubleResult<O> mapError(@NonNull Function<? super E, O> f) {
+            O mappedError = f.apply(error);
+            DoubleResult<O> result = DoubleResult.error(mappedError);
+            Metrics.errorMapped(error, mappedError);
+            return result;
+        }
+
+        @Override
+        public Result<E, Double> boxed() {
+            return Result.Error.of(error);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package dev.khbd.result4j.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable array-backed list of validation errors.
+ *
+ * <p>Chunk is never empty and does not contain {@literal null} elements.
+ * Errors are stored in exactly sized array, so concatenation of chunks
+ * copies errors once.
+ *
+ * @param <E> error type
+ * @author Sergei Khadanovich
+ */
+final class ErrorChunk<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Object[] errors;
+
+    private ErrorChunk(Object[] errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Create chunk with single error.
+     *
+     * @param error error
+     * @param <E>   error type
+     * @return chunk
+     */
+    static <E> ErrorChunk<E> of(E error) {
+        return new ErrorChunk<>(new Object[]{Objects.requireNonNull(error, "error is marked non-null but is null")});
+    }
+
+    /**
+     * Create chunk from errors collection.
+     *
+     * <p>If collection is a chunk itself, it is returned as is.
+     *
+     * @param errors errors
+     * @param <E>    error type
+     * @return chunk
+     * @throws IllegalArgumentException if collection is empty
+     * @throws NullPointerException     if collection contains {@literal null}
+     */
+    static <E> ErrorChunk<E> copyOf(Collection<? extends E> errors) {
+        if (errors instanceof ErrorChunk<? extends E> chunk) {
+            return Utils.cast(chunk);
+        }
+        return wrap(errors.toArray(), errors.size());
+    }
+
+    /**
+     * Create chunk over array prefix.
+     *
+     * <p>Array is not copied if it has exact size, so caller must not modify it afterwards.
+     *
+     * @param errors errors array
+     * @param size   number of errors in array
+     * @param <E>    error type
+     * @return chunk
+     */
+    static <E> ErrorChunk<E> wrap(Object[] errors, int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Errors are empty");
+        }
+        Object[] exact = errors.length == size ? errors : Arrays.copyOf(errors, size);
+        for (Object error : exact) {
+            Objects.requireNonNull(error, "Errors contain null");
+        }
+        return new ErrorChunk<>(exact);
+    }
+
+    /**
+     * Concatenate errors of all invalid validations.
+     *
+     * @param validations validations, at least one of them is invalid
+     * @param <E>         error type
+     * @return chunk with errors in validations order
+     */
+    static <E> ErrorChunk<E> concat(Validation<?, ?>... validations) {
+        int size = 0;
+        ErrorChunk<?> last = null;
+        int count = 0;
+        for (Validation<?, ?> validation : validations) {
+            if (validation instanceof Validation.Invalid<?, ?> invalid) {
+                last = invalid.chunk();
+                size += last.size();
+                count++;
+            }
+        }
+        if (count == 1) {
+            return Utils.cast(last);
+        }
+        Object[] errors = new Object[size];
+        int offset = 0;
+        for (Validation<?, ?> validation : validations) {
+            if (validation instanceof Validation.Invalid<?, ?> invalid) {
+                offset = invalid.chunk().copyTo(errors, offset);
+            }
+        }
+        return new ErrorChunk<>(errors);
+    }
+
+    /**
+     * Copy chunk errors into array.
+     *
+     * @param target target array
+     * @param offset position in target array
+     * @return position after the last copied error
+     */
+    int copyTo(Object[] target, int offset) {
+        System.arraycopy(errors, 0, target, offset, errors.length);
+        return offset + errors.length;
+    }
+
+    @Override
+    public E get(int index) {
+        return Utils.cast(errors[index]);
+    }
+
+    @Override
+    public int size() {
+        return errors.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return errors.clone();
+    }
+}
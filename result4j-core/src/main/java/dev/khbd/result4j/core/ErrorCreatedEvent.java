@@ -0,0 +1,32 @@
+package dev.khbd.result4j.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted when error result is created.
+ *
+ * <p>Event is disabled by default and has to be enabled in recording settings explicitly.
+ *
+ * @author Sergei Khadanovich
+ */
+@Name("dev.khbd.result4j.ErrorCreated")
+@Label("Error Created")
+@Category("Result4j")
+@Description("Error result is created")
+@Enabled(false)
+@StackTrace
+final class ErrorCreatedEvent extends Event {
+
+    @Label("Error Class")
+    Class<?> errorClass;
+
+    @Label("Source")
+    @Description("Method which created error result")
+    String source;
+}
@@ -0,0 +1,37 @@
+package dev.khbd.result4j.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted when failed instance is propagated.
+ *
+ * <p>Event is disabled by default and has to be enabled in recording settings explicitly.
+ *
+ * @author Sergei Khadanovich
+ */
+@Name("dev.khbd.result4j.ErrorPropagated")
+@Label("Error Propagated")
+@Category("Result4j")
+@Description("Failed instance is propagated from enclosing method")
+@Enabled(false)
+@StackTrace
+final class ErrorPropagatedEvent extends Event {
+
+    @Label("Error Class")
+    @Description("Class of error value or null if failed instance has no error value")
+    Class<?> errorClass;
+
+    @Label("Type")
+    @Description("Propagated type, for example Result or Option")
+    String type;
+
+    @Label("Depth")
+    @Description("Number of methods the same failed instance has been propagated through")
+    int depth;
+}
@@ -0,0 +1,204 @@
+package dev.khbd.result4j.core;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.experimental.UtilityClass;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Flight recorder events emission.
+ *
+ * <p>If no recording is running, emission costs a single check of a flag maintained
+ * by recorder listener, so both events are guarded by one check. If recording is running,
+ * each event is emitted only if it is enabled by {@link EventType#isEnabled()},
+ * otherwise event objects are not created and no other work is done.
+ *
+ * @author Sergei Khadanovich
+ */
+@UtilityClass
+class Events {
+
+    private static final EventType ERROR_CREATED = EventType.getEventType(ErrorCreatedEvent.class);
+    private static final EventType ERROR_PROPAGATED = EventType.getEventType(ErrorPropagatedEvent.class);
+
+    private static final ThreadLocal<PropagationChain> CHAIN = ThreadLocal.withInitial(PropagationChain::new);
+
+    private static volatile boolean recording;
+
+    static {
+        FlightRecorder.addListener(new RecordingListener());
+    }
+
+    /**
+     * Emit error creation event.
+     *
+     * @param error  error value
+     * @param source method which created error result
+     */
+    static void errorCreated(Object error, String source) {
+        if (recording) {
+            if (ERROR_CREATED.isEnabled()) {
+                commitCreated(error, source);
+            }
+            restartChain();
+        }
+    }
+
+    /**
+     * Start new propagation chain on current thread.
+     *
+     * <p>Invoked when failed instance is created, so propagation of that instance
+     * is counted from one even if it is a shared instance, like empty option.
+     */
+    static void failureCreated() {
+        if (recording) {
+            restartChain();
+        }
+    }
+
+    /**
+     * Emit propagation event.
+     *
+     * @param failure propagated failed instance
+     */
+    static void errorPropagated(Object failure) {
+        if (recording && ERROR_PROPAGATED.isEnabled()) {
+            commitPropagated(failure, CHAIN.get().next(failure));
+        }
+    }
+
+    /**
+     * Emit propagation event with known propagation depth.
+     *
+     * <p>Used if propagation returns new failed instance, which continues propagation chain.
+     *
+     * @param failure new failed instance
+     * @param depth   propagation depth
+     */
+    static void errorPropagated(Object failure, int depth) {
+        if (recording && ERROR_PROPAGATED.isEnabled()) {
+            CHAIN.get().continueWith(failure, depth);
+            commitPropagated(failure, depth);
+        }
+    }
+
+    private static void restartChain() {
+        if (ERROR_PROPAGATED.isEnabled()) {
+            CHAIN.get().restart();
+        }
+    }
+
+    private static void commitCreated(Object error, String source) {
+        ErrorCreatedEvent event = new ErrorCreatedEvent();
+        if (event.shouldCommit()) {
+            event.errorClass = error.getClass();
+            event.source = source;
+            event.commit();
+        }
+    }
+
+    private static void commitPropagated(Object failure, int depth) {
+        ErrorPropagatedEvent event = new ErrorPropagatedEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        switch (failure) {
+            case Result<?, ?> result -> {
+                event.type = "Result";
+                event.errorClass = result.getError().getClass();
+            }
+            case IntResult<?> result -> {
+                event.type = "IntResult";
+                event.errorClass = result.getError().getClass();
+            }
+            case LongResult<?> result -> {
+                event.type = "LongResult";
+                event.errorClass = result.getError().getClass();
+            }
+            case DoubleResult<?> result -> {
+                event.type = "DoubleResult";
+                event.errorClass = result.getError().getClass();
+            }
+            case Option<?> option -> event.type = "Option";
+            case IntOption option -> event.type = "IntOption";
+            case LongOption option -> event.type = "LongOption";
+            case DoubleOption option -> event.type = "DoubleOption";
+            default -> event.type = failure.getClass().getName();
+        }
+        event.depth = depth;
+        event.commit();
+    }
+
+    /**
+     * Last propagated instance on current thread.
+     *
+     * <p>The same instance propagated again is considered to be propagated one level up,
+     * otherwise propagation depth starts from one. Chain is also restarted when a failed instance
+     * is created, so propagations of a shared instance, like empty option, are not merged
+     * across creations. Stack is not walked, so counting costs the same at any stack depth.
+     *
+     * <p>Instance is compared by identity and referenced weakly, so unrelated instances are never
+     * merged and last propagated instance is not retained.
+     */
+    private static final class PropagationChain {
+
+        private WeakReference<Object> last;
+        private int depth;
+
+        int next(Object failure) {
+            if (last != null && last.get() == failure) {
+                depth++;
+            } else {
+                last = new WeakReference<>(failure);
+                depth = 1;
+            }
+            return depth;
+        }
+
+        void continueWith(Object failure, int depth) {
+            this.last = new WeakReference<>(failure);
+            this.depth = depth;
+        }
+
+        void restart() {
+            last = null;
+            depth = 0;
+        }
+    }
+
+    /**
+     * Recorder listener to track running recordings.
+     *
+     * <p>Listener is notified about recording start before event settings are applied,
+     * so it tracks running recordings only and event enablement is checked on emission.
+     * If recorder has been initialized before listener is added, existing recordings
+     * are taken into account by {@link #recorderInitialized(FlightRecorder)}.
+     */
+    private static final class RecordingListener implements FlightRecorderListener {
+
+        private final Set<Long> running = new HashSet<>();
+
+        @Override
+        public synchronized void recorderInitialized(FlightRecorder recorder) {
+            for (Recording current : recorder.getRecordings()) {
+                recordingStateChanged(current);
+            }
+        }
+
+        @Override
+        public synchronized void recordingStateChanged(Recording current) {
+            if (current.getState() == RecordingState.RUNNING) {
+                running.add(current.getId());
+            } else {
+                running.remove(current.getId());
+            }
+            recording = !running.isEmpty();
+        }
+    }
+}
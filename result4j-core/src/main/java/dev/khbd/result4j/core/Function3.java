@@ -0,0 +1,24 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Function of three arguments.
+ *
+ * @param <T1> first argument type
+ * @param <T2> second argument type
+ * @param <T3> third argument type
+ * @param <R>  result type
+ * @author Sergei Khadanovich
+ */
+@FunctionalInterface
+public interface Function3<T1, T2, T3, R> {
+
+    /**
+     * Apply function.
+     *
+     * @param t1 first argument
+     * @param t2 second argument
+     * @param t3 third argument
+     * @return function result
+     */
+    R apply(T1 t1, T2 t2, T3 t3);
+}
@@ -0,0 +1,26 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Function of four arguments.
+ *
+ * @param <T1> first argument type
+ * @param <T2> second argument type
+ * @param <T3> third argument type
+ * @param <T4> fourth argument type
+ * @param <R>  result type
+ * @author Sergei Khadanovich
+ */
+@FunctionalInterface
+public interface Function4<T1, T2, T3, T4, R> {
+
+    /**
+     * Apply function.
+     *
+     * @param t1 first argument
+     * @param t2 second argument
+     * @param t3 third argument
+     * @param t4 fourth argument
+     * @return function result
+     */
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+}
@@ -0,0 +1,28 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Function of five arguments.
+ *
+ * @param <T1> first argument type
+ * @param <T2> second argument type
+ * @param <T3> third argument type
+ * @param <T4> fourth argument type
+ * @param <T5> fifth argument type
+ * @param <R>  result type
+ * @author Sergei Khadanovich
+ */
+@FunctionalInterface
+public interface Function5<T1, T2, T3, T4, T5, R> {
+
+    /**
+     * Apply function.
+     *
+     * @param t1 first argument
+     * @param t2 second argument
+     * @param t3 third argument
+     * @param t4 fourth argument
+     * @param t5 fifth argument
+     * @return function result
+     */
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+}
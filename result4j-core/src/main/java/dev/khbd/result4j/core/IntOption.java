@@ -0,0 +1,336 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+
+import lombok.NonNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Option data type specialized for {@code int} values.
+ *
+ * <p>Value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Option<Integer>}.
+ * <pre>{@code
+ *     String message = switch (option) {
+ *         case IntOption.Some(var value) -> "Value is " + value;
+ *         case IntOption.None() -> "No value";
+ *     };
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+public sealed interface IntOption permits IntOption.Some, IntOption.None {
+
+    /**
+     * Check if current instance is empty or not.
+     *
+     * @return {@literal true} if option is empty and {@literal false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get internal value.
+     *
+     * @return internal value
+     * @throws NoSuchElementException if option is empty
+     */
+    int get();
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultValue default value
+     * @return internal value or default
+     */
+    int getOrElse(int defaultValue);
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultF default value provider
+     * @return internal value or default
+     */
+    int getOrElse(IntSupplier defaultF);
+
+    /**
+     * Check internal value by specified predicate.
+     *
+     * @param predicate predicate
+     */
+    IntOption filter(IntPredicate predicate);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    IntOption map(IntUnaryOperator function);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    IntOption flatMap(IntFunction<IntOption> function);
+
+    /**
+     * Transform internal value into object.
+     *
+     * @param function transformer
+     * @param <R>      new value type
+     * @return transformed generic option
+     */
+    <R> Option<R> mapToObj(IntFunction<? extends R> function);
+
+    /**
+     * Convert to generic option with boxed value.
+     */
+    Option<Integer> boxed();
+
+    /**
+     * Convert option instance to optional.
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param error error value
+     * @param <E>   error type
+     * @return result
+     */
+    default <E> IntResult<E> toResult(@NonNull E error) {
+        return toResult(() -> error);
+    }
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param errorF error provider
+     * @param <E>    error type
+     * @return result
+     */
+    <E> IntResult<E> toResult(Supplier<E> errorF);
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Option#unwrap()}, but value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      int result = find(key).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      IntOption $$rev = find(key);
+     *      if (!($$rev instanceof IntOption.Some(var $$revVal))) {
+     *          return IntOption.propagate($$rev);
+     *      }
+     *      int result = $$revVal;
+     * }</pre>
+     */
+    default int unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create empty option value.
+     *
+     * @return none option
+     */
+    static IntOption none() {
+        Events.failureCreated();
+        return None.INSTANCE;
+    }
+
+    /**
+     * Propagate empty option.
+     *
+     * <p>This method is used by code generated for unwrap calls.
+     *
+     * @param option empty option
+     * @return empty option
+     * @throws IllegalStateException if option is not empty
+     */
+    static IntOption propagate(@NonNull IntOption option) {
+        if (!option.isEmpty()) {
+            throw new IllegalStateException("Option is not empty");
+        }
+        Events.errorPropagated(option);
+        return none();
+    }
+
+    /**
+     * Create some option value.
+     *
+     * @param value value
+     * @return some option
+     */
+    static IntOption some(int value) {
+        return new Some(value);
+    }
+
+    /**
+     * Create option value from {@link OptionalInt}.
+     *
+     * @param value optional value
+     * @return some if supplied optional is not empty
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static IntOption fromOptional(@NonNull OptionalInt value) {
+        return value.isPresent() ? some(value.getAsInt()) : none();
+    }
+
+    /**
+     * Create option from generic option with boxed value.
+     *
+     * @param option generic option
+     * @return unboxed option
+     */
+    static IntOption fromOption(@NonNull Option<Integer> option) {
+        return option.isEmpty() ? none() : some(option.get());
+    }
+
+    /**
+     * Option with value.
+     *
+     * @param value value
+     */
+    record Some(int value) implements IntOption {
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(@NonNull IntSupplier defaultF) {
+            return value;
+        }
+
+        @Override
+        public IntOption filter(@NonNull IntPredicate predicate) {
+            if (predicate.test(value)) {
+                return this;
+            }
+            return IntOption.none();
+        }
+
+        @Override
+        public IntOption map(@NonNull IntUnaryOperator function) {
+            return IntOption.some(function.applyAsInt(value));
+        }
+
+        @Override
+        public IntOption flatMap(@NonNull IntFunction<IntOption> function) {
+            IntOption result = function.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return result;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull IntFunction<? extends R> function) {
+            return Option.fromNullable(function.apply(value));
+        }
+
+        @Override
+        public Option<Integer> boxed() {
+            return Option.some(value);
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public <E> IntResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return IntResult.success(value);
+        }
+    }
+
+    /**
+     * Empty option.
+     *
+     * <p>Use {@link IntOption#none()} to get shared instance.
+     */
+    record None() implements IntOption {
+
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public int get() {
+            throw new NoSuchElementException("Option is empty");
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public int getOrElse(@NonNull IntSupplier defaultF) {
+            return defaultF.getAsInt();
+        }
+
+        @Override
+        public IntOption filter(@NonNull IntPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public IntOption map(@NonNull IntUnaryOperator function) {
+            return this;
+        }
+
+        @Override
+        public IntOption flatMap(@NonNull IntFunction<IntOption> function) {
+            return this;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull IntFunction<? extends R> function) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Integer> boxed() {
+            return Option.none();
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public <E> IntResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return IntResult.error(errorF.get());
+        }
+    }
+}
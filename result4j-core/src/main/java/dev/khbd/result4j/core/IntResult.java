@@ -0,0 +1,320 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.NonNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Result data type specialized for {@code int} success values.
+ *
+ * <p>Success value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Result<E, Integer>}.
+ * <pre>{@code
+ *     String message = switch (result) {
+ *         case IntResult.Ok(var value) -> "Value is " + value;
+ *         case IntResult.Error(var error) -> "Error is " + error;
+ *     };
+ * }</pre>
+ *
+ * @param <E> error value type
+ * @author Sergei Khadanovich
+ */
+public sealed interface IntResult<E> permits IntResult.Ok, IntResult.Error {
+
+    /**
+     * Is result error.
+     *
+     * @return {@literal true} if result is error and {@literal false} otherwise
+     */
+    boolean isError();
+
+    /**
+     * Is result success.
+     *
+     * @return {@literal true} if result is success and {@literal false} otherwise
+     */
+    default boolean isSuccess() {
+        return !isError();
+    }
+
+    /**
+     * Get error value.
+     *
+     * @return error value
+     * @throws IllegalStateException if result is success
+     */
+    E getError();
+
+    /**
+     * Get success value.
+     *
+     * @return success value
+     * @throws IllegalStateException if result is error
+     */
+    int get();
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value
+     * @return success value
+     */
+    int getOrElse(int other);
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value function
+     * @return success value
+     */
+    int getOrElse(ToIntFunction<? super E> other);
+
+    /**
+     * Transform success value.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    IntResult<E> map(IntUnaryOperator f);
+
+    /**
+     * Transform success value into new result.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    IntResult<E> flatMap(IntFunction<IntResult<? extends E>> f);
+
+    /**
+     * Transform success value into object.
+     *
+     * @param f   transform function
+     * @param <V> new success value type
+     * @return transformed generic result
+     */
+    <V> Result<E, V> mapToObj(IntFunction<V> f);
+
+    /**
+     * Transform error value.
+     *
+     * @param f   transform function
+     * @param <O> new error type
+     * @return transformed result
+     */
+    <O> IntResult<O> mapError(Function<? super E, O> f);
+
+    /**
+     * Convert to generic result with boxed success value.
+     */
+    Result<E, Integer> boxed();
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Result#unwrap()}, but success value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      int result = parse(text).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      IntResult<ParseError> $$rev = parse(text);
+     *      if (!($$rev instanceof IntResult.Ok(var $$revVal))) {
+     *          return IntResult.propagate($$rev);
+     *      }
+     *      int result = $$revVal;
+     * }</pre>
+     */
+    default int unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create success result value.
+     *
+     * @param value success value
+     * @param <E>   error type
+     * @return success result
+     */
+    static <E> IntResult<E> success(int value) {
+        Metrics.successCreated();
+        return new Ok<>(value);
+    }
+
+    /**
+     * Create failure result value.
+     *
+     * @param error error
+     * @param <E>   error type
+     * @return error result
+     */
+    static <E> IntResult<E> error(@NonNull E error) {
+        Events.errorCreated(error, "IntResult.error");
+        Metrics.errorCreated(error);
+        return new Error<>(error);
+    }
+
+    /**
+     * Propagate error result.
+     *
+     * <p>The same error instance is returned, so propagation does not allocate.
+     * This method is used by code generated for unwrap calls.
+     *
+     * @param result error result
+     * @param <E>    error type
+     * @return the same error result
+     * @throws IllegalStateException if result is success
+     */
+    static <E> IntResult<E> propagate(@NonNull IntResult<? extends E> result) {
+        if (result.isSuccess()) {
+            throw new IllegalStateException("Result is success");
+        }
+        Events.errorPropagated(result);
+        // This cast is correct because <E> is at a covariant position.
+        return cast(result);
+    }
+
+    /**
+     * Create result from generic result with boxed success value.
+     *
+     * @param result generic result
+     * @param <E>    error type
+     * @return unboxed result
+     */
+    static <E> IntResult<E> fromResult(@NonNull Result<? extends E, Integer> result) {
+        if (result.isError()) {
+            return error(result.getError());
+        }
+        return success(result.get());
+    }
+
+    /**
+     * Success result.
+     *
+     * @param value success value
+     * @param <E>   error type
+     */
+    record Ok<E>(int value) implements IntResult<E> {
+
+        @Override
+        public boolean isError() {
+            return false;
+        }
+
+        @Override
+        public E getError() {
+            throw new IllegalStateException("Result is success");
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(int other) {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(@NonNull ToIntFunction<? super E> other) {
+            return value;
+        }
+
+        @Override
+        public IntResult<E> map(@NonNull IntUnaryOperator f) {
+            return IntResult.success(f.applyAsInt(value));
+        }
+
+        @Override
+        public IntResult<E> flatMap(@NonNull IntFunction<IntResult<? extends E>> f) {
+            IntResult<? extends E> result = f.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return cast(result);
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull IntFunction<V> f) {
+            return Result.success(f.apply(value));
+        }
+
+        @Override
+        public <O> IntResult<O> mapError(@NonNull Function<? super E, O> f) {
+            return cast(this);
+        }
+
+        @Override
+        public Result<E, Integer> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Error result.
+     *
+     * @param error error value
+     * @param <E>   error type
+     */
+    record Error<E>(@NonNull E error) implements IntResult<E> {
+
+        @Override
+        public boolean isError() {
+            return true;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+
+        @Override
+        public int get() {
+            throw new IllegalStateException("Result is error");
+        }
+
+        @Override
+        public int getOrElse(int other) {
+            return other;
+        }
+
+        @Override
+        public int getOrElse(@NonNull ToIntFunction<? super E> other) {
+            return other.applyAsInt(error);
+        }
+
+        @Override
+        public IntResult<E> map(@NonNull IntUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public IntResult<E> flatMap(@NonNull IntFunction<IntResult<? extends E>> f) {
+            return this;
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull IntFunction<V> f) {
+            return Result.Error.of(error);
+        }
+
+        @Override
+        public <O> IntResult<O> mapError(@NonNull Function<? super E, O> f) {
+            O mappedError = f.apply(error);
+            IntResult<O> result = IntResult.error(mappedError);
+            Metrics.errorMapped(error, mappedError);
+            return result;
+        }
+
+        @Override
+        public Result<E, Integer> boxed() {
+            return Result.Error.of(error);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+
+import lombok.NonNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Option data type specialized for {@code long} values.
+ *
+ * <p>Value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Option<Long>}.
+ * <pre>{@code
+ *     String message = switch (option) {
+ *         case LongOption.Some(var value) -> "Value is " + value;
+ *         case LongOption.None() -> "No value";
+ *     };
+ * }</pre>
+ *
+ * @author Sergei Khadanovich
+ */
+public sealed interface LongOption permits LongOption.Some, LongOption.None {
+
+    /**
+     * Check if current instance is empty or not.
+     *
+     * @return {@literal true} if option is empty and {@literal false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get internal value.
+     *
+     * @return internal value
+     * @throws NoSuchElementException if option is empty
+     */
+    long get();
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultValue default value
+     * @return internal value or default
+     */
+    long getOrElse(long defaultValue);
+
+    /**
+     * Get internal value or default value.
+     *
+     * @param defaultF default value provider
+     * @return internal value or default
+     */
+    long getOrElse(LongSupplier defaultF);
+
+    /**
+     * Check internal value by specified predicate.
+     *
+     * @param predicate predicate
+     */
+    LongOption filter(LongPredicate predicate);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    LongOption map(LongUnaryOperator function);
+
+    /**
+     * Transform internal value by specified function.
+     *
+     * @param function transformer
+     * @return transformed option
+     */
+    LongOption flatMap(LongFunction<LongOption> function);
+
+    /**
+     * Transform internal value into object.
+     *
+     * @param function transformer
+     * @param <R>      new value type
+     * @return transformed generic option
+     */
+    <R> Option<R> mapToObj(LongFunction<? extends R> function);
+
+    /**
+     * Convert to generic option with boxed value.
+     */
+    Option<Long> boxed();
+
+    /**
+     * Convert option instance to optional.
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param error error value
+     * @param <E>   error type
+     * @return result
+     */
+    default <E> LongResult<E> toResult(@NonNull E error) {
+        return toResult(() -> error);
+    }
+
+    /**
+     * Convert option value to result value.
+     *
+     * @param errorF error provider
+     * @param <E>    error type
+     * @return result
+     */
+    <E> LongResult<E> toResult(Supplier<E> errorF);
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Option#unwrap()}, but value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      long result = find(key).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      LongOption $$rev = find(key);
+     *      if (!($$rev instanceof LongOption.Some(var $$revVal))) {
+     *          return LongOption.propagate($$rev);
+     *      }
+     *      long result = $$revVal;
+     * }</pre>
+     */
+    default long unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create empty option value.
+     *
+     * @return none option
+     */
+    static LongOption none() {
+        Events.failureCreated();
+        return None.INSTANCE;
+    }
+
+    /**
+     * Propagate empty option.
+     *
+     * <p>This method is used by code generated for unwrap calls.
+     *
+     * @param option empty option
+     * @return empty option
+     * @throws IllegalStateException if option is not empty
+     */
+    static LongOption propagate(@NonNull LongOption option) {
+        if (!option.isEmpty()) {
+            throw new IllegalStateException("Option is not empty");
+        }
+        Events.errorPropagated(option);
+        return none();
+    }
+
+    /**
+     * Create some option value.
+     *
+     * @param value value
+     * @return some option
+     */
+    static LongOption some(long value) {
+        return new Some(value);
+    }
+
+    /**
+     * Create option value from {@link OptionalLong}.
+     *
+     * @param value optional value
+     * @return some if supplied optional is not empty
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static LongOption fromOptional(@NonNull OptionalLong value) {
+        return value.isPresent() ? some(value.getAsLong()) : none();
+    }
+
+    /**
+     * Create option from generic option with boxed value.
+     *
+     * @param option generic option
+     * @return unboxed option
+     */
+    static LongOption fromOption(@NonNull Option<Long> option) {
+        return option.isEmpty() ? none() : some(option.get());
+    }
+
+    /**
+     * Option with value.
+     *
+     * @param value value
+     */
+    record Some(long value) implements LongOption {
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public long get() {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(@NonNull LongSupplier defaultF) {
+            return value;
+        }
+
+        @Override
+        public LongOption filter(@NonNull LongPredicate predicate) {
+            if (predicate.test(value)) {
+                return this;
+            }
+            return LongOption.none();
+        }
+
+        @Override
+        public LongOption map(@NonNull LongUnaryOperator function) {
+            return LongOption.some(function.applyAsLong(value));
+        }
+
+        @Override
+        public LongOption flatMap(@NonNull LongFunction<LongOption> function) {
+            LongOption result = function.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return result;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull LongFunction<? extends R> function) {
+            return Option.fromNullable(function.apply(value));
+        }
+
+        @Override
+        public Option<Long> boxed() {
+            return Option.some(value);
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public <E> LongResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return LongResult.success(value);
+        }
+    }
+
+    /**
+     * Empty option.
+     *
+     * <p>Use {@link LongOption#none()} to get shared instance.
+     */
+    record None() implements LongOption {
+
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public long get() {
+            throw new NoSuchElementException("Option is empty");
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public long getOrElse(@NonNull LongSupplier defaultF) {
+            return defaultF.getAsLong();
+        }
+
+        @Override
+        public LongOption filter(@NonNull LongPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public LongOption map(@NonNull LongUnaryOperator function) {
+            return this;
+        }
+
+        @Override
+        public LongOption flatMap(@NonNull LongFunction<LongOption> function) {
+            return this;
+        }
+
+        @Override
+        public <R> Option<R> mapToObj(@NonNull LongFunction<? extends R> function) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Long> boxed() {
+            return Option.none();
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public <E> LongResult<E> toResult(@NonNull Supplier<E> errorF) {
+            return LongResult.error(errorF.get());
+        }
+    }
+}
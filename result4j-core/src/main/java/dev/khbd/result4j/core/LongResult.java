@@ -0,0 +1,320 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.NonNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Result data type specialized for {@code long} success values.
+ *
+ * <p>Success value is stored without boxing, so it can be used in hot numeric code
+ * instead of {@code Result<E, Long>}.
+ * <pre>{@code
+ *     String message = switch (result) {
+ *         case LongResult.Ok(var value) -> "Value is " + value;
+ *         case LongResult.Error(var error) -> "Error is " + error;
+ *     };
+ * }</pre>
+ *
+ * @param <E> error value type
+ * @author Sergei Khadanovich
+ */
+public sealed interface LongResult<E> permits LongResult.Ok, LongResult.Error {
+
+    /**
+     * Is result error.
+     *
+     * @return {@literal true} if result is error and {@literal false} otherwise
+     */
+    boolean isError();
+
+    /**
+     * Is result success.
+     *
+     * @return {@literal true} if result is success and {@literal false} otherwise
+     */
+    default boolean isSuccess() {
+        return !isError();
+    }
+
+    /**
+     * Get error value.
+     *
+     * @return error value
+     * @throws IllegalStateException if result is success
+     */
+    E getError();
+
+    /**
+     * Get success value.
+     *
+     * @return success value
+     * @throws IllegalStateException if result is error
+     */
+    long get();
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value
+     * @return success value
+     */
+    long getOrElse(long other);
+
+    /**
+     * Get success value or default.
+     *
+     * @param other default value function
+     * @return success value
+     */
+    long getOrElse(ToLongFunction<? super E> other);
+
+    /**
+     * Transform success value.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    LongResult<E> map(LongUnaryOperator f);
+
+    /**
+     * Transform success value into new result.
+     *
+     * @param f transform function
+     * @return transformed result
+     */
+    LongResult<E> flatMap(LongFunction<LongResult<? extends E>> f);
+
+    /**
+     * Transform success value into object.
+     *
+     * @param f   transform function
+     * @param <V> new success value type
+     * @return transformed generic result
+     */
+    <V> Result<E, V> mapToObj(LongFunction<V> f);
+
+    /**
+     * Transform error value.
+     *
+     * @param f   transform function
+     * @param <O> new error type
+     * @return transformed result
+     */
+    <O> LongResult<O> mapError(Function<? super E, O> f);
+
+    /**
+     * Convert to generic result with boxed success value.
+     */
+    Result<E, Long> boxed();
+
+    /**
+     * Unwrap call.
+     *
+     * <p>This is method with special support through compiler plugin.
+     * It works the same way as {@link Result#unwrap()}, but success value is not boxed.
+     * <pre>{@code
+     *      // invocation like this
+     *      long result = parse(text).unwrap();
+     *
+     *      // is going to be transformed into several statements
+     *      LongResult<ParseError> $$rev = parse(text);
+     *      if (!($$rev instanceof LongResult.Ok(var $$revVal))) {
+     *          return LongResult.propagate($$rev);
+     *      }
+     *      long result = $$revVal;
+     * }</pre>
+     */
+    default long unwrap() {
+        throw new UnsupportedOperationException(ERROR_MESSAGE);
+    }
+
+    /**
+     * Create success result value.
+     *
+     * @param value success value
+     * @param <E>   error type
+     * @return success result
+     */
+    static <E> LongResult<E> success(long value) {
+        Metrics.successCreated();
+        return new Ok<>(value);
+    }
+
+    /**
+     * Create failure result value.
+     *
+     * @param error error
+     * @param <E>   error type
+     * @return error result
+     */
+    static <E> LongResult<E> error(@NonNull E error) {
+        Events.errorCreated(error, "LongResult.error");
+        Metrics.errorCreated(error);
+        return new Error<>(error);
+    }
+
+    /**
+     * Propagate error result.
+     *
+     * <p>The same error instance is returned, so propagation does not allocate.
+     * This method is used by code generated for unwrap calls.
+     *
+     * @param result error result
+     * @param <E>    error type
+     * @return the same error result
+     * @throws IllegalStateException if result is success
+     */
+    static <E> LongResult<E> propagate(@NonNull LongResult<? extends E> result) {
+        if (result.isSuccess()) {
+            throw new IllegalStateException("Result is success");
+        }
+        Events.errorPropagated(result);
+        // This cast is correct because <E> is at a covariant position.
+        return cast(result);
+    }
+
+    /**
+     * Create result from generic result with boxed success value.
+     *
+     * @param result generic result
+     * @param <E>    error type
+     * @return unboxed result
+     */
+    static <E> LongResult<E> fromResult(@NonNull Result<? extends E, Long> result) {
+        if (result.isError()) {
+            return error(result.getError());
+        }
+        return success(result.get());
+    }
+
+    /**
+     * Success result.
+     *
+     * @param value success value
+     * @param <E>   error type
+     */
+    record Ok<E>(long value) implements LongResult<E> {
+
+        @Override
+        public boolean isError() {
+            return false;
+        }
+
+        @Override
+        public E getError() {
+            throw new IllegalStateException("Result is success");
+        }
+
+        @Override
+        public long get() {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(long other) {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(@NonNull ToLongFunction<? super E> other) {
+            return value;
+        }
+
+        @Override
+        public LongResult<E> map(@NonNull LongUnaryOperator f) {
+            return LongResult.success(f.applyAsLong(value));
+        }
+
+        @Override
+        public LongResult<E> flatMap(@NonNull LongFunction<LongResult<? extends E>> f) {
+            LongResult<? extends E> result = f.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return cast(result);
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull LongFunction<V> f) {
+            return Result.success(f.apply(value));
+        }
+
+        @Override
+        public <O> LongResult<O> mapError(@NonNull Function<? super E, O> f) {
+            return cast(this);
+        }
+
+        @Override
+        public Result<E, Long> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Error result.
+     *
+     * @param error error value
+     * @param <E>   error type
+     */
+    record Error<E>(@NonNull E error) implements LongResult<E> {
+
+        @Override
+        public boolean isError() {
+            return true;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+
+        @Override
+        public long get() {
+            throw new IllegalStateException("Result is error");
+        }
+
+        @Override
+        public long getOrElse(long other) {
+            return other;
+        }
+
+        @Override
+        public long getOrElse(@NonNull ToLongFunction<? super E> other) {
+            return other.applyAsLong(error);
+        }
+
+        @Override
+        public LongResult<E> map(@NonNull LongUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public LongResult<E> flatMap(@NonNull LongFunction<LongResult<? extends E>> f) {
+            return this;
+        }
+
+        @Override
+        public <V> Result<E, V> mapToObj(@NonNull LongFunction<V> f) {
+            return Result.Error.of(error);
+        }
+
+        @Override
+        public <O> LongResult<O> mapError(@NonNull Function<? super E, O> f) {
+            O mappedError = f.apply(error);
+            LongResult<O> result = LongResult.error(mappedError);
+            Metrics.errorMapped(error, mappedError);
+            return result;
+        }
+
+        @Override
+        public Result<E, Long> boxed() {
+            return Result.Error.of(error);
+        }
+    }
+}
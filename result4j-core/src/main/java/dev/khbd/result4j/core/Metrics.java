@@ -0,0 +1,117 @@
+package dev.khbd.result4j.core;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Metrics hooks invocation.
+ *
+ * <p>Listener is a constant, so if no listener is registered, JIT compiler
+ * folds the null check and hook invocation is removed from compiled code.
+ *
+ * @author Sergei Khadanovich
+ */
+@UtilityClass
+class Metrics {
+
+    static final List<ResultMetrics> INSTALLED = load();
+
+    private static final ResultMetrics LISTENER = listener(INSTALLED);
+
+    /**
+     * Invoke success creation hook.
+     */
+    static void successCreated() {
+        if (LISTENER != null) {
+            LISTENER.successCreated();
+        }
+    }
+
+    /**
+     * Invoke error creation hook.
+     *
+     * @param error error value
+     */
+    static void errorCreated(Object error) {
+        if (LISTENER != null) {
+            LISTENER.errorCreated(error);
+        }
+    }
+
+    /**
+     * Invoke error mapping hook.
+     *
+     * @param from original error value
+     * @param to   new error value
+     */
+    static void errorMapped(Object from, Object to) {
+        if (LISTENER != null) {
+            LISTENER.errorMapped(from, to);
+        }
+    }
+
+    /**
+     * Invoke error recovering hook if error is recovered to success result.
+     *
+     * @param error     error value
+     * @param recovered recovering result
+     */
+    static void errorRecovered(Object error, Result<?, ?> recovered) {
+        if (LISTENER != null && recovered instanceof Result.Ok) {
+            LISTENER.errorRecovered(error);
+        }
+    }
+
+    private static List<ResultMetrics> load() {
+        return ServiceLoader.load(ResultMetrics.class, ResultMetrics.class.getClassLoader())
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+    }
+
+    private static ResultMetrics listener(List<ResultMetrics> installed) {
+        if (installed.isEmpty()) {
+            return null;
+        }
+        if (installed.size() == 1) {
+            return installed.get(0);
+        }
+        return new CompositeMetrics(installed.toArray(new ResultMetrics[0]));
+    }
+
+    /**
+     * Listener to invoke several registered listeners.
+     */
+    private record CompositeMetrics(ResultMetrics[] listeners) implements ResultMetrics {
+
+        @Override
+        public void successCreated() {
+            for (ResultMetrics listener : listeners) {
+                listener.successCreated();
+            }
+        }
+
+        @Override
+        public void errorCreated(Object error) {
+            for (ResultMetrics listener : listeners) {
+                listener.errorCreated(error);
+            }
+        }
+
+        @Override
+        public void errorMapped(Object from, Object to) {
+            for (ResultMetrics listener : listeners) {
+                listener.errorMapped(from, to);
+            }
+        }
+
+        @Override
+        public void errorRecovered(Object error) {
+            for (ResultMetrics listener : listeners) {
+                listener.errorRecovered(error);
+            }
+        }
+    }
+}
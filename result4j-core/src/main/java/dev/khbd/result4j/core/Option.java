@@ -4,14 +4,17 @@ import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
 import static dev.khbd.result4j.core.Utils.cast;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -20,16 +23,25 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Option data class.
  *
+ * <p>Option is either {@link Some} with value or {@link None},
+ * so it can be used in pattern matching.
+ * <pre>{@code
+ *     String message = switch (option) {
+ *         case Option.Some(var value) -> "Value is " + value;
+ *         case Option.None() -> "No value";
+ *     };
+ * }</pre>
+ *
  * @param <V> value type
  * @author Sergei Khadanovich
  */
-public interface Option<V> {
+public sealed interface Option<V> permits Option.Some, Option.None {
 
     /**
      * Check if current instance is empty or not.
@@ -108,23 +120,17 @@ public interface Option<V> {
     /**
      * Convert option instance to optional.
      */
-    default Optional<V> toOptional() {
-        return map(Optional::of).getOrElse(Optional::empty);
-    }
+    Optional<V> toOptional();
 
     /**
      * Drop value.
      */
-    default Option<NoData> drop() {
-        return map(__ -> NoData.INSTANCE);
-    }
+    Option<NoData> drop();
 
     /**
      * Convert option instance to stream.
      */
-    default Stream<V> toStream() {
-        return map(Stream::of).getOrElse(Stream::empty);
-    }
+    Stream<V> toStream();
 
     /**
      * Convert option value to result value.
@@ -133,9 +139,7 @@ public interface Option<V> {
      * @param <E>   error type
      * @return result
      */
-    default <E> Result<E, V> toResult(@NonNull E error) {
-        return toResult(() -> error);
-    }
+    <E> Result<E, V> toResult(E error);
 
     /**
      * Convert option value to result value.
@@ -144,9 +148,7 @@ public interface Option<V> {
      * @param <E>    error type
      * @return result value
      */
-    default <E> Result<E, V> toResult(@NonNull Supplier<E> errorF) {
-        return map(Result::<E, V>success).getOrElse(() -> Result.error(errorF.get()));
-    }
+    <E> Result<E, V> toResult(Supplier<E> errorF);
 
     /**
      * Recover option by another instance.
@@ -202,10 +204,10 @@ public interface Option<V> {
      *
      *      // is going to be transformed into several statements
      *      Option<Integer> $$rev = divide(num, den);
-     *      if ($$rev.isEmpty()) {
-     *          return Option.none();
+     *      if (!($$rev instanceof Option.Some(var $$revVal))) {
+     *          return Option.propagate($$rev);
      *      }
-     *      Integer result = $$rev.get();
+     *      Integer result = $$revVal;
      * }</pre>
      */
     default V unwrap() {
@@ -219,17 +221,43 @@ public interface Option<V> {
      * @return none option
      */
     static <V> Option<V> none() {
+        Events.failureCreated();
         return cast(None.INSTANCE);
     }
 
+    /**
+     * Propagate empty option with another value type.
+     *
+     * <p>This method is used by code generated for unwrap calls.
+     *
+     * @param option empty option
+     * @param <V>    value type
+     * @return empty option
+     * @throws IllegalStateException if option is not empty
+     */
+    static <V> Option<V> propagate(@NonNull Option<?> option) {
+        if (!option.isEmpty()) {
+            throw new IllegalStateException("Option is not empty");
+        }
+        Events.errorPropagated(option);
+        return none();
+    }
+
     /**
      * Create some option value.
      *
+     * <p>Options for {@link NoData}, booleans and small cached integer, long and character values
+     * are shared instances.
+     *
      * @param value value
      * @param <V>   value type
      * @return some option
      */
     static <V> Option<V> some(@NonNull V value) {
+        Some<?> cached = CanonicalInstances.some(value);
+        if (cached != null) {
+            return cast(cached);
+        }
         return new Some<>(value);
     }
 
@@ -253,7 +281,7 @@ public interface Option<V> {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static <V> Option<V> fromOptional(@NonNull Optional<V> value) {
-        return value.map(Option::some).orElseGet(Option::none);
+        return value.isPresent() ? some(value.get()) : none();
     }
 
     /**
@@ -269,9 +297,15 @@ public interface Option<V> {
     /**
      * Create sequence collector.
      *
-     * @param <V> value type
-     * @param <A> downstream accumulator type
-     * @param <U> downstream result type
+     * <p>Values are accumulated directly into downstream container.
+     * The first empty option is latched, so all subsequent options are skipped.
+     * Note, that collector still consumes the whole stream. Use {@link #takeUntilEmpty(Stream)}
+     * to stop pulling elements from upstream after the first empty option.
+     *
+     * @param downstream downstream collector
+     * @param <V>        value type
+     * @param <A>        downstream accumulator type
+     * @param <U>        downstream result type
      * @return sequence collector
      */
     static <V, A, U> Collector<Option<V>, ?, Option<U>> sequencing(@NonNull Collector<? super V, A, U> downstream) {
@@ -280,22 +314,28 @@ public interface Option<V> {
         BinaryOperator<A> combiner = downstream.combiner();
         Function<A, U> finisher = downstream.finisher();
 
-        return Collector.of(
-                () -> new Ref<>(Option.some(supplier.get())),
-                (ref, option) -> {
-                    ref.ref = Option.ap(ref.ref, option).apply((acc, r) -> {
-                        accumulator.accept(acc, r);
-                        return acc;
-                    });
+        return Collector.<Option<V>, SequenceState<A, Option<V>>, Option<U>>of(
+                () -> new SequenceState<>(supplier.get()),
+                (state, option) -> {
+                    if (state.isFailed()) {
+                        return;
+                    }
+                    if (option instanceof Some<V>(var value)) {
+                        accumulator.accept(state.container(), value);
+                    } else {
+                        state.fail(option);
+                    }
                 },
-                (ref1, ref2) -> new Ref<>(Option.ap(ref1.ref, ref2.ref).apply(combiner)),
-                ref -> ref.ref.map(finisher)
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> finish(state, finisher)
         );
     }
 
     /**
      * Create traverse collector.
      *
+     * <p>Mapper function is not invoked for elements after the first empty option.
+     *
      * @param f          mapper function
      * @param downstream downstream collector
      * @param <V>        original value type
@@ -306,7 +346,168 @@ public interface Option<V> {
      */
     static <V, R, A, U> Collector<V, ?, Option<U>> traversing(@NonNull Function<? super V, Option<R>> f,
                                                               @NonNull Collector<? super R, A, U> downstream) {
-        return Collectors.mapping(f, sequencing(downstream));
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super R> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, U> finisher = downstream.finisher();
+
+        return Collector.<V, SequenceState<A, Option<R>>, Option<U>>of(
+                () -> new SequenceState<>(supplier.get()),
+                (state, element) -> {
+                    if (state.isFailed()) {
+                        return;
+                    }
+                    Option<R> option = f.apply(element);
+                    if (option instanceof Some<R>(var value)) {
+                        accumulator.accept(state.container(), value);
+                    } else {
+                        state.fail(option);
+                    }
+                },
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> finish(state, finisher)
+        );
+    }
+
+    private static <V, A, U> Option<U> finish(SequenceState<A, Option<V>> state, Function<A, U> finisher) {
+        if (state.isFailed()) {
+            return none();
+        }
+        return some(finisher.apply(state.container()));
+    }
+
+    /**
+     * Truncate stream after the first empty option.
+     *
+     * <p>Returned stream contains all non-empty options preceding the first empty one and the empty option itself.
+     * Elements after the first empty option are never pulled from original stream.
+     *
+     * <p>Returned stream cannot be split, so it is processed sequentially even if it is parallel.
+     * Closing returned stream closes original one.
+     *
+     * @param stream options stream
+     * @param <V>    value type
+     * @return truncated stream
+     */
+    static <V> Stream<Option<V>> takeUntilEmpty(@NonNull Stream<Option<V>> stream) {
+        var spliterator = new UntilFailureSpliterator<>(stream.spliterator(), Option::isEmpty);
+        return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Transform each value with function and collect present values into list.
+     *
+     * <p>Values are traversed without streams, so for small and medium lists
+     * this method is cheaper than {@link #traversing(Function, Collector)}.
+     * Function is not invoked for values after the first empty option.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <R>    option value type
+     * @return none if any option is empty or some with unmodifiable list of transformed values
+     */
+    static <T, R> Option<List<R>> traverse(@NonNull List<? extends T> values,
+                                           @NonNull Function<? super T, Option<R>> f) {
+        if (!(values instanceof RandomAccess)) {
+            return traverse((Iterable<? extends T>) values, f);
+        }
+        int size = values.size();
+        List<R> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Option<R> option = f.apply(values.get(i));
+            if (!(option instanceof Some<R>(var value))) {
+                return none();
+            }
+            list.add(value);
+        }
+        return some(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Transform each value with function and collect present values into list.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <R>    option value type
+     * @return none if any option is empty or some with unmodifiable list of transformed values
+     * @see #traverse(List, Function)
+     */
+    static <T, R> Option<List<R>> traverse(@NonNull T[] values,
+                                           @NonNull Function<? super T, Option<R>> f) {
+        List<R> list = new ArrayList<>(values.length);
+        for (T element : values) {
+            Option<R> option = f.apply(element);
+            if (!(option instanceof Some<R>(var value))) {
+                return none();
+            }
+            list.add(value);
+        }
+        return some(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Transform each value with function and collect present values into list.
+     *
+     * <p>List is pre-sized if values are a {@link Collection}.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <R>    option value type
+     * @return none if any option is empty or some with unmodifiable list of transformed values
+     * @see #traverse(List, Function)
+     */
+    static <T, R> Option<List<R>> traverse(@NonNull Iterable<? extends T> values,
+                                           @NonNull Function<? super T, Option<R>> f) {
+        List<R> list = values instanceof Collection<?> collection
+                ? new ArrayList<>(collection.size())
+                : new ArrayList<>();
+        for (T element : values) {
+            Option<R> option = f.apply(element);
+            if (!(option instanceof Some<R>(var value))) {
+                return none();
+            }
+            list.add(value);
+        }
+        return some(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Collect present values into list.
+     *
+     * @param options options
+     * @param <R>     option value type
+     * @return none if any option is empty or some with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <R> Option<List<R>> sequence(@NonNull List<? extends Option<R>> options) {
+        return traverse(options, Function.identity());
+    }
+
+    /**
+     * Collect present values into list.
+     *
+     * @param options options
+     * @param <R>     option value type
+     * @return none if any option is empty or some with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <R> Option<List<R>> sequence(@NonNull Option<R>[] options) {
+        return traverse(options, Function.identity());
+    }
+
+    /**
+     * Collect present values into list.
+     *
+     * @param options options
+     * @param <R>     option value type
+     * @return none if any option is empty or some with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <R> Option<List<R>> sequence(@NonNull Iterable<? extends Option<R>> options) {
+        return traverse(options, Function.identity());
     }
 
     /**
@@ -322,6 +523,461 @@ public interface Option<V> {
         return new OptionApply2<>(option1, option2);
     }
 
+    /**
+     * Combine three options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @return combined option
+     */
+    static <V1, V2, V3> OptionApply3<V1, V2, V3> ap(@NonNull Option<V1> option1,
+                                                    @NonNull Option<V2> option2,
+                                                    @NonNull Option<V3> option3) {
+        return new OptionApply3<>(option1, option2, option3);
+    }
+
+    /**
+     * Combine four options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4> OptionApply4<V1, V2, V3, V4> ap(@NonNull Option<V1> option1,
+                                                            @NonNull Option<V2> option2,
+                                                            @NonNull Option<V3> option3,
+                                                            @NonNull Option<V4> option4) {
+        return new OptionApply4<>(option1, option2, option3, option4);
+    }
+
+    /**
+     * Combine five options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5> OptionApply5<V1, V2, V3, V4, V5> ap(@NonNull Option<V1> option1,
+                                                                    @NonNull Option<V2> option2,
+                                                                    @NonNull Option<V3> option3,
+                                                                    @NonNull Option<V4> option4,
+                                                                    @NonNull Option<V5> option5) {
+        return new OptionApply5<>(option1, option2, option3, option4, option5);
+    }
+
+    /**
+     * Combine six options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6> OptionApply6<V1, V2, V3, V4, V5, V6> ap(@NonNull Option<V1> option1,
+                                                                            @NonNull Option<V2> option2,
+                                                                            @NonNull Option<V3> option3,
+                                                                            @NonNull Option<V4> option4,
+                                                                            @NonNull Option<V5> option5,
+                                                                            @NonNull Option<V6> option6) {
+        return new OptionApply6<>(option1, option2, option3, option4, option5, option6);
+    }
+
+    /**
+     * Combine seven options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param option7 seventh option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @param <V7>    seventh type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6, V7> OptionApply7<V1, V2, V3, V4, V5, V6, V7> ap(@NonNull Option<V1> option1,
+                                                                                    @NonNull Option<V2> option2,
+                                                                                    @NonNull Option<V3> option3,
+                                                                                    @NonNull Option<V4> option4,
+                                                                                    @NonNull Option<V5> option5,
+                                                                                    @NonNull Option<V6> option6,
+                                                                                    @NonNull Option<V7> option7) {
+        return new OptionApply7<>(option1, option2, option3, option4, option5, option6, option7);
+    }
+
+    /**
+     * Combine eight options into single one.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param option7 seventh option
+     * @param option8 eighth option
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @param <V7>    seventh type
+     * @param <V8>    eighth type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6, V7, V8> OptionApply8<V1, V2, V3, V4, V5, V6, V7, V8> ap(@NonNull Option<V1> option1,
+                                                                                            @NonNull Option<V2> option2,
+                                                                                            @NonNull Option<V3> option3,
+                                                                                            @NonNull Option<V4> option4,
+                                                                                            @NonNull Option<V5> option5,
+                                                                                            @NonNull Option<V6> option6,
+                                                                                            @NonNull Option<V7> option7,
+                                                                                            @NonNull Option<V8> option8) {
+        return new OptionApply8<>(option1, option2, option3, option4, option5, option6, option7, option8);
+    }
+
+    /**
+     * Combine two options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V> Option<V> ap(@NonNull Option<V1> option1,
+                                    @NonNull Option<V2> option2,
+                                    @NonNull BiFunction<? super V1, ? super V2, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2));
+    }
+
+    /**
+     * Combine three options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V> Option<V> ap(@NonNull Option<V1> option1,
+                                        @NonNull Option<V2> option2,
+                                        @NonNull Option<V3> option3,
+                                        @NonNull Function3<? super V1, ? super V2, ? super V3, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3));
+    }
+
+    /**
+     * Combine four options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V> Option<V> ap(@NonNull Option<V1> option1,
+                                            @NonNull Option<V2> option2,
+                                            @NonNull Option<V3> option3,
+                                            @NonNull Option<V4> option4,
+                                            @NonNull Function4<? super V1, ? super V2, ? super V3, ? super V4, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        if (!(option4 instanceof Some<V4>(var v4))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3, v4));
+    }
+
+    /**
+     * Combine five options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V> Option<V> ap(@NonNull Option<V1> option1,
+                                                @NonNull Option<V2> option2,
+                                                @NonNull Option<V3> option3,
+                                                @NonNull Option<V4> option4,
+                                                @NonNull Option<V5> option5,
+                                                @NonNull Function5<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        if (!(option4 instanceof Some<V4>(var v4))) {
+            return none();
+        }
+        if (!(option5 instanceof Some<V5>(var v5))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3, v4, v5));
+    }
+
+    /**
+     * Combine six options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6, V> Option<V> ap(@NonNull Option<V1> option1,
+                                                    @NonNull Option<V2> option2,
+                                                    @NonNull Option<V3> option3,
+                                                    @NonNull Option<V4> option4,
+                                                    @NonNull Option<V5> option5,
+                                                    @NonNull Option<V6> option6,
+                                                    @NonNull Function6<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        if (!(option4 instanceof Some<V4>(var v4))) {
+            return none();
+        }
+        if (!(option5 instanceof Some<V5>(var v5))) {
+            return none();
+        }
+        if (!(option6 instanceof Some<V6>(var v6))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3, v4, v5, v6));
+    }
+
+    /**
+     * Combine seven options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param option7 seventh option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @param <V7>    seventh type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6, V7, V> Option<V> ap(@NonNull Option<V1> option1,
+                                                        @NonNull Option<V2> option2,
+                                                        @NonNull Option<V3> option3,
+                                                        @NonNull Option<V4> option4,
+                                                        @NonNull Option<V5> option5,
+                                                        @NonNull Option<V6> option6,
+                                                        @NonNull Option<V7> option7,
+                                                        @NonNull Function7<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, ? super V7, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        if (!(option4 instanceof Some<V4>(var v4))) {
+            return none();
+        }
+        if (!(option5 instanceof Some<V5>(var v5))) {
+            return none();
+        }
+        if (!(option6 instanceof Some<V6>(var v6))) {
+            return none();
+        }
+        if (!(option7 instanceof Some<V7>(var v7))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3, v4, v5, v6, v7));
+    }
+
+    /**
+     * Combine eight options with function.
+     *
+     * <p>Function is invoked only if all options are not empty, otherwise empty option is returned.
+     * Options are combined in one step, so no intermediate object is created.
+     *
+     * @param option1 first option
+     * @param option2 second option
+     * @param option3 third option
+     * @param option4 fourth option
+     * @param option5 fifth option
+     * @param option6 sixth option
+     * @param option7 seventh option
+     * @param option8 eighth option
+     * @param f       combine function
+     * @param <V1>    first type
+     * @param <V2>    second type
+     * @param <V3>    third type
+     * @param <V4>    fourth type
+     * @param <V5>    fifth type
+     * @param <V6>    sixth type
+     * @param <V7>    seventh type
+     * @param <V8>    eighth type
+     * @param <V>     combined type
+     * @return combined option
+     */
+    static <V1, V2, V3, V4, V5, V6, V7, V8, V> Option<V> ap(@NonNull Option<V1> option1,
+                                                            @NonNull Option<V2> option2,
+                                                            @NonNull Option<V3> option3,
+                                                            @NonNull Option<V4> option4,
+                                                            @NonNull Option<V5> option5,
+                                                            @NonNull Option<V6> option6,
+                                                            @NonNull Option<V7> option7,
+                                                            @NonNull Option<V8> option8,
+                                                            @NonNull Function8<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, ? super V7, ? super V8, V> f) {
+        if (!(option1 instanceof Some<V1>(var v1))) {
+            return none();
+        }
+        if (!(option2 instanceof Some<V2>(var v2))) {
+            return none();
+        }
+        if (!(option3 instanceof Some<V3>(var v3))) {
+            return none();
+        }
+        if (!(option4 instanceof Some<V4>(var v4))) {
+            return none();
+        }
+        if (!(option5 instanceof Some<V5>(var v5))) {
+            return none();
+        }
+        if (!(option6 instanceof Some<V6>(var v6))) {
+            return none();
+        }
+        if (!(option7 instanceof Some<V7>(var v7))) {
+            return none();
+        }
+        if (!(option8 instanceof Some<V8>(var v8))) {
+            return none();
+        }
+        return fromNullable(f.apply(v1, v2, v3, v4, v5, v6, v7, v8));
+    }
+
     /**
      * Intermediate class to combine two option values.
      *
@@ -342,138 +998,392 @@ public interface Option<V> {
          * @return combined option
          */
         public <V> Option<V> apply(@NonNull BiFunction<? super V1, ? super V2, V> f) {
-            return option1.flatMap(v1 -> option2.map(v2 -> f.apply(v1, v2)));
+            return ap(option1, option2, f);
         }
     }
-}
 
-@ToString
-@EqualsAndHashCode
-class None<V> implements Option<V> {
+    /**
+     * Intermediate class to combine three option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply3<V1, V2, V3> {
 
-    static final None<Object> INSTANCE = new None<>();
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
 
-    @Override
-    public boolean isEmpty() {
-        return true;
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function3<? super V1, ? super V2, ? super V3, V> f) {
+            return ap(option1, option2, option3, f);
+        }
     }
 
-    @Override
-    public V get() {
-        throw new NoSuchElementException("Option is empty");
-    }
+    /**
+     * Intermediate class to combine four option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     * @param <V4> fourth option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply4<V1, V2, V3, V4> {
 
-    @Override
-    public V getOrElse(V defaultValue) {
-        return defaultValue;
-    }
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
+        private final Option<V4> option4;
 
-    @Override
-    public V getOrElse(@NonNull Supplier<? extends V> defaultF) {
-        return defaultF.get();
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function4<? super V1, ? super V2, ? super V3, ? super V4, V> f) {
+            return ap(option1, option2, option3, option4, f);
+        }
     }
 
-    @Override
-    public <E extends Throwable> V getOrElseThrow(@NonNull Supplier<E> errorF) throws E {
-        throw errorF.get();
-    }
+    /**
+     * Intermediate class to combine five option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     * @param <V4> fourth option value type
+     * @param <V5> fifth option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply5<V1, V2, V3, V4, V5> {
 
-    @Override
-    public Option<V> filter(@NonNull Predicate<? super V> predicate) {
-        return this;
-    }
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
+        private final Option<V4> option4;
+        private final Option<V5> option5;
 
-    @Override
-    public <R> Option<R> map(@NonNull Function<? super V, ? extends R> function) {
-        return Option.none();
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function5<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, V> f) {
+            return ap(option1, option2, option3, option4, option5, f);
+        }
     }
 
-    @Override
-    public <R> Option<R> flatMap(@NonNull Function<? super V, Option<? extends R>> function) {
-        return Option.none();
-    }
+    /**
+     * Intermediate class to combine six option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     * @param <V4> fourth option value type
+     * @param <V5> fifth option value type
+     * @param <V6> sixth option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply6<V1, V2, V3, V4, V5, V6> {
 
-    @Override
-    public Option<V> peek(@NonNull Consumer<? super V> function) {
-        return this;
-    }
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
+        private final Option<V4> option4;
+        private final Option<V5> option5;
+        private final Option<V6> option6;
 
-    @Override
-    public Option<V> orElse(@NonNull Option<? extends V> other) {
-        return cast(other);
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function6<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, V> f) {
+            return ap(option1, option2, option3, option4, option5, option6, f);
+        }
     }
 
-    @Override
-    public Option<V> orElse(@NonNull Supplier<Option<? extends V>> otherF) {
-        return cast(otherF.get());
+    /**
+     * Intermediate class to combine seven option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     * @param <V4> fourth option value type
+     * @param <V5> fifth option value type
+     * @param <V6> sixth option value type
+     * @param <V7> seventh option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply7<V1, V2, V3, V4, V5, V6, V7> {
+
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
+        private final Option<V4> option4;
+        private final Option<V5> option5;
+        private final Option<V6> option6;
+        private final Option<V7> option7;
+
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function7<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, ? super V7, V> f) {
+            return ap(option1, option2, option3, option4, option5, option6, option7, f);
+        }
     }
-}
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor
-class Some<V> implements Option<V> {
+    /**
+     * Intermediate class to combine eight option values.
+     *
+     * @param <V1> first option value type
+     * @param <V2> second option value type
+     * @param <V3> third option value type
+     * @param <V4> fourth option value type
+     * @param <V5> fifth option value type
+     * @param <V6> sixth option value type
+     * @param <V7> seventh option value type
+     * @param <V8> eighth option value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class OptionApply8<V1, V2, V3, V4, V5, V6, V7, V8> {
 
-    private final V value;
+        private final Option<V1> option1;
+        private final Option<V2> option2;
+        private final Option<V3> option3;
+        private final Option<V4> option4;
+        private final Option<V5> option5;
+        private final Option<V6> option6;
+        private final Option<V7> option7;
+        private final Option<V8> option8;
 
-    @Override
-    public boolean isEmpty() {
-        return false;
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all options are not empty.
+         *
+         * @param f   function
+         * @param <V> new result type
+         * @return combined option
+         */
+        public <V> Option<V> apply(@NonNull Function8<? super V1, ? super V2, ? super V3, ? super V4, ? super V5, ? super V6, ? super V7, ? super V8, V> f) {
+            return ap(option1, option2, option3, option4, option5, option6, option7, option8, f);
+        }
     }
 
-    @Override
-    public V get() {
-        return value;
-    }
+    /**
+     * Option with value.
+     *
+     * @param value value
+     * @param <V>   value type
+     */
+    record Some<V>(@NonNull V value) implements Option<V> {
 
-    @Override
-    public V getOrElse(V defaultValue) {
-        return value;
-    }
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
 
-    @Override
-    public V getOrElse(@NonNull Supplier<? extends V> defaultF) {
-        return value;
-    }
+        @Override
+        public V get() {
+            return value;
+        }
 
-    @Override
-    public <E extends Throwable> V getOrElseThrow(@NonNull Supplier<E> errorF) {
-        return value;
-    }
+        @Override
+        public V getOrElse(V defaultValue) {
+            return value;
+        }
 
-    @Override
-    public Option<V> filter(@NonNull Predicate<? super V> predicate) {
-        if (predicate.test(value)) {
+        @Override
+        public V getOrElse(@NonNull Supplier<? extends V> defaultF) {
+            return value;
+        }
+
+        @Override
+        public <E extends Throwable> V getOrElseThrow(@NonNull Supplier<E> errorF) {
+            return value;
+        }
+
+        @Override
+        public Option<V> filter(@NonNull Predicate<? super V> predicate) {
+            if (predicate.test(value)) {
+                return this;
+            }
+            return Option.none();
+        }
+
+        @Override
+        public <R> Option<R> map(@NonNull Function<? super V, ? extends R> function) {
+            return Option.fromNullable(function.apply(value));
+        }
+
+        @Override
+        public <R> Option<R> flatMap(@NonNull Function<? super V, Option<? extends R>> function) {
+            Option<? extends R> result = function.apply(value);
+            Objects.requireNonNull(result, "Function result cannot be null.");
+            return cast(result);
+        }
+
+        @Override
+        public Option<V> peek(@NonNull Consumer<? super V> function) {
+            function.accept(value);
             return this;
         }
-        return Option.none();
-    }
 
-    @Override
-    public <R> Option<R> map(@NonNull Function<? super V, ? extends R> function) {
-        return Option.fromNullable(function.apply(value));
-    }
+        @Override
+        public Option<V> orElse(@NonNull Option<? extends V> other) {
+            return this;
+        }
 
-    @Override
-    public <R> Option<R> flatMap(@NonNull Function<? super V, Option<? extends R>> function) {
-        Option<? extends R> result = function.apply(value);
-        Objects.requireNonNull(result, "Function result cannot be null.");
-        return cast(result);
-    }
+        @Override
+        public Option<V> orElse(@NonNull Supplier<Option<? extends V>> otherF) {
+            return this;
+        }
 
-    @Override
-    public Option<V> peek(@NonNull Consumer<? super V> function) {
-        function.accept(value);
-        return this;
-    }
+        @Override
+        public Optional<V> toOptional() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public Option<NoData> drop() {
+            return Option.some(NoData.INSTANCE);
+        }
+
+        @Override
+        public Stream<V> toStream() {
+            return Stream.of(value);
+        }
 
-    @Override
-    public Option<V> orElse(@NonNull Option<? extends V> other) {
-        return this;
+        @Override
+        public <E> Result<E, V> toResult(@NonNull E error) {
+            return Result.success(value);
+        }
+
+        @Override
+        public <E> Result<E, V> toResult(@NonNull Supplier<E> errorF) {
+            return Result.success(value);
+        }
     }
 
-    @Override
-    public Option<V> orElse(@NonNull Supplier<Option<? extends V>> otherF) {
-        return this;
+    /**
+     * Empty option.
+     *
+     * <p>Use {@link Option#none()} to get shared instance.
+     *
+     * @param <V> value type
+     */
+    record None<V>() implements Option<V> {
+
+        private static final None<Object> INSTANCE = new None<>();
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public V get() {
+            throw new NoSuchElementException("Option is empty");
+        }
+
+        @Override
+        public V getOrElse(V defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public V getOrElse(@NonNull Supplier<? extends V> defaultF) {
+            return defaultF.get();
+        }
+
+        @Override
+        public <E extends Throwable> V getOrElseThrow(@NonNull Supplier<E> errorF) throws E {
+            throw errorF.get();
+        }
+
+        @Override
+        public Option<V> filter(@NonNull Predicate<? super V> predicate) {
+            return this;
+        }
+
+        @Override
+        public <R> Option<R> map(@NonNull Function<? super V, ? extends R> function) {
+            return Option.none();
+        }
+
+        @Override
+        public <R> Option<R> flatMap(@NonNull Function<? super V, Option<? extends R>> function) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<V> peek(@NonNull Consumer<? super V> function) {
+            return this;
+        }
+
+        @Override
+        public Option<V> orElse(@NonNull Option<? extends V> other) {
+            return cast(other);
+        }
+
+        @Override
+        public Option<V> orElse(@NonNull Supplier<Option<? extends V>> otherF) {
+            return cast(otherF.get());
+        }
+
+        @Override
+        public Optional<V> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Option<NoData> drop() {
+            return Option.none();
+        }
+
+        @Override
+        public Stream<V> toStream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public <E> Result<E, V> toResult(@NonNull E error) {
+            return Result.Error.create(error, "Option.toResult");
+        }
+
+        @Override
+        public <E> Result<E, V> toResult(@NonNull Supplier<E> errorF) {
+            return Result.Error.create(errorF.get(), "Option.toResult");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package dev.khbd.result4j.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Parallel traversal of collection on fork-join pool.
+ *
+ * <p>Values are split recursively into ranges and transformed values are written
+ * into shared array by index, so result order is the same as collection order.
+ *
+ * <p>When an error is found, all ranges located after it are skipped, including
+ * ranges which are already forked but not started yet. Ranges located before it
+ * are still processed, because they may contain an earlier error, so the returned error
+ * is always the first one in collection order.
+ *
+ * @param <T> value type
+ * @param <E> error type
+ * @param <R> transformed value type
+ * @author Sergei Khadanovich
+ */
+final class ParallelTraverse<T, E, R> {
+
+    /**
+     * Number of leaf ranges per pool worker.
+     */
+    private static final int RANGES_PER_WORKER = 8;
+
+    private final Object[] values;
+    private final Object[] transformed;
+    private final Function<? super T, Result<E, R>> f;
+    private final int threshold;
+    private final AtomicReference<Failure<E>> failure = new AtomicReference<>();
+
+    private ParallelTraverse(Object[] values, Function<? super T, Result<E, R>> f, int parallelism) {
+        this.values = values;
+        this.transformed = new Object[values.length];
+        this.f = f;
+        this.threshold = Math.max(1, values.length / (parallelism * RANGES_PER_WORKER));
+    }
+
+    /**
+     * Traverse values on pool.
+     *
+     * @param values values
+     * @param f      function
+     * @param pool   pool
+     * @return first error in collection order or success with unmodifiable list of transformed values
+     */
+    static <T, E, R> Result<E, List<R>> traverse(Collection<? extends T> values,
+                                                 Function<? super T, Result<E, R>> f,
+                                                 ForkJoinPool pool) {
+        if (values.isEmpty()) {
+            return Result.success(List.of());
+        }
+        ParallelTraverse<T, E, R> traverse = new ParallelTraverse<>(values.toArray(), f, pool.getParallelism());
+        pool.invoke(traverse.new RangeAction(0, traverse.values.length));
+
+        Failure<E> first = traverse.failure.get();
+        if (first != null) {
+            return Utils.cast(first.error());
+        }
+        List<R> list = Utils.cast(Arrays.asList(traverse.transformed));
+        return Result.success(Collections.unmodifiableList(list));
+    }
+
+    private boolean isFailedBefore(int index) {
+        Failure<E> current = failure.get();
+        return current != null && current.index() < index;
+    }
+
+    private void fail(int index, Result<E, R> error) {
+        Failure<E> candidate = new Failure<>(index, error);
+        Failure<E> current;
+        do {
+            current = failure.get();
+            if (current != null && current.index() < index) {
+                return;
+            }
+        } while (!failure.compareAndSet(current, candidate));
+    }
+
+    /**
+     * First found error and its index.
+     */
+    private record Failure<E>(int index, Result<E, ?> error) {
+    }
+
+    /**
+     * Action to transform values in range {@code [from, to)}.
+     */
+    private final class RangeAction extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        RangeAction(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (isFailedBefore(from)) {
+                return;
+            }
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(from, middle), new RangeAction(middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (isFailedBefore(i)) {
+                    return;
+                }
+                T value = Utils.cast(values[i]);
+                Result<E, R> result = f.apply(value);
+                if (result instanceof Result.Ok<E, R>(var success)) {
+                    transformed[i] = success;
+                } else {
+                    fail(i, result);
+                    return;
+                }
+            }
+        }
+    }
+}
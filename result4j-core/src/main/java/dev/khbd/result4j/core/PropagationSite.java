@@ -0,0 +1,54 @@
+package dev.khbd.result4j.core;
+
+import java.util.List;
+
+/**
+ * Unwrap site error result has been propagated through.
+ *
+ * <p>Site refers to the site error result was propagated through before, so sites
+ * of one error form an immutable chain from the last site to the first one.
+ * Chain is shared between error results, so each propagation allocates a single site.
+ *
+ * @author Sergei Khadanovich
+ */
+final class PropagationSite {
+
+    private final String className;
+    private final String methodName;
+    private final String fileName;
+    private final int line;
+    private final PropagationSite previous;
+    private final int depth;
+
+    PropagationSite(String className, String methodName, String fileName, int line, PropagationSite previous) {
+        this.className = className;
+        this.methodName = methodName;
+        this.fileName = fileName;
+        this.line = line;
+        this.previous = previous;
+        this.depth = previous == null ? 1 : previous.depth + 1;
+    }
+
+    /**
+     * Number of sites in chain ending with this site.
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Get chain ending with this site as stack trace elements.
+     *
+     * @return unmodifiable list of sites from the first one to this one
+     */
+    List<StackTraceElement> trace() {
+        StackTraceElement[] elements = new StackTraceElement[depth];
+        PropagationSite current = this;
+        for (int i = depth - 1; i >= 0; i--) {
+            elements[i] = new StackTraceElement(current.className, current.methodName, current.fileName, current.line);
+            current = current.previous;
+        }
+        return List.of(elements);
+    }
+
+}
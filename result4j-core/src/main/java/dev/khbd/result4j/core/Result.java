@@ -4,14 +4,18 @@ import static dev.khbd.result4j.core.Utils.ERROR_MESSAGE;
 import static dev.khbd.result4j.core.Utils.cast;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -20,17 +24,26 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Result data type.
  *
+ * <p>Result is either {@link Ok} with success value or {@link Error} with error value,
+ * so it can be used in pattern matching.
+ * <pre>{@code
+ *     String message = switch (result) {
+ *         case Result.Ok(var value) -> "Value is " + value;
+ *         case Result.Error(var error) -> "Error is " + error;
+ *     };
+ * }</pre>
+ *
  * @param <E> error value type
  * @param <R> success value type
  * @author Sergei Khadanovich
  */
-public interface Result<E, R> {
+public sealed interface Result<E, R> permits Result.Ok, Result.Error {
 
     /**
      * Is result error.
@@ -192,10 +205,10 @@ public interface Result<E, R> {
      *
      *      // is going to be transformed into several statements
      *      Result<String, Integer> $$rev = divide(num, den);
-     *      if ($$rev.isError()) {
-     *          return Result.error($$rev.getError());
+     *      if (!($$rev instanceof Result.Ok(var $$revVal))) {
+     *          return Result.propagate($$rev);
      *      }
-     *      Integer result = $$rev.get();
+     *      Integer result = $$revVal;
      * }</pre>
      */
     default R unwrap() {
@@ -207,9 +220,7 @@ public interface Result<E, R> {
      *
      * @param other result recovering result instance
      */
-    default Result<E, R> orElse(@NonNull Result<? extends E, ? extends R> other) {
-        return orElse(__ -> other);
-    }
+    Result<E, R> orElse(Result<? extends E, ? extends R> other);
 
     /**
      * Recover result instance.
@@ -225,64 +236,134 @@ public interface Result<E, R> {
      */
     Result<R, E> swap();
 
+    /**
+     * Get unwrap sites error result has been propagated through.
+     *
+     * <p>Sites are recorded only if code is compiled with {@code trace=true} plugin option.
+     * Trace is carried by error result, so it is kept by transformations which keep the error,
+     * like {@link #map(Function)}, and by transformations which translate it,
+     * like {@link #mapError(Function)}.
+     *
+     * @return unmodifiable list of unwrap sites from the first one to the last one
+     * or empty list if result is success or it was not propagated with tracing
+     */
+    List<StackTraceElement> propagationTrace();
+
     /**
      * Drop success value.
      *
      * @return transformed result
      */
-    default Result<E, NoData> drop() {
-        return map(__ -> NoData.INSTANCE);
-    }
+    Result<E, NoData> drop();
 
     /**
      * Drop error value.
      *
      * @return transformed result
      */
-    default Result<NoData, R> dropError() {
-        return mapError(__ -> NoData.INSTANCE);
-    }
+    Result<NoData, R> dropError();
 
     /**
      * Convert result to option value.
      *
      * @return option
      */
-    default Option<R> toOption() {
-        return map(Option::some).getOrElse(Option.none());
-    }
+    Option<R> toOption();
 
     /**
      * Convert result to stream.
      *
      * @return stream
      */
-    default Stream<R> toStream() {
-        return map(Stream::of).getOrElse(Stream.empty());
-    }
+    Stream<R> toStream();
 
     /**
      * Create success result value.
      *
+     * <p>Results for {@link NoData}, booleans and small cached integer, long and character values
+     * are shared instances.
+     *
      * @param value success value
      * @param <E>   error type
      * @param <R>   success type
      * @return success result
      */
     static <E, R> Result<E, R> success(@NonNull R value) {
+        Metrics.successCreated();
+        Ok<?, ?> cached = CanonicalInstances.ok(value);
+        if (cached != null) {
+            return cast(cached);
+        }
         return new Ok<>(value);
     }
 
     /**
      * Create failure result value.
      *
+     * <p>Results for enum constants are shared instances, one per constant.
+     *
      * @param error error
      * @param <E>   error type
      * @param <R>   success type
      * @return error result
      */
     static <E, R> Result<E, R> error(@NonNull E error) {
-        return new Error<>(error);
+        return Error.create(error, "Result.error");
+    }
+
+    /**
+     * Propagate error result with another success type.
+     *
+     * <p>The same error instance is returned, so propagation does not allocate.
+     * This method is used by code generated for unwrap calls.
+     *
+     * @param result error result
+     * @param <E>    error type
+     * @param <R>    success type
+     * @return the same error result
+     * @throws IllegalStateException if result is success
+     */
+    static <E, R> Result<E, R> propagate(@NonNull Result<? extends E, ?> result) {
+        if (result.isSuccess()) {
+            throw new IllegalStateException("Result is success");
+        }
+        Events.errorPropagated(result);
+        // This cast is correct because error result does not contain success value
+        // and <E> is at a covariant position.
+        return cast(result);
+    }
+
+    /**
+     * Propagate error result with another success type and record unwrap site.
+     *
+     * <p>This method is used by code generated for unwrap calls if tracing is enabled.
+     * New error result with the same error value is returned and recorded site is available
+     * through {@link #propagationTrace()}. Site is linked to sites of propagated result,
+     * so propagation allocates a site and an error result instead of filling a stack trace.
+     * Success path is not affected.
+     *
+     * @param result     error result
+     * @param className  class name of unwrap site
+     * @param methodName method name of unwrap site
+     * @param fileName   source file name of unwrap site
+     * @param line       line number of unwrap site
+     * @param <E>        error type
+     * @param <R>        success type
+     * @return error result with the same error value
+     * @throws IllegalStateException if result is success
+     */
+    static <E, R> Result<E, R> propagate(@NonNull Result<? extends E, ?> result,
+                                         @NonNull String className,
+                                         @NonNull String methodName,
+                                         String fileName,
+                                         int line) {
+        if (!(result instanceof Error<? extends E, ?> error)) {
+            throw new IllegalStateException("Result is success");
+        }
+        PropagationSite site = new PropagationSite(className, methodName, fileName, line, error.site());
+        Error<E, R> propagated = Error.traced(error.error(), site);
+        Events.errorPropagated(propagated, site.depth());
+        return propagated;
     }
 
     /**
@@ -295,7 +376,10 @@ public interface Result<E, R> {
      * @return result
      */
     static <E, R> Result<E, R> fromOption(@NonNull Option<R> option, @NonNull E error) {
-        return fromOption(option, () -> error);
+        if (option instanceof Option.Some<R>(var value)) {
+            return success(value);
+        }
+        return Error.create(error, "Result.fromOption");
     }
 
     /**
@@ -308,8 +392,10 @@ public interface Result<E, R> {
      * @return result
      */
     static <E, R> Result<E, R> fromOption(@NonNull Option<R> option, @NonNull Supplier<E> errorF) {
-        return option.map(Result::<E, R>success)
-                .getOrElse(() -> Result.error(errorF.get()));
+        if (option instanceof Option.Some<R>(var value)) {
+            return success(value);
+        }
+        return Error.create(errorF.get(), "Result.fromOption");
     }
 
     /**
@@ -323,7 +409,7 @@ public interface Result<E, R> {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static <E, R> Result<E, R> fromOptional(@NonNull Optional<R> option, @NonNull E error) {
-        return fromOptional(option, () -> error);
+        return option.isPresent() ? success(option.get()) : Error.create(error, "Result.fromOptional");
     }
 
     /**
@@ -337,8 +423,7 @@ public interface Result<E, R> {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static <E, R> Result<E, R> fromOptional(@NonNull Optional<R> option, @NonNull Supplier<E> errorF) {
-        return option.map(Result::<E, R>success)
-                .orElseGet(() -> Result.error(errorF.get()));
+        return option.isPresent() ? success(option.get()) : Error.create(errorF.get(), "Result.fromOptional");
     }
 
     /**
@@ -351,7 +436,7 @@ public interface Result<E, R> {
      * @return result
      */
     static <E, R> Result<E, R> fromNullable(R value, @NonNull E error) {
-        return fromNullable(value, () -> error);
+        return Objects.isNull(value) ? Error.create(error, "Result.fromNullable") : Result.success(value);
     }
 
     /**
@@ -364,7 +449,7 @@ public interface Result<E, R> {
      * @return result
      */
     static <E, R> Result<E, R> fromNullable(R value, @NonNull Supplier<E> errorF) {
-        return Objects.isNull(value) ? Result.error(errorF.get()) : Result.success(value);
+        return Objects.isNull(value) ? Error.create(errorF.get(), "Result.fromNullable") : Result.success(value);
     }
 
     /**
@@ -378,7 +463,7 @@ public interface Result<E, R> {
             code.run();
             return Result.success(NoData.INSTANCE);
         } catch (Exception e) {
-            return Result.error(e);
+            return Error.create(e, "Result.fromErroneous");
         }
     }
 
@@ -393,17 +478,23 @@ public interface Result<E, R> {
         try {
             return Result.success(code.call());
         } catch (Exception e) {
-            return Result.error(e);
+            return Error.create(e, "Result.fromErroneous");
         }
     }
 
     /**
      * Create sequence collector.
      *
-     * @param <E> result error type
-     * @param <R> result value type
-     * @param <A> downstream accumulator type
-     * @param <U> downstream result type
+     * <p>Success values are accumulated directly into downstream container.
+     * The first error in encounter order is latched, so all subsequent results are skipped.
+     * Note, that collector still consumes the whole stream. Use {@link #takeUntilError(Stream)}
+     * to stop pulling elements from upstream after the first error.
+     *
+     * @param downstream downstream collector
+     * @param <E>        result error type
+     * @param <R>        result value type
+     * @param <A>        downstream accumulator type
+     * @param <U>        downstream result type
      * @return sequence collector
      */
     static <E, R, A, U> Collector<Result<E, R>, ?, Result<E, U>> sequencing(@NonNull Collector<? super R, A, U> downstream) {
@@ -412,32 +503,237 @@ public interface Result<E, R> {
         BinaryOperator<A> combiner = downstream.combiner();
         Function<A, U> finisher = downstream.finisher();
 
-        return Collector.<Result<E, R>, Ref<Result<E, A>>, Result<E, U>>of(
-                () -> new Ref<>(Result.success(supplier.get())),
-                (ref, result) -> {
-                    ref.ref = Result.ap(ref.ref, result).apply((acc, r) -> {
-                        accumulator.accept(acc, r);
-                        return acc;
-                    });
+        return Collector.<Result<E, R>, SequenceState<A, Result<E, R>>, Result<E, U>>of(
+                () -> new SequenceState<>(supplier.get()),
+                (state, result) -> {
+                    if (state.isFailed()) {
+                        return;
+                    }
+                    if (result instanceof Ok<E, R>(var value)) {
+                        accumulator.accept(state.container(), value);
+                    } else {
+                        state.fail(result);
+                    }
                 },
-                (ref1, ref2) -> new Ref<>(Result.ap(ref1.ref, ref2.ref).apply(combiner)),
-                ref -> ref.ref.map(finisher)
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> finish(state, finisher)
         );
     }
 
     /**
      * Create traverse collector.
      *
-     * @param <E> original stream element type
-     * @param <L> result error type
-     * @param <R> result success type
-     * @param <A> downstream accumulator type
-     * @param <U> downstream result type
+     * <p>Mapper function is not invoked for elements after the first error.
+     *
+     * @param f          mapper function
+     * @param downstream downstream collector
+     * @param <E>        original stream element type
+     * @param <L>        result error type
+     * @param <R>        result success type
+     * @param <A>        downstream accumulator type
+     * @param <U>        downstream result type
      * @return sequence collector
      */
     static <E, L, R, A, U> Collector<E, ?, Result<L, U>> traversing(@NonNull Function<? super E, Result<L, R>> f,
                                                                     @NonNull Collector<? super R, A, U> downstream) {
-        return Collectors.mapping(f, sequencing(downstream));
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super R> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, U> finisher = downstream.finisher();
+
+        return Collector.<E, SequenceState<A, Result<L, R>>, Result<L, U>>of(
+                () -> new SequenceState<>(supplier.get()),
+                (state, element) -> {
+                    if (state.isFailed()) {
+                        return;
+                    }
+                    Result<L, R> result = f.apply(element);
+                    if (result instanceof Ok<L, R>(var value)) {
+                        accumulator.accept(state.container(), value);
+                    } else {
+                        state.fail(result);
+                    }
+                },
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> finish(state, finisher)
+        );
+    }
+
+    private static <E, R, A, U> Result<E, U> finish(SequenceState<A, Result<E, R>> state, Function<A, U> finisher) {
+        if (state.isFailed()) {
+            return cast(state.failure());
+        }
+        return success(finisher.apply(state.container()));
+    }
+
+    /**
+     * Truncate stream after the first error.
+     *
+     * <p>Returned stream contains all success results preceding the first error and the error itself.
+     * Elements after the first error are never pulled from original stream, so
+     * <pre>{@code
+     *     Result.takeUntilError(rows.map(Row::parse)).collect(Result.sequencing(Collectors.toList()))
+     * }</pre>
+     * stops reading rows as soon as one of them is failed to parse.
+     *
+     * <p>Returned stream cannot be split, so it is processed sequentially even if it is parallel.
+     * Closing returned stream closes original one.
+     *
+     * @param stream results stream
+     * @param <E>    result error type
+     * @param <R>    result value type
+     * @return truncated stream
+     */
+    static <E, R> Stream<Result<E, R>> takeUntilError(@NonNull Stream<Result<E, R>> stream) {
+        var spliterator = new UntilFailureSpliterator<>(stream.spliterator(), Result::isError);
+        return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Transform each value with function and collect success values into list.
+     *
+     * <p>Values are traversed without streams, so for small and medium lists
+     * this method is cheaper than {@link #traversing(Function, Collector)}.
+     * Function is not invoked for values after the first error.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    result error type
+     * @param <R>    result success type
+     * @return first error or success with unmodifiable list of transformed values
+     */
+    static <T, E, R> Result<E, List<R>> traverse(@NonNull List<? extends T> values,
+                                                 @NonNull Function<? super T, Result<E, R>> f) {
+        if (!(values instanceof RandomAccess)) {
+            return traverse((Iterable<? extends T>) values, f);
+        }
+        int size = values.size();
+        List<R> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Result<E, R> result = f.apply(values.get(i));
+            if (!(result instanceof Ok<E, R>(var value))) {
+                return cast(result);
+            }
+            list.add(value);
+        }
+        return success(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Transform each value with function and collect success values into list.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    result error type
+     * @param <R>    result success type
+     * @return first error or success with unmodifiable list of transformed values
+     * @see #traverse(List, Function)
+     */
+    static <T, E, R> Result<E, List<R>> traverse(@NonNull T[] values,
+                                                 @NonNull Function<? super T, Result<E, R>> f) {
+        List<R> list = new ArrayList<>(values.length);
+        for (T element : values) {
+            Result<E, R> result = f.apply(element);
+            if (!(result instanceof Ok<E, R>(var value))) {
+                return cast(result);
+            }
+            list.add(value);
+        }
+        return success(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Transform each value with function and collect success values into list.
+     *
+     * <p>List is pre-sized if values are a {@link Collection}.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    result error type
+     * @param <R>    result success type
+     * @return first error or success with unmodifiable list of transformed values
+     * @see #traverse(List, Function)
+     */
+    static <T, E, R> Result<E, List<R>> traverse(@NonNull Iterable<? extends T> values,
+                                                 @NonNull Function<? super T, Result<E, R>> f) {
+        List<R> list = values instanceof Collection<?> collection
+                ? new ArrayList<>(collection.size())
+                : new ArrayList<>();
+        for (T element : values) {
+            Result<E, R> result = f.apply(element);
+            if (!(result instanceof Ok<E, R>(var value))) {
+                return cast(result);
+            }
+            list.add(value);
+        }
+        return success(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Collect success values into list.
+     *
+     * @param results results
+     * @param <E>     result error type
+     * @param <R>     result success type
+     * @return first error or success with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Result<E, List<R>> sequence(@NonNull List<? extends Result<E, R>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Collect success values into list.
+     *
+     * @param results results
+     * @param <E>     result error type
+     * @param <R>     result success type
+     * @return first error or success with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Result<E, List<R>> sequence(@NonNull Result<E, R>[] results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Collect success values into list.
+     *
+     * @param results results
+     * @param <E>     result error type
+     * @param <R>     result success type
+     * @return first error or success with unmodifiable list of values
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Result<E, List<R>> sequence(@NonNull Iterable<? extends Result<E, R>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Transform each value with function in parallel and collect success values into list.
+     *
+     * <p>Values are split recursively into ranges, which are transformed on the given pool.
+     * Order of transformed values is the same as collection iteration order.
+     * As soon as an error is found, pending ranges located after it are skipped,
+     * so function is not invoked for most of remaining values. Returned error is always
+     * the first one in collection order, so the result does not depend on scheduling.
+     *
+     * <p>Function must be thread-safe. If function throws an exception, it is rethrown to the caller.
+     *
+     * @param values values
+     * @param f      function
+     * @param pool   pool to run transformation on
+     * @param <T>    value type
+     * @param <E>    result error type
+     * @param <R>    result success type
+     * @return first error or success with unmodifiable list of transformed values
+     */
+    static <T, E, R> Result<E, List<R>> traverseParallel(@NonNull Collection<? extends T> values,
+                                                         @NonNull Function<? super T, Result<E, R>> f,
+                                                         @NonNull ForkJoinPool pool) {
+        return ParallelTraverse.traverse(values, f, pool);
     }
 
     /**
@@ -466,6 +762,429 @@ public interface Result<E, R> {
         return new ResultApply2<>(cast(result1), cast(result2));
     }
 
+    /**
+     * Combine three results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     */
+    static <E, R1, R2, R3> ResultApply3<E, R1, R2, R3> ap(@NonNull Result<? extends E, R1> result1,
+                                                          @NonNull Result<? extends E, R2> result2,
+                                                          @NonNull Result<? extends E, R3> result3) {
+        return new ResultApply3<>(cast(result1), cast(result2), cast(result3));
+    }
+
+    /**
+     * Combine four results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     */
+    static <E, R1, R2, R3, R4> ResultApply4<E, R1, R2, R3, R4> ap(@NonNull Result<? extends E, R1> result1,
+                                                                  @NonNull Result<? extends E, R2> result2,
+                                                                  @NonNull Result<? extends E, R3> result3,
+                                                                  @NonNull Result<? extends E, R4> result4) {
+        return new ResultApply4<>(cast(result1), cast(result2), cast(result3), cast(result4));
+    }
+
+    /**
+     * Combine five results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     */
+    static <E, R1, R2, R3, R4, R5> ResultApply5<E, R1, R2, R3, R4, R5> ap(@NonNull Result<? extends E, R1> result1,
+                                                                          @NonNull Result<? extends E, R2> result2,
+                                                                          @NonNull Result<? extends E, R3> result3,
+                                                                          @NonNull Result<? extends E, R4> result4,
+                                                                          @NonNull Result<? extends E, R5> result5) {
+        return new ResultApply5<>(cast(result1), cast(result2), cast(result3), cast(result4), cast(result5));
+    }
+
+    /**
+     * Combine six results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     */
+    static <E, R1, R2, R3, R4, R5, R6> ResultApply6<E, R1, R2, R3, R4, R5, R6> ap(@NonNull Result<? extends E, R1> result1,
+                                                                                  @NonNull Result<? extends E, R2> result2,
+                                                                                  @NonNull Result<? extends E, R3> result3,
+                                                                                  @NonNull Result<? extends E, R4> result4,
+                                                                                  @NonNull Result<? extends E, R5> result5,
+                                                                                  @NonNull Result<? extends E, R6> result6) {
+        return new ResultApply6<>(cast(result1), cast(result2), cast(result3), cast(result4), cast(result5), cast(result6));
+    }
+
+    /**
+     * Combine seven results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     * @param result7 seventh result
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7> ResultApply7<E, R1, R2, R3, R4, R5, R6, R7> ap(@NonNull Result<? extends E, R1> result1,
+                                                                                          @NonNull Result<? extends E, R2> result2,
+                                                                                          @NonNull Result<? extends E, R3> result3,
+                                                                                          @NonNull Result<? extends E, R4> result4,
+                                                                                          @NonNull Result<? extends E, R5> result5,
+                                                                                          @NonNull Result<? extends E, R6> result6,
+                                                                                          @NonNull Result<? extends E, R7> result7) {
+        return new ResultApply7<>(cast(result1), cast(result2), cast(result3), cast(result4), cast(result5), cast(result6), cast(result7));
+    }
+
+    /**
+     * Combine eight results into single one.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     * @param result7 seventh result
+     * @param result8 eighth result
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7, R8> ResultApply8<E, R1, R2, R3, R4, R5, R6, R7, R8> ap(@NonNull Result<? extends E, R1> result1,
+                                                                                                  @NonNull Result<? extends E, R2> result2,
+                                                                                                  @NonNull Result<? extends E, R3> result3,
+                                                                                                  @NonNull Result<? extends E, R4> result4,
+                                                                                                  @NonNull Result<? extends E, R5> result5,
+                                                                                                  @NonNull Result<? extends E, R6> result6,
+                                                                                                  @NonNull Result<? extends E, R7> result7,
+                                                                                                  @NonNull Result<? extends E, R8> result8) {
+        return new ResultApply8<>(cast(result1), cast(result2), cast(result3), cast(result4), cast(result5), cast(result6), cast(result7), cast(result8));
+    }
+
+    /**
+     * Combine two results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                          @NonNull Result<? extends E, R2> result2,
+                                          @NonNull BiFunction<? super R1, ? super R2, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        return success(f.apply(r1, r2));
+    }
+
+    /**
+     * Combine three results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                              @NonNull Result<? extends E, R2> result2,
+                                              @NonNull Result<? extends E, R3> result3,
+                                              @NonNull Function3<? super R1, ? super R2, ? super R3, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        return success(f.apply(r1, r2, r3));
+    }
+
+    /**
+     * Combine four results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R4>    fourth success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R4, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                                  @NonNull Result<? extends E, R2> result2,
+                                                  @NonNull Result<? extends E, R3> result3,
+                                                  @NonNull Result<? extends E, R4> result4,
+                                                  @NonNull Function4<? super R1, ? super R2, ? super R3, ? super R4, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        if (!(result4 instanceof Ok<? extends E, R4>(var r4))) {
+            return cast(result4);
+        }
+        return success(f.apply(r1, r2, r3, r4));
+    }
+
+    /**
+     * Combine five results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R4>    fourth success type
+     * @param <R5>    fifth success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R4, R5, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                                      @NonNull Result<? extends E, R2> result2,
+                                                      @NonNull Result<? extends E, R3> result3,
+                                                      @NonNull Result<? extends E, R4> result4,
+                                                      @NonNull Result<? extends E, R5> result5,
+                                                      @NonNull Function5<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        if (!(result4 instanceof Ok<? extends E, R4>(var r4))) {
+            return cast(result4);
+        }
+        if (!(result5 instanceof Ok<? extends E, R5>(var r5))) {
+            return cast(result5);
+        }
+        return success(f.apply(r1, r2, r3, r4, r5));
+    }
+
+    /**
+     * Combine six results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R4>    fourth success type
+     * @param <R5>    fifth success type
+     * @param <R6>    sixth success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                                          @NonNull Result<? extends E, R2> result2,
+                                                          @NonNull Result<? extends E, R3> result3,
+                                                          @NonNull Result<? extends E, R4> result4,
+                                                          @NonNull Result<? extends E, R5> result5,
+                                                          @NonNull Result<? extends E, R6> result6,
+                                                          @NonNull Function6<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        if (!(result4 instanceof Ok<? extends E, R4>(var r4))) {
+            return cast(result4);
+        }
+        if (!(result5 instanceof Ok<? extends E, R5>(var r5))) {
+            return cast(result5);
+        }
+        if (!(result6 instanceof Ok<? extends E, R6>(var r6))) {
+            return cast(result6);
+        }
+        return success(f.apply(r1, r2, r3, r4, r5, r6));
+    }
+
+    /**
+     * Combine seven results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     * @param result7 seventh result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R4>    fourth success type
+     * @param <R5>    fifth success type
+     * @param <R6>    sixth success type
+     * @param <R7>    seventh success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                                              @NonNull Result<? extends E, R2> result2,
+                                                              @NonNull Result<? extends E, R3> result3,
+                                                              @NonNull Result<? extends E, R4> result4,
+                                                              @NonNull Result<? extends E, R5> result5,
+                                                              @NonNull Result<? extends E, R6> result6,
+                                                              @NonNull Result<? extends E, R7> result7,
+                                                              @NonNull Function7<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        if (!(result4 instanceof Ok<? extends E, R4>(var r4))) {
+            return cast(result4);
+        }
+        if (!(result5 instanceof Ok<? extends E, R5>(var r5))) {
+            return cast(result5);
+        }
+        if (!(result6 instanceof Ok<? extends E, R6>(var r6))) {
+            return cast(result6);
+        }
+        if (!(result7 instanceof Ok<? extends E, R7>(var r7))) {
+            return cast(result7);
+        }
+        return success(f.apply(r1, r2, r3, r4, r5, r6, r7));
+    }
+
+    /**
+     * Combine eight results with function.
+     *
+     * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+     * Results are combined in one step, so no intermediate object is created.
+     *
+     * @param result1 first result
+     * @param result2 second result
+     * @param result3 third result
+     * @param result4 fourth result
+     * @param result5 fifth result
+     * @param result6 sixth result
+     * @param result7 seventh result
+     * @param result8 eighth result
+     * @param f       combine function
+     * @param <E>     error type
+     * @param <R1>    first success type
+     * @param <R2>    second success type
+     * @param <R3>    third success type
+     * @param <R4>    fourth success type
+     * @param <R5>    fifth success type
+     * @param <R6>    sixth success type
+     * @param <R7>    seventh success type
+     * @param <R8>    eighth success type
+     * @param <R>     combined success type
+     * @return combined result
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7, R8, R> Result<E, R> ap(@NonNull Result<? extends E, R1> result1,
+                                                                  @NonNull Result<? extends E, R2> result2,
+                                                                  @NonNull Result<? extends E, R3> result3,
+                                                                  @NonNull Result<? extends E, R4> result4,
+                                                                  @NonNull Result<? extends E, R5> result5,
+                                                                  @NonNull Result<? extends E, R6> result6,
+                                                                  @NonNull Result<? extends E, R7> result7,
+                                                                  @NonNull Result<? extends E, R8> result8,
+                                                                  @NonNull Function8<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, ? super R8, R> f) {
+        if (!(result1 instanceof Ok<? extends E, R1>(var r1))) {
+            return cast(result1);
+        }
+        if (!(result2 instanceof Ok<? extends E, R2>(var r2))) {
+            return cast(result2);
+        }
+        if (!(result3 instanceof Ok<? extends E, R3>(var r3))) {
+            return cast(result3);
+        }
+        if (!(result4 instanceof Ok<? extends E, R4>(var r4))) {
+            return cast(result4);
+        }
+        if (!(result5 instanceof Ok<? extends E, R5>(var r5))) {
+            return cast(result5);
+        }
+        if (!(result6 instanceof Ok<? extends E, R6>(var r6))) {
+            return cast(result6);
+        }
+        if (!(result7 instanceof Ok<? extends E, R7>(var r7))) {
+            return cast(result7);
+        }
+        if (!(result8 instanceof Ok<? extends E, R8>(var r8))) {
+            return cast(result8);
+        }
+        return success(f.apply(r1, r2, r3, r4, r5, r6, r7, r8));
+    }
+
     /**
      * Intermediate class to combine two result values.
      *
@@ -487,178 +1206,556 @@ public interface Result<E, R> {
          * @return combined result
          */
         public <R> Result<E, R> apply(@NonNull BiFunction<? super R1, ? super R2, R> f) {
-            return result1.flatMap(r1 -> result2.map(r2 -> f.apply(r1, r2)));
+            return ap(result1, result2, f);
         }
     }
-}
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor
-final class Error<E, R> implements Result<E, R> {
+    /**
+     * Intermediate class to combine three result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply3<E, R1, R2, R3> {
 
-    private final E error;
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
 
-    @Override
-    public boolean isError() {
-        return true;
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function3<? super R1, ? super R2, ? super R3, R> f) {
+            return ap(result1, result2, result3, f);
+        }
     }
 
-    @Override
-    public R get() {
-        throw new IllegalStateException("Result is error");
-    }
+    /**
+     * Intermediate class to combine four result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     * @param <R4> fourth success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply4<E, R1, R2, R3, R4> {
 
-    @Override
-    public R getOrElse(@NonNull R other) {
-        return other;
-    }
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
+        private final Result<E, R4> result4;
 
-    @Override
-    public R getOrElse(@NonNull Function<? super E, ? extends R> other) {
-        return other.apply(error);
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function4<? super R1, ? super R2, ? super R3, ? super R4, R> f) {
+            return ap(result1, result2, result3, result4, f);
+        }
     }
 
-    @Override
-    public <T extends Throwable> R getOrThrow(@NonNull Function<? super E, T> errorF) throws T {
-        throw errorF.apply(error);
-    }
+    /**
+     * Intermediate class to combine five result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     * @param <R4> fourth success type
+     * @param <R5> fifth success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply5<E, R1, R2, R3, R4, R5> {
 
-    @Override
-    public E getError() {
-        return error;
-    }
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
+        private final Result<E, R4> result4;
+        private final Result<E, R5> result5;
 
-    @Override
-    public <V> Result<E, V> map(@NonNull Function<? super R, V> f) {
-        return cast(this);
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function5<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, R> f) {
+            return ap(result1, result2, result3, result4, result5, f);
+        }
     }
 
-    @Override
-    public <V> Result<E, V> flatMap(@NonNull Function<? super R, Result<? extends E, V>> f) {
-        return cast(this);
-    }
+    /**
+     * Intermediate class to combine six result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     * @param <R4> fourth success type
+     * @param <R5> fifth success type
+     * @param <R6> sixth success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply6<E, R1, R2, R3, R4, R5, R6> {
 
-    @Override
-    public <O> Result<O, R> mapError(@NonNull Function<? super E, O> f) {
-        return Result.error(f.apply(error));
-    }
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
+        private final Result<E, R4> result4;
+        private final Result<E, R5> result5;
+        private final Result<E, R6> result6;
 
-    @Override
-    public <O, V> Result<O, V> bimap(@NonNull Function<? super E, O> errorF, @NonNull Function<? super R, V> successF) {
-        return Result.error(errorF.apply(error));
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function6<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, R> f) {
+            return ap(result1, result2, result3, result4, result5, result6, f);
+        }
     }
 
-    @Override
-    public Result<E, R> filter(@NonNull Predicate<? super R> predicate, @NonNull Supplier<? extends E> errorF) {
-        return this;
-    }
+    /**
+     * Intermediate class to combine seven result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     * @param <R4> fourth success type
+     * @param <R5> fifth success type
+     * @param <R6> sixth success type
+     * @param <R7> seventh success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply7<E, R1, R2, R3, R4, R5, R6, R7> {
 
-    @Override
-    public Result<R, E> swap() {
-        return Result.success(error);
-    }
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
+        private final Result<E, R4> result4;
+        private final Result<E, R5> result5;
+        private final Result<E, R6> result6;
+        private final Result<E, R7> result7;
 
-    @Override
-    public Result<E, R> peek(Consumer<? super R> f) {
-        return this;
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function7<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, R> f) {
+            return ap(result1, result2, result3, result4, result5, result6, result7, f);
+        }
     }
 
-    @Override
-    public Result<E, R> peekError(Consumer<? super E> f) {
-        f.accept(error);
-        return this;
-    }
+    /**
+     * Intermediate class to combine eight result values.
+     *
+     * @param <E>  error type
+     * @param <R1> first success type
+     * @param <R2> second success type
+     * @param <R3> third success type
+     * @param <R4> fourth success type
+     * @param <R5> fifth success type
+     * @param <R6> sixth success type
+     * @param <R7> seventh success type
+     * @param <R8> eighth success type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ResultApply8<E, R1, R2, R3, R4, R5, R6, R7, R8> {
+
+        private final Result<E, R1> result1;
+        private final Result<E, R2> result2;
+        private final Result<E, R3> result3;
+        private final Result<E, R4> result4;
+        private final Result<E, R5> result5;
+        private final Result<E, R6> result6;
+        private final Result<E, R7> result7;
+        private final Result<E, R8> result8;
 
-    @Override
-    public Result<E, R> orElse(@NonNull Function<? super E, Result<? extends E, ? extends R>> otherF) {
-        return cast(otherF.apply(error));
+        /**
+         * Apply combine function.
+         *
+         * <p>Function is invoked only if all results are success, otherwise the first error is returned.
+         *
+         * @param f   function
+         * @param <R> new result value type
+         * @return combined result
+         */
+        public <R> Result<E, R> apply(@NonNull Function8<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, ? super R8, R> f) {
+            return ap(result1, result2, result3, result4, result5, result6, result7, result8, f);
+        }
     }
-}
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor
-final class Ok<E, R> implements Result<E, R> {
+    /**
+     * Success result.
+     *
+     * @param value success value
+     * @param <E>   error type
+     * @param <R>   success type
+     */
+    record Ok<E, R>(@NonNull R value) implements Result<E, R> {
 
-    private final R value;
+        @Override
+        public boolean isError() {
+            return false;
+        }
 
-    @Override
-    public boolean isError() {
-        return false;
-    }
+        @Override
+        public R get() {
+            return value;
+        }
 
-    @Override
-    public R get() {
-        return value;
-    }
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return value;
+        }
 
-    @Override
-    public R getOrElse(@NonNull R other) {
-        return value;
-    }
+        @Override
+        public R getOrElse(@NonNull Function<? super E, ? extends R> other) {
+            return value;
+        }
 
-    @Override
-    public R getOrElse(@NonNull Function<? super E, ? extends R> other) {
-        return value;
-    }
+        @Override
+        public <T extends Throwable> R getOrThrow(@NonNull Function<? super E, T> errorF) throws T {
+            return value;
+        }
 
-    @Override
-    public <T extends Throwable> R getOrThrow(@NonNull Function<? super E, T> errorF) throws T {
-        return value;
-    }
+        @Override
+        public E getError() {
+            throw new IllegalStateException("Result is success");
+        }
 
-    @Override
-    public E getError() {
-        throw new IllegalStateException("Result is success");
-    }
+        @Override
+        public <V> Result<E, V> map(@NonNull Function<? super R, V> f) {
+            return Result.success(f.apply(value));
+        }
 
-    @Override
-    public <V> Result<E, V> map(@NonNull Function<? super R, V> f) {
-        return Result.success(f.apply(value));
-    }
+        @Override
+        public <V> Result<E, V> flatMap(@NonNull Function<? super R, Result<? extends E, V>> f) {
+            return cast(f.apply(value));
+        }
 
-    @Override
-    public <V> Result<E, V> flatMap(@NonNull Function<? super R, Result<? extends E, V>> f) {
-        return cast(f.apply(value));
-    }
+        @Override
+        public <O> Result<O, R> mapError(@NonNull Function<? super E, O> f) {
+            return cast(this);
+        }
 
-    @Override
-    public <O> Result<O, R> mapError(@NonNull Function<? super E, O> f) {
-        return cast(this);
-    }
+        @Override
+        public <O, V> Result<O, V> bimap(@NonNull Function<? super E, O> errorF, @NonNull Function<? super R, V> successF) {
+            return Result.success(successF.apply(value));
+        }
 
-    @Override
-    public <O, V> Result<O, V> bimap(@NonNull Function<? super E, O> errorF, @NonNull Function<? super R, V> successF) {
-        return Result.success(successF.apply(value));
-    }
+        @Override
+        public Result<E, R> filter(@NonNull Predicate<? super R> predicate, @NonNull Supplier<? extends E> errorF) {
+            if (predicate.test(value)) {
+                return this;
+            }
+            return Result.error(errorF.get());
+        }
+
+        @Override
+        public Result<R, E> swap() {
+            return Result.error(value);
+        }
 
-    @Override
-    public Result<E, R> filter(@NonNull Predicate<? super R> predicate, @NonNull Supplier<? extends E> errorF) {
-        if (predicate.test(value)) {
+        @Override
+        public Result<E, R> peek(Consumer<? super R> f) {
+            f.accept(value);
             return this;
         }
-        return Result.error(errorF.get());
-    }
 
-    @Override
-    public Result<R, E> swap() {
-        return Result.error(value);
-    }
+        @Override
+        public Result<E, R> peekError(Consumer<? super E> f) {
+            return this;
+        }
 
-    @Override
-    public Result<E, R> peek(Consumer<? super R> f) {
-        f.accept(value);
-        return this;
-    }
+        @Override
+        public Result<E, R> orElse(@NonNull Result<? extends E, ? extends R> other) {
+            return this;
+        }
+
+        @Override
+        public Result<E, R> orElse(@NonNull Function<? super E, Result<? extends E, ? extends R>> otherF) {
+            return this;
+        }
+
+        @Override
+        public Result<E, NoData> drop() {
+            return Result.success(NoData.INSTANCE);
+        }
+
+        @Override
+        public Result<NoData, R> dropError() {
+            return cast(this);
+        }
+
+        @Override
+        public Option<R> toOption() {
+            return Option.some(value);
+        }
+
+        @Override
+        public Stream<R> toStream() {
+            return Stream.of(value);
+        }
 
-    @Override
-    public Result<E, R> peekError(Consumer<? super E> f) {
-        return this;
+        @Override
+        public List<StackTraceElement> propagationTrace() {
+            return List.of();
+        }
     }
 
-    @Override
-    public Result<E, R> orElse(@NonNull Function<? super E, Result<? extends E, ? extends R>> otherF) {
-        return this;
+    /**
+     * Error result.
+     *
+     * @param error error value
+     * @param <E>   error type
+     * @param <R>   success type
+     */
+    record Error<E, R>(@NonNull E error) implements Result<E, R> {
+
+        /**
+         * Create error result and emit creation event.
+         *
+         * @param error  error value
+         * @param source method which creates error result
+         * @return error result
+         */
+        static <E, R> Result<E, R> create(@NonNull E error, String source) {
+            Events.errorCreated(error, source);
+            Metrics.errorCreated(error);
+            return of(error);
+        }
+
+        /**
+         * Create error result for error of another failed instance.
+         *
+         * <p>Creation event is not emitted and metrics hook is not invoked,
+         * because error has been counted when failed instance was created.
+         *
+         * @param error error value
+         * @return error result
+         */
+        static <E, R> Result<E, R> of(@NonNull E error) {
+            Error<?, ?> cached = CanonicalInstances.error(error);
+            if (cached != null) {
+                return cast(cached);
+            }
+            return new Error<>(error);
+        }
+
+        /**
+         * Create error result with unwrap site and emit creation event.
+         *
+         * <p>Only results without unwrap site are shared.
+         *
+         * @param error  error value
+         * @param source method which creates error result
+         * @param site   last unwrap site or {@literal null}
+         * @return error result
+         */
+        static <E, R> Result<E, R> create(@NonNull E error, String source, PropagationSite site) {
+            if (site == null) {
+                return create(error, source);
+            }
+            Events.errorCreated(error, source);
+            Metrics.errorCreated(error);
+            return traced(error, site);
+        }
+
+        /**
+         * Create error result with unwrap site.
+         *
+         * <p>Site is kept together with error value in the only record component,
+         * so error result is deconstructed the same way with and without tracing.
+         *
+         * @param error error value
+         * @param site  last unwrap site
+         * @return error result
+         */
+        static <E, R> Error<E, R> traced(@NonNull E error, @NonNull PropagationSite site) {
+            return new Error<>(cast(new TracedError(error, site)));
+        }
+
+        @Override
+        public E error() {
+            if (error instanceof TracedError traced) {
+                return cast(traced.error());
+            }
+            return error;
+        }
+
+        /**
+         * Get last unwrap site error has been propagated through.
+         *
+         * @return site or {@literal null} if error was not propagated with tracing
+         */
+        PropagationSite site() {
+            if (error instanceof TracedError traced) {
+                return traced.site();
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isError() {
+            return true;
+        }
+
+        @Override
+        public R get() {
+            throw new IllegalStateException("Result is error");
+        }
+
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return other;
+        }
+
+        @Override
+        public R getOrElse(@NonNull Function<? super E, ? extends R> other) {
+            return other.apply(error());
+        }
+
+        @Override
+        public <T extends Throwable> R getOrThrow(@NonNull Function<? super E, T> errorF) throws T {
+            throw errorF.apply(error());
+        }
+
+        @Override
+        public E getError() {
+            return error();
+        }
+
+        @Override
+        public <V> Result<E, V> map(@NonNull Function<? super R, V> f) {
+            return cast(this);
+        }
+
+        @Override
+        public <V> Result<E, V> flatMap(@NonNull Function<? super R, Result<? extends E, V>> f) {
+            return cast(this);
+        }
+
+        @Override
+        public <O> Result<O, R> mapError(@NonNull Function<? super E, O> f) {
+            return mapped(f.apply(error()));
+        }
+
+        @Override
+        public <O, V> Result<O, V> bimap(@NonNull Function<? super E, O> errorF, @NonNull Function<? super R, V> successF) {
+            return mapped(errorF.apply(error()));
+        }
+
+        @Override
+        public Result<E, R> filter(@NonNull Predicate<? super R> predicate, @NonNull Supplier<? extends E> errorF) {
+            return this;
+        }
+
+        @Override
+        public Result<R, E> swap() {
+            return Result.success(error());
+        }
+
+        @Override
+        public Result<E, R> peek(Consumer<? super R> f) {
+            return this;
+        }
+
+        @Override
+        public Result<E, R> peekError(Consumer<? super E> f) {
+            f.accept(error());
+            return this;
+        }
+
+        @Override
+        public Result<E, R> orElse(@NonNull Result<? extends E, ? extends R> other) {
+            return recovered(other);
+        }
+
+        @Override
+        public Result<E, R> orElse(@NonNull Function<? super E, Result<? extends E, ? extends R>> otherF) {
+            return recovered(otherF.apply(error()));
+        }
+
+        @Override
+        public Result<E, NoData> drop() {
+            return cast(this);
+        }
+
+        @Override
+        public Result<NoData, R> dropError() {
+            return create(NoData.INSTANCE, "Result.error", site());
+        }
+
+        @Override
+        public Option<R> toOption() {
+            return Option.none();
+        }
+
+        @Override
+        public Stream<R> toStream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public List<StackTraceElement> propagationTrace() {
+            PropagationSite site = site();
+            return site == null ? List.of() : site.trace();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || other instanceof Error<?, ?> that && error().equals(that.error());
+        }
+
+        @Override
+        public int hashCode() {
+            return error().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Error[error=" + error() + "]";
+        }
+
+        private <O, V> Result<O, V> mapped(O mappedError) {
+            Result<O, V> result = create(mappedError, "Result.error", site());
+            Metrics.errorMapped(error(), mappedError);
+            return result;
+        }
+
+        private Result<E, R> recovered(Result<? extends E, ? extends R> other) {
+            Metrics.errorRecovered(error(), other);
+            return cast(other);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,308 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous result.
+ *
+ * <p>Result future separates two kinds of failures: typed errors, which are represented
+ * by {@link Result.Error}, and thrown exceptions, which complete underlying future exceptionally.
+ * Typed errors are handled by {@link #mapError(Function)} and {@link #recover(Function)},
+ * exceptions are passed through all transformations and can be handled by {@link #recoverException(Function)}.
+ *
+ * <p>If result is already available, transformations are applied immediately without
+ * {@link CompletableFuture} machinery, so no completion stages are allocated. Transformations
+ * of failed results return the same instance.
+ *
+ * @param <E> error value type
+ * @param <R> success value type
+ * @author Sergei Khadanovich
+ */
+public final class ResultFuture<E, R> {
+
+    /**
+     * Available result or {@literal null} if it is not available yet.
+     */
+    private final Result<E, R> value;
+
+    /**
+     * Underlying future or {@literal null} if result is available.
+     */
+    private final CompletableFuture<Result<E, R>> future;
+
+    private ResultFuture(Result<E, R> value, CompletableFuture<Result<E, R>> future) {
+        this.value = value;
+        this.future = future;
+    }
+
+    /**
+     * Create completed result future.
+     *
+     * @param result result
+     * @param <E>    error type
+     * @param <R>    success type
+     * @return completed result future
+     */
+    public static <E, R> ResultFuture<E, R> completed(@NonNull Result<E, R> result) {
+        return new ResultFuture<>(result, null);
+    }
+
+    /**
+     * Create successfully completed result future.
+     *
+     * @param value success value
+     * @param <E>   error type
+     * @param <R>   success type
+     * @return completed result future
+     */
+    public static <E, R> ResultFuture<E, R> success(@NonNull R value) {
+        return completed(Result.success(value));
+    }
+
+    /**
+     * Create result future completed with error.
+     *
+     * @param error error value
+     * @param <E>   error type
+     * @param <R>   success type
+     * @return completed result future
+     */
+    public static <E, R> ResultFuture<E, R> error(@NonNull E error) {
+        return completed(Result.error(error));
+    }
+
+    /**
+     * Create result future from completion stage.
+     *
+     * @param stage completion stage, which must not be completed with {@literal null}
+     * @param <E>   error type
+     * @param <R>   success type
+     * @return result future
+     */
+    public static <E, R> ResultFuture<E, R> from(@NonNull CompletionStage<Result<E, R>> stage) {
+        return new ResultFuture<>(null, stage.toCompletableFuture());
+    }
+
+    /**
+     * Create result future computed asynchronously.
+     *
+     * @param supplier result supplier
+     * @param executor executor to run supplier on
+     * @param <E>      error type
+     * @param <R>      success type
+     * @return result future
+     */
+    public static <E, R> ResultFuture<E, R> supplyAsync(@NonNull Supplier<Result<E, R>> supplier,
+                                                        @NonNull Executor executor) {
+        return from(CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * Run erroneous code asynchronously.
+     *
+     * <p>Exceptions thrown by code are converted to typed errors as {@link Result#fromErroneous(Callable)} does.
+     *
+     * @param code     erroneous code
+     * @param executor executor to run code on
+     * @param <R>      success type
+     * @return result future
+     */
+    public static <R> ResultFuture<Exception, R> fromErroneous(@NonNull Callable<R> code,
+                                                               @NonNull Executor executor) {
+        return supplyAsync(() -> Result.fromErroneous(code), executor);
+    }
+
+    /**
+     * Map success value.
+     *
+     * @param f   mapping function
+     * @param <V> new success type
+     * @return mapped result future
+     */
+    public <V> ResultFuture<E, V> map(@NonNull Function<? super R, V> f) {
+        Result<E, R> now = now();
+        if (now instanceof Result.Ok<E, R>(var success)) {
+            try {
+                return completed(Result.success(f.apply(success)));
+            } catch (Throwable e) {
+                return failed(e);
+            }
+        }
+        if (now != null || isFailed()) {
+            return cast(this);
+        }
+        return new ResultFuture<>(null, future.thenApply(result -> result.map(f)));
+    }
+
+    /**
+     * Flat map success value.
+     *
+     * @param f   mapping function
+     * @param <V> new success type
+     * @return mapped result future
+     */
+    public <V> ResultFuture<E, V> flatMap(@NonNull Function<? super R, ResultFuture<? extends E, V>> f) {
+        Result<E, R> now = now();
+        if (now instanceof Result.Ok<E, R>(var success)) {
+            try {
+                return cast(f.apply(success));
+            } catch (Throwable e) {
+                return failed(e);
+            }
+        }
+        if (now != null || isFailed()) {
+            return cast(this);
+        }
+        return new ResultFuture<>(null, future.thenCompose(result -> {
+            if (result instanceof Result.Ok<E, R>(var success)) {
+                ResultFuture<E, V> next = cast(f.apply(success));
+                return next.underlying();
+            }
+            return CompletableFuture.<Result<E, V>>completedFuture(cast(result));
+        }));
+    }
+
+    /**
+     * Map error value.
+     *
+     * @param f   mapping function
+     * @param <O> new error type
+     * @return mapped result future
+     */
+    public <O> ResultFuture<O, R> mapError(@NonNull Function<? super E, O> f) {
+        Result<E, R> now = now();
+        if (now instanceof Result.Error<E, R> error) {
+            try {
+                return completed(error.mapError(f));
+            } catch (Throwable e) {
+                return failed(e);
+            }
+        }
+        if (now != null || isFailed()) {
+            return cast(this);
+        }
+        return new ResultFuture<>(null, future.thenApply(result -> result.mapError(f)));
+    }
+
+    /**
+     * Recover from error value.
+     *
+     * <p>Exceptions are not recovered, use {@link #recoverException(Function)} for them.
+     *
+     * @param f recover function
+     * @return recovered result future
+     */
+    public ResultFuture<E, R> recover(@NonNull Function<? super E, Result<? extends E, ? extends R>> f) {
+        Result<E, R> now = now();
+        if (now instanceof Result.Error<E, R>(var error)) {
+            try {
+                return completed(cast(f.apply(error)));
+            } catch (Throwable e) {
+                return failed(e);
+            }
+        }
+        if (now != null || isFailed()) {
+            return this;
+        }
+        return new ResultFuture<>(null, future.thenApply(result -> result.orElse(f)));
+    }
+
+    /**
+     * Recover from thrown exception.
+     *
+     * <p>Function receives exception thrown by computation, not wrapped into {@link CompletionException}.
+     *
+     * @param f recover function
+     * @return recovered result future
+     */
+    public ResultFuture<E, R> recoverException(@NonNull Function<? super Throwable, Result<E, R>> f) {
+        if (value != null || future.state() == Future.State.SUCCESS) {
+            return this;
+        }
+        return new ResultFuture<>(null, future.exceptionally(e -> f.apply(unwrap(e))));
+    }
+
+    /**
+     * Is result available.
+     *
+     * @return {@literal true} if result future is completed normally or exceptionally
+     */
+    public boolean isDone() {
+        return value != null || future.isDone();
+    }
+
+    /**
+     * Wait for result.
+     *
+     * @return result
+     * @throws CompletionException if computation threw an exception
+     */
+    public Result<E, R> join() {
+        if (value != null) {
+            return value;
+        }
+        return future.join();
+    }
+
+    /**
+     * Convert to completable future.
+     *
+     * <p>Returned future is a copy, so completing it does not change result of this result future.
+     *
+     * @return completable future
+     */
+    public CompletableFuture<Result<E, R>> toCompletableFuture() {
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return future.copy();
+    }
+
+    private CompletableFuture<Result<E, R>> underlying() {
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return future;
+    }
+
+    /**
+     * Get result if it is available.
+     *
+     * @return result or {@literal null} if result is not available or computation failed
+     */
+    private Result<E, R> now() {
+        if (value != null) {
+            return value;
+        }
+        if (future.state() == Future.State.SUCCESS) {
+            return future.resultNow();
+        }
+        return null;
+    }
+
+    private boolean isFailed() {
+        return future != null && future.state() == Future.State.FAILED;
+    }
+
+    private static <E, R> ResultFuture<E, R> failed(Throwable e) {
+        return new ResultFuture<>(null, CompletableFuture.failedFuture(e));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.khbd.result4j.core;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Result metrics listener.
+ *
+ * <p>Listeners are discovered once through {@link ServiceLoader}, when the first result is created.
+ * To register a listener, put its class name into
+ * {@code META-INF/services/dev.khbd.result4j.core.ResultMetrics}. For example,
+ * register {@link CountingResultMetrics} to count results and errors by error class.
+ *
+ * <p>Hooks are invoked by {@link Result} and its primitive specializations {@link IntResult},
+ * {@link LongResult} and {@link DoubleResult}. Options, including primitive ones, have no error value,
+ * so they are not counted.
+ *
+ * <p>If no listener is registered, hooks are not invoked, and the check whether a listener is
+ * registered reads a constant, so JIT compiler removes it completely.
+ *
+ * <p>Hooks are invoked on hot paths from any thread, so they must be thread-safe,
+ * must not block and must not throw exceptions.
+ *
+ * @author Sergei Khadanovich
+ */
+public interface ResultMetrics {
+
+    /**
+     * Success result is created.
+     */
+    default void successCreated() {
+    }
+
+    /**
+     * Error result is created.
+     *
+     * @param error error value
+     */
+    default void errorCreated(Object error) {
+    }
+
+    /**
+     * Error value is mapped to another error value.
+     *
+     * <p>Mapped error result is created as well, so {@link #errorCreated(Object)} is invoked
+     * for the new error value.
+     *
+     * @param from original error value
+     * @param to   new error value
+     */
+    default void errorMapped(Object from, Object to) {
+    }
+
+    /**
+     * Error result is recovered to success result by {@code orElse}.
+     *
+     * @param error recovered error value
+     */
+    default void errorRecovered(Object error) {
+    }
+
+    /**
+     * Get registered listeners.
+     *
+     * @return unmodifiable list of registered listeners in discovery order
+     */
+    static List<ResultMetrics> installed() {
+        return Metrics.INSTALLED;
+    }
+}
@@ -0,0 +1,242 @@
+package dev.khbd.result4j.core;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Scope to run result-producing tasks concurrently on virtual threads.
+ *
+ * <p>Each forked task runs on its own virtual thread. As soon as one task returns an error,
+ * throws an exception or the deadline is reached, all other tasks are interrupted
+ * and {@link #join()} returns immediately, so latency of the whole scope is the latency
+ * of the slowest task instead of the sum of them.
+ * <pre>{@code
+ *     try (var scope = ResultScope.<String>open(Duration.ofSeconds(1), () -> "timeout")) {
+ *         var user = scope.fork(() -> userService.find(id));
+ *         var orders = scope.fork(() -> orderService.find(id));
+ *         return scope.join().map(ok -> new Page(user.get(), orders.get()));
+ *     }
+ * }</pre>
+ *
+ * <p>Scope is owned by the thread which opened it, only this thread can fork tasks and join them.
+ * Tasks can not be forked after scope is joined or shut down, because a task failed,
+ * the deadline is reached or the scope is closed.
+ * Closing scope interrupts all unfinished tasks and waits for them to finish.
+ *
+ * @param <E> error type
+ * @author Sergei Khadanovich
+ */
+public final class ResultScope<E> implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("result-scope-", 0).factory()
+    );
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+
+    private final Thread owner = Thread.currentThread();
+    private final long deadline;
+    private final Supplier<? extends E> timeoutError;
+
+    private int pending;
+    private boolean shutdown;
+    private boolean joined;
+    private Result<E, ?> failure;
+    private Throwable exception;
+
+    private ResultScope(long deadline, Supplier<? extends E> timeoutError) {
+        this.deadline = deadline;
+        this.timeoutError = timeoutError;
+    }
+
+    /**
+     * Open scope without deadline.
+     *
+     * @param <E> error type
+     * @return scope
+     */
+    public static <E> ResultScope<E> open() {
+        return new ResultScope<>(Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Open scope with deadline.
+     *
+     * @param timeout      timeout to complete all tasks, counted from now
+     * @param timeoutError error to return if tasks are not completed in time
+     * @param <E>          error type
+     * @return scope
+     */
+    public static <E> ResultScope<E> open(@NonNull Duration timeout, @NonNull Supplier<? extends E> timeoutError) {
+        long now = System.nanoTime();
+        long nanos = timeout.toNanos();
+        long deadline = nanos >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + nanos;
+        return new ResultScope<>(deadline, timeoutError);
+    }
+
+    /**
+     * Start task on virtual thread.
+     *
+     * @param task task
+     * @param <R>  task success type
+     * @return subtask to get success value after join
+     * @throws IllegalStateException if current thread is not scope owner, scope is already joined
+     *                               or scope is shut down
+     */
+    public <R> Subtask<R> fork(@NonNull Callable<Result<E, R>> task) {
+        ensureOwner();
+        Subtask<R> subtask = new Subtask<>();
+        lock.lock();
+        try {
+            if (joined) {
+                throw new IllegalStateException("Scope is already joined");
+            }
+            if (shutdown) {
+                throw new IllegalStateException("Scope is shut down");
+            }
+            pending++;
+            executor.execute(() -> run(task, subtask));
+        } finally {
+            lock.unlock();
+        }
+        return subtask;
+    }
+
+    /**
+     * Wait for all tasks.
+     *
+     * @return success if all tasks are completed successfully, the first error returned by tasks
+     * or timeout error if deadline is reached
+     * @throws InterruptedException  if current thread is interrupted while waiting,
+     *                               scope is not joined in this case, so join can be invoked again
+     * @throws CompletionException   if any task has thrown an exception
+     * @throws IllegalStateException if current thread is not scope owner or scope is already joined
+     */
+    public Result<E, NoData> join() throws InterruptedException {
+        ensureOwner();
+        lock.lock();
+        try {
+            if (joined) {
+                throw new IllegalStateException("Scope is already joined");
+            }
+            // scope is marked joined only after waiting, so interrupted join can be repeated
+            while (pending > 0 && !shutdown) {
+                if (deadline == Long.MAX_VALUE) {
+                    completed.await();
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    joined = true;
+                    shutdown();
+                    return Result.error(timeoutError.get());
+                }
+                completed.awaitNanos(remaining);
+            }
+            joined = true;
+            if (exception != null) {
+                throw new CompletionException(exception);
+            }
+            if (failure != null) {
+                return Utils.cast(failure);
+            }
+            return Result.success(NoData.INSTANCE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Interrupt all unfinished tasks and wait for them to finish.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            shutdown();
+        } finally {
+            lock.unlock();
+        }
+        executor.close();
+    }
+
+    private <R> void run(Callable<Result<E, R>> task, Subtask<R> subtask) {
+        Result<E, R> result = null;
+        Throwable thrown = null;
+        try {
+            result = Objects.requireNonNull(task.call(), "Task returned null");
+        } catch (Throwable e) {
+            thrown = e;
+        }
+
+        lock.lock();
+        try {
+            pending--;
+            if (!shutdown) {
+                if (thrown != null) {
+                    exception = thrown;
+                    shutdown();
+                } else if (result instanceof Result.Ok<E, R>(var value)) {
+                    subtask.value = value;
+                } else {
+                    failure = result;
+                    shutdown();
+                }
+            }
+            completed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Current thread is not scope owner");
+        }
+    }
+
+    private void shutdown() {
+        if (!shutdown) {
+            shutdown = true;
+            executor.shutdownNow();
+            completed.signalAll();
+        }
+    }
+
+    /**
+     * Forked task handle.
+     *
+     * @param <R> task success type
+     */
+    public static final class Subtask<R> implements Supplier<R> {
+
+        private volatile R value;
+
+        private Subtask() {
+        }
+
+        /**
+         * Get task success value.
+         *
+         * @return success value
+         * @throws IllegalStateException if task is not completed successfully
+         */
+        @Override
+        public R get() {
+            R current = value;
+            if (current == null) {
+                throw new IllegalStateException("Subtask is not completed successfully");
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.khbd.result4j.core;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Mutable accumulation state of sequencing and traversing collectors.
+ *
+ * <p>State holds downstream container until the first failure is met.
+ * Failure is latched, so all subsequent elements are skipped and container
+ * is released to be garbage collected.
+ *
+ * @param <A> downstream container type
+ * @param <F> failure type
+ * @author Sergei Khadanovich
+ */
+final class SequenceState<A, F> {
+
+    private A container;
+    private F failure;
+
+    SequenceState(A container) {
+        this.container = container;
+    }
+
+    /**
+     * Get downstream container.
+     *
+     * @return container or {@literal null} if state is failed
+     */
+    A container() {
+        return container;
+    }
+
+    /**
+     * Get latched failure.
+     *
+     * @return failure or {@literal null} if state is not failed
+     */
+    F failure() {
+        return failure;
+    }
+
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Latch failure.
+     *
+     * @param failure failure
+     */
+    void fail(F failure) {
+        this.failure = failure;
+        this.container = null;
+    }
+
+    /**
+     * Combine two states.
+     *
+     * <p>Current state is expected to precede other state in encounter order,
+     * so its failure wins.
+     *
+     * @param other    other state
+     * @param combiner downstream combiner
+     * @return combined state
+     */
+    SequenceState<A, F> combine(SequenceState<A, F> other, BinaryOperator<A> combiner) {
+        if (isFailed()) {
+            return this;
+        }
+        if (other.isFailed()) {
+            return other;
+        }
+        container = combiner.apply(container, other.container);
+        return this;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Exception without stack trace.
+ *
+ * <p>Stack trace is not filled and suppressed exceptions are not recorded, so creating
+ * and throwing such exception costs about as much as allocating an ordinary object.
+ * Instance has no mutable state, so it can be preallocated and thrown many times:
+ * <pre>{@code
+ *     private static final StacklessException NOT_A_NUMBER = new StacklessException("Not a number");
+ *
+ *     Try<Integer> digit = Try.of(() -> {
+ *         if (!Character.isDigit(c)) {
+ *             throw NOT_A_NUMBER;
+ *         }
+ *         return c - '0';
+ *     });
+ * }</pre>
+ *
+ * <p>Class can be extended to make typed failures for {@link Try#recover(Class, CheckedFunction)}.
+ *
+ * @author Sergei Khadanovich
+ */
+public class StacklessException extends RuntimeException {
+
+    /**
+     * Create exception.
+     *
+     * @param message message
+     */
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Create exception.
+     *
+     * @param message message
+     * @param cause   cause
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
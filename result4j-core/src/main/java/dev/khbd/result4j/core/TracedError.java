@@ -0,0 +1,35 @@
+package dev.khbd.result4j.core;
+
+/**
+ * Error value of error result which has been propagated with tracing.
+ *
+ * <p>Instance is kept by error result in place of the error value, so error result
+ * carries unwrap sites without additional record component. Error result accessor
+ * returns the wrapped error value, so instance is never visible outside the library.
+ *
+ * @author Sergei Khadanovich
+ */
+final class TracedError {
+
+    private final Object error;
+    private final PropagationSite site;
+
+    TracedError(Object error, PropagationSite site) {
+        this.error = error;
+        this.site = site;
+    }
+
+    /**
+     * Get wrapped error value.
+     */
+    Object error() {
+        return error;
+    }
+
+    /**
+     * Get last unwrap site error value has been propagated through.
+     */
+    PropagationSite site() {
+        return site;
+    }
+}
@@ -0,0 +1,396 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Result of computation which can throw an exception.
+ *
+ * <p>Try is either {@link Success} with value or {@link Failure} with thrown exception,
+ * so it can be used in pattern matching.
+ * <pre>{@code
+ *     String message = switch (Try.of(() -> Integer.parseInt(text))) {
+ *         case Try.Success(var value) -> "Value is " + value;
+ *         case Try.Failure(var exception) -> "Not a number " + exception.getMessage();
+ *     };
+ * }</pre>
+ *
+ * <p>Transformations of failure return the same instance and do not invoke supplied functions.
+ * Only {@link Exception} is captured, errors are propagated as is.
+ *
+ * <p>Most of the cost of failure is usually spent in stack trace filling of the thrown exception.
+ * If computation fails often, throw {@link StacklessException} or its preallocated instance,
+ * then failure path costs about the same as success path. If failure is detected without
+ * an exception, {@link #failure(String)} creates stackless failure without throwing,
+ * and {@link #failure(Exception)} accepts preallocated exception.
+ *
+ * @param <R> success value type
+ * @author Sergei Khadanovich
+ */
+public sealed interface Try<R> permits Try.Success, Try.Failure {
+
+    /**
+     * Is computation failed.
+     *
+     * @return {@literal true} if computation threw an exception and {@literal false} otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Is computation successful.
+     *
+     * @return {@literal true} if computation completed normally and {@literal false} otherwise
+     */
+    default boolean isSuccess() {
+        return !isFailure();
+    }
+
+    /**
+     * Get success value.
+     *
+     * @return success value
+     * @throws IllegalStateException if computation failed
+     */
+    R get();
+
+    /**
+     * Get thrown exception.
+     *
+     * @return exception
+     * @throws IllegalStateException if computation was successful
+     */
+    Exception getCause();
+
+    /**
+     * Get success value or default one.
+     *
+     * @param other default value
+     * @return success value or default value if computation failed
+     */
+    R getOrElse(R other);
+
+    /**
+     * Get success value or default one.
+     *
+     * @param other default value factory
+     * @return success value or default value if computation failed
+     */
+    R getOrElse(Function<? super Exception, ? extends R> other);
+
+    /**
+     * Map success value.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param f   mapping function
+     * @param <V> new success type
+     * @return mapped try
+     */
+    <V> Try<V> map(CheckedFunction<? super R, ? extends V> f);
+
+    /**
+     * Flat map success value.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param f   mapping function
+     * @param <V> new success type
+     * @return mapped try
+     */
+    <V> Try<V> flatMap(CheckedFunction<? super R, Try<? extends V>> f);
+
+    /**
+     * Recover from failure.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param f recover function
+     * @return recovered try
+     */
+    Try<R> recover(CheckedFunction<? super Exception, ? extends R> f);
+
+    /**
+     * Recover from failure if thrown exception is an instance of specified type.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param type exception type
+     * @param f    recover function
+     * @param <X>  exception type
+     * @return recovered try or the same instance if exception is not an instance of specified type
+     */
+    <X extends Exception> Try<R> recover(Class<X> type, CheckedFunction<? super X, ? extends R> f);
+
+    /**
+     * Recover from failure with another try.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param f recover function
+     * @return recovered try
+     */
+    Try<R> recoverWith(CheckedFunction<? super Exception, Try<? extends R>> f);
+
+    /**
+     * Recover from failure with another try if thrown exception is an instance of specified type.
+     *
+     * <p>Exception thrown by function is captured into failure.
+     *
+     * @param type exception type
+     * @param f    recover function
+     * @param <X>  exception type
+     * @return recovered try or the same instance if exception is not an instance of specified type
+     */
+    <X extends Exception> Try<R> recoverWith(Class<X> type, CheckedFunction<? super X, Try<? extends R>> f);
+
+    /**
+     * Convert try to result.
+     *
+     * @return success result with value or error result with thrown exception
+     */
+    Result<Exception, R> toResult();
+
+    /**
+     * Create successful try.
+     *
+     * @param value success value
+     * @param <R>   success type
+     * @return successful try
+     */
+    static <R> Try<R> success(@NonNull R value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Create failed try.
+     *
+     * <p>Exception is not thrown, so if it is a preallocated {@link StacklessException},
+     * failure costs a single allocation.
+     *
+     * @param exception exception
+     * @param <R>       success type
+     * @return failed try
+     */
+    static <R> Try<R> failure(@NonNull Exception exception) {
+        return new Failure<>(exception);
+    }
+
+    /**
+     * Create failed try with stackless exception.
+     *
+     * <p>Exception is a new {@link StacklessException} with specified message. It is not thrown
+     * and its stack trace is not filled, so failure costs about as much as success.
+     *
+     * @param message exception message
+     * @param <R>     success type
+     * @return failed try
+     */
+    static <R> Try<R> failure(@NonNull String message) {
+        return new Failure<>(new StacklessException(message));
+    }
+
+    /**
+     * Run code and capture thrown exception.
+     *
+     * @param code code to run
+     * @param <R>  success type
+     * @return successful try with returned value or failed try with thrown exception
+     */
+    static <R> Try<R> of(@NonNull Callable<? extends R> code) {
+        try {
+            return success(code.call());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Create try from result.
+     *
+     * @param result result
+     * @param <R>    success type
+     * @return successful try with success value or failed try with error value
+     */
+    static <R> Try<R> fromResult(@NonNull Result<? extends Exception, ? extends R> result) {
+        if (result instanceof Result.Ok<? extends Exception, ? extends R>(var value)) {
+            return success(value);
+        }
+        return failure(result.getError());
+    }
+
+    /**
+     * Successful computation.
+     *
+     * @param value success value
+     * @param <R>   success type
+     */
+    record Success<R>(@NonNull R value) implements Try<R> {
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public R get() {
+            return value;
+        }
+
+        @Override
+        public Exception getCause() {
+            throw new IllegalStateException("Try is success");
+        }
+
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return value;
+        }
+
+        @Override
+        public R getOrElse(@NonNull Function<? super Exception, ? extends R> other) {
+            return value;
+        }
+
+        @Override
+        public <V> Try<V> map(@NonNull CheckedFunction<? super R, ? extends V> f) {
+            try {
+                return Try.success(f.apply(value));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public <V> Try<V> flatMap(@NonNull CheckedFunction<? super R, Try<? extends V>> f) {
+            try {
+                return cast(f.apply(value));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public Try<R> recover(@NonNull CheckedFunction<? super Exception, ? extends R> f) {
+            return this;
+        }
+
+        @Override
+        public <X extends Exception> Try<R> recover(@NonNull Class<X> type,
+                                                    @NonNull CheckedFunction<? super X, ? extends R> f) {
+            return this;
+        }
+
+        @Override
+        public Try<R> recoverWith(@NonNull CheckedFunction<? super Exception, Try<? extends R>> f) {
+            return this;
+        }
+
+        @Override
+        public <X extends Exception> Try<R> recoverWith(@NonNull Class<X> type,
+                                                        @NonNull CheckedFunction<? super X, Try<? extends R>> f) {
+            return this;
+        }
+
+        @Override
+        public Result<Exception, R> toResult() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Failed computation.
+     *
+     * @param exception thrown exception
+     * @param <R>       success type
+     */
+    record Failure<R>(@NonNull Exception exception) implements Try<R> {
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public R get() {
+            throw new IllegalStateException("Try is failure", exception);
+        }
+
+        @Override
+        public Exception getCause() {
+            return exception;
+        }
+
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return other;
+        }
+
+        @Override
+        public R getOrElse(@NonNull Function<? super Exception, ? extends R> other) {
+            return other.apply(exception);
+        }
+
+        @Override
+        public <V> Try<V> map(@NonNull CheckedFunction<? super R, ? extends V> f) {
+            return cast(this);
+        }
+
+        @Override
+        public <V> Try<V> flatMap(@NonNull CheckedFunction<? super R, Try<? extends V>> f) {
+            return cast(this);
+        }
+
+        @Override
+        public Try<R> recover(@NonNull CheckedFunction<? super Exception, ? extends R> f) {
+            try {
+                return Try.success(f.apply(exception));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public <X extends Exception> Try<R> recover(@NonNull Class<X> type,
+                                                    @NonNull CheckedFunction<? super X, ? extends R> f) {
+            if (!type.isInstance(exception)) {
+                return this;
+            }
+            try {
+                return Try.success(f.apply(type.cast(exception)));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public Try<R> recoverWith(@NonNull CheckedFunction<? super Exception, Try<? extends R>> f) {
+            try {
+                return cast(f.apply(exception));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public <X extends Exception> Try<R> recoverWith(@NonNull Class<X> type,
+                                                        @NonNull CheckedFunction<? super X, Try<? extends R>> f) {
+            if (!type.isInstance(exception)) {
+                return this;
+            }
+            try {
+                return cast(f.apply(type.cast(exception)));
+            } catch (Exception e) {
+                return Try.failure(e);
+            }
+        }
+
+        @Override
+        public Result<Exception, R> toResult() {
+            return Result.error(exception);
+        }
+    }
+}
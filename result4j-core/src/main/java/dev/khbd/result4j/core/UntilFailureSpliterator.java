@@ -0,0 +1,52 @@
+package dev.khbd.result4j.core;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Spliterator which stops pulling elements from upstream after the first failure.
+ *
+ * <p>Failed element itself is passed to consumer. Spliterator cannot be split,
+ * because the first failure in encounter order is known only after all preceding
+ * elements are pulled.
+ *
+ * @param <T> element type
+ * @author Sergei Khadanovich
+ */
+@RequiredArgsConstructor
+final class UntilFailureSpliterator<T> implements Spliterator<T> {
+
+    private final Spliterator<T> upstream;
+    private final Predicate<? super T> isFailure;
+
+    private boolean failed;
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (failed) {
+            return false;
+        }
+        return upstream.tryAdvance(element -> {
+            failed = isFailure.test(element);
+            action.accept(element);
+        });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return failed ? 0 : upstream.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return upstream.characteristics() & (ORDERED | DISTINCT | NONNULL | IMMUTABLE);
+    }
+}
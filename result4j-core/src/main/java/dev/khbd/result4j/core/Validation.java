@@ -0,0 +1,864 @@
+package dev.khbd.result4j.core;
+
+import static dev.khbd.result4j.core.Utils.cast;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Validation data type.
+ *
+ * <p>Validation is either {@link Valid} with value or {@link Invalid} with non-empty list of errors.
+ * Unlike {@link Result}, validations accumulate errors when they are combined,
+ * so all errors are reported at once.
+ * <pre>{@code
+ *     Validation<String, User> user = Validation.ap(validateName(name), validateAge(age))
+ *             .apply(User::new);
+ * }</pre>
+ *
+ * <p>Errors are kept in compact array-backed immutable list, which is created
+ * only if validation is invalid.
+ *
+ * @param <E> error value type
+ * @param <R> value type
+ * @author Sergei Khadanovich
+ */
+public sealed interface Validation<E, R> permits Validation.Valid, Validation.Invalid {
+
+    /**
+     * Is validation invalid.
+     *
+     * @return {@literal true} if validation is invalid and {@literal false} otherwise
+     */
+    boolean isInvalid();
+
+    /**
+     * Is validation valid.
+     *
+     * @return {@literal true} if validation is valid and {@literal false} otherwise
+     */
+    default boolean isValid() {
+        return !isInvalid();
+    }
+
+    /**
+     * Get value.
+     *
+     * @return value
+     * @throws IllegalStateException if validation is invalid
+     */
+    R get();
+
+    /**
+     * Get errors.
+     *
+     * @return unmodifiable non-empty list of errors
+     * @throws IllegalStateException if validation is valid
+     */
+    List<E> getErrors();
+
+    /**
+     * Get value or other value if validation is invalid.
+     *
+     * @param other other value
+     * @return value or other value
+     */
+    R getOrElse(R other);
+
+    /**
+     * Get value or compute other value from errors if validation is invalid.
+     *
+     * @param other other value function
+     * @return value or other value
+     */
+    R getOrElse(Function<? super List<E>, ? extends R> other);
+
+    /**
+     * Map value.
+     *
+     * @param f   mapping function
+     * @param <V> new value type
+     * @return mapped validation
+     */
+    <V> Validation<E, V> map(Function<? super R, V> f);
+
+    /**
+     * Flat map value.
+     *
+     * <p>Dependent validation cannot be evaluated without value, so errors are not
+     * accumulated here. Use {@link #ap(Validation, Validation)} to combine independent validations.
+     *
+     * @param f   mapping function
+     * @param <V> new value type
+     * @return mapped validation
+     */
+    <V> Validation<E, V> flatMap(Function<? super R, Validation<? extends E, V>> f);
+
+    /**
+     * Map each error.
+     *
+     * @param f   mapping function
+     * @param <O> new error type
+     * @return mapped validation
+     */
+    <O> Validation<O, R> mapError(Function<? super E, O> f);
+
+    /**
+     * Convert validation to result.
+     *
+     * @return success result with value or error result with list of errors
+     */
+    Result<List<E>, R> toResult();
+
+    /**
+     * Convert validation to option.
+     *
+     * @return some option with value or empty option if validation is invalid
+     */
+    default Option<R> toOption() {
+        return isInvalid() ? Option.none() : Option.some(get());
+    }
+
+    /**
+     * Create valid validation.
+     *
+     * @param value value
+     * @param <E>   error type
+     * @param <R>   value type
+     * @return valid validation
+     */
+    static <E, R> Validation<E, R> valid(@NonNull R value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Create invalid validation with single error.
+     *
+     * @param error error
+     * @param <E>   error type
+     * @param <R>   value type
+     * @return invalid validation
+     */
+    static <E, R> Validation<E, R> invalid(@NonNull E error) {
+        return new Invalid<>(ErrorChunk.of(error));
+    }
+
+    /**
+     * Create invalid validation with several errors.
+     *
+     * @param errors errors
+     * @param <E>    error type
+     * @param <R>    value type
+     * @return invalid validation
+     * @throws IllegalArgumentException if errors are empty
+     */
+    static <E, R> Validation<E, R> invalidAll(@NonNull Collection<? extends E> errors) {
+        return new Invalid<>(ErrorChunk.copyOf(errors));
+    }
+
+    /**
+     * Create validation from result.
+     *
+     * @param result result
+     * @param <E>    error type
+     * @param <R>    value type
+     * @return valid validation with success value or invalid one with result error
+     */
+    static <E, R> Validation<E, R> fromResult(@NonNull Result<? extends E, R> result) {
+        if (result instanceof Result.Ok<? extends E, R>(var value)) {
+            return valid(value);
+        }
+        return invalid(result.getError());
+    }
+
+    /**
+     * Combine two validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     */
+    static <E, R1, R2> ValidationApply2<E, R1, R2> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                      @NonNull Validation<? extends E, R2> validation2) {
+        // This cast is correct because <E> is at a covariant position.
+        return new ValidationApply2<>(cast(validation1), cast(validation2));
+    }
+
+    /**
+     * Combine three validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     */
+    static <E, R1, R2, R3> ValidationApply3<E, R1, R2, R3> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                              @NonNull Validation<? extends E, R2> validation2,
+                                                              @NonNull Validation<? extends E, R3> validation3) {
+        return new ValidationApply3<>(cast(validation1), cast(validation2), cast(validation3));
+    }
+
+    /**
+     * Combine four validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     * @param validation4 fourth validation
+     */
+    static <E, R1, R2, R3, R4> ValidationApply4<E, R1, R2, R3, R4> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                                      @NonNull Validation<? extends E, R2> validation2,
+                                                                      @NonNull Validation<? extends E, R3> validation3,
+                                                                      @NonNull Validation<? extends E, R4> validation4) {
+        return new ValidationApply4<>(cast(validation1), cast(validation2), cast(validation3), cast(validation4));
+    }
+
+    /**
+     * Combine five validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     * @param validation4 fourth validation
+     * @param validation5 fifth validation
+     */
+    static <E, R1, R2, R3, R4, R5> ValidationApply5<E, R1, R2, R3, R4, R5> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                                              @NonNull Validation<? extends E, R2> validation2,
+                                                                              @NonNull Validation<? extends E, R3> validation3,
+                                                                              @NonNull Validation<? extends E, R4> validation4,
+                                                                              @NonNull Validation<? extends E, R5> validation5) {
+        return new ValidationApply5<>(cast(validation1), cast(validation2), cast(validation3), cast(validation4), cast(validation5));
+    }
+
+    /**
+     * Combine six validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     * @param validation4 fourth validation
+     * @param validation5 fifth validation
+     * @param validation6 sixth validation
+     */
+    static <E, R1, R2, R3, R4, R5, R6> ValidationApply6<E, R1, R2, R3, R4, R5, R6> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                                                      @NonNull Validation<? extends E, R2> validation2,
+                                                                                      @NonNull Validation<? extends E, R3> validation3,
+                                                                                      @NonNull Validation<? extends E, R4> validation4,
+                                                                                      @NonNull Validation<? extends E, R5> validation5,
+                                                                                      @NonNull Validation<? extends E, R6> validation6) {
+        return new ValidationApply6<>(cast(validation1), cast(validation2), cast(validation3), cast(validation4), cast(validation5), cast(validation6));
+    }
+
+    /**
+     * Combine seven validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     * @param validation4 fourth validation
+     * @param validation5 fifth validation
+     * @param validation6 sixth validation
+     * @param validation7 seventh validation
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7> ValidationApply7<E, R1, R2, R3, R4, R5, R6, R7> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                                                              @NonNull Validation<? extends E, R2> validation2,
+                                                                                              @NonNull Validation<? extends E, R3> validation3,
+                                                                                              @NonNull Validation<? extends E, R4> validation4,
+                                                                                              @NonNull Validation<? extends E, R5> validation5,
+                                                                                              @NonNull Validation<? extends E, R6> validation6,
+                                                                                              @NonNull Validation<? extends E, R7> validation7) {
+        return new ValidationApply7<>(cast(validation1), cast(validation2), cast(validation3), cast(validation4), cast(validation5), cast(validation6), cast(validation7));
+    }
+
+    /**
+     * Combine eight validations into single one.
+     *
+     * @param validation1 first validation
+     * @param validation2 second validation
+     * @param validation3 third validation
+     * @param validation4 fourth validation
+     * @param validation5 fifth validation
+     * @param validation6 sixth validation
+     * @param validation7 seventh validation
+     * @param validation8 eighth validation
+     */
+    static <E, R1, R2, R3, R4, R5, R6, R7, R8> ValidationApply8<E, R1, R2, R3, R4, R5, R6, R7, R8> ap(@NonNull Validation<? extends E, R1> validation1,
+                                                                                                      @NonNull Validation<? extends E, R2> validation2,
+                                                                                                      @NonNull Validation<? extends E, R3> validation3,
+                                                                                                      @NonNull Validation<? extends E, R4> validation4,
+                                                                                                      @NonNull Validation<? extends E, R5> validation5,
+                                                                                                      @NonNull Validation<? extends E, R6> validation6,
+                                                                                                      @NonNull Validation<? extends E, R7> validation7,
+                                                                                                      @NonNull Validation<? extends E, R8> validation8) {
+        return new ValidationApply8<>(cast(validation1), cast(validation2), cast(validation3), cast(validation4), cast(validation5), cast(validation6), cast(validation7), cast(validation8));
+    }
+
+    /**
+     * Transform each value with function and collect valid values into list.
+     *
+     * <p>Function is invoked for all values and errors of all invalid validations are accumulated.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    error type
+     * @param <R>    validation value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     */
+    static <T, E, R> Validation<E, List<R>> traverse(@NonNull List<? extends T> values,
+                                                     @NonNull Function<? super T, Validation<E, R>> f) {
+        if (!(values instanceof RandomAccess)) {
+            return traverse((Iterable<? extends T>) values, f);
+        }
+        int size = values.size();
+        ValidationState<List<R>, E> state = new ValidationState<>(new ArrayList<>(size));
+        for (int i = 0; i < size; i++) {
+            state.accumulate(f.apply(values.get(i)), List::add);
+        }
+        return state.finish(Collections::unmodifiableList);
+    }
+
+    /**
+     * Transform each value with function and collect valid values into list.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    error type
+     * @param <R>    validation value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     * @see #traverse(List, Function)
+     */
+    static <T, E, R> Validation<E, List<R>> traverse(@NonNull T[] values,
+                                                     @NonNull Function<? super T, Validation<E, R>> f) {
+        return traverse(Arrays.asList(values), f);
+    }
+
+    /**
+     * Transform each value with function and collect valid values into list.
+     *
+     * <p>List is pre-sized if values are a {@link Collection}.
+     *
+     * @param values values
+     * @param f      function
+     * @param <T>    value type
+     * @param <E>    error type
+     * @param <R>    validation value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     * @see #traverse(List, Function)
+     */
+    static <T, E, R> Validation<E, List<R>> traverse(@NonNull Iterable<? extends T> values,
+                                                     @NonNull Function<? super T, Validation<E, R>> f) {
+        List<R> list = values instanceof Collection<?> collection
+                ? new ArrayList<>(collection.size())
+                : new ArrayList<>();
+        ValidationState<List<R>, E> state = new ValidationState<>(list);
+        for (T element : values) {
+            state.accumulate(f.apply(element), List::add);
+        }
+        return state.finish(Collections::unmodifiableList);
+    }
+
+    /**
+     * Collect valid values into list.
+     *
+     * @param validations validations
+     * @param <E>         error type
+     * @param <R>         value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Validation<E, List<R>> sequence(@NonNull List<? extends Validation<E, R>> validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    /**
+     * Collect valid values into list.
+     *
+     * @param validations validations
+     * @param <E>         error type
+     * @param <R>         value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Validation<E, List<R>> sequence(@NonNull Validation<E, R>[] validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    /**
+     * Collect valid values into list.
+     *
+     * @param validations validations
+     * @param <E>         error type
+     * @param <R>         value type
+     * @return valid validation with unmodifiable list of values or invalid one with all errors
+     * @see #traverse(List, Function)
+     */
+    static <E, R> Validation<E, List<R>> sequence(@NonNull Iterable<? extends Validation<E, R>> validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    /**
+     * Create sequence collector.
+     *
+     * <p>Valid values are accumulated into downstream container until the first invalid validation.
+     * After that only errors are accumulated. Combiner keeps errors in encounter order,
+     * so collector can be used with parallel streams.
+     *
+     * @param downstream downstream collector
+     * @param <E>        error type
+     * @param <R>        value type
+     * @param <A>        downstream accumulator type
+     * @param <U>        downstream result type
+     * @return sequence collector
+     */
+    static <E, R, A, U> Collector<Validation<E, R>, ?, Validation<E, U>> sequencing(@NonNull Collector<? super R, A, U> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super R> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, U> finisher = downstream.finisher();
+
+        return Collector.<Validation<E, R>, ValidationState<A, E>, Validation<E, U>>of(
+                () -> new ValidationState<>(supplier.get()),
+                (state, validation) -> state.accumulate(validation, accumulator),
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> state.finish(finisher)
+        );
+    }
+
+    /**
+     * Create traverse collector.
+     *
+     * @param f          mapper function
+     * @param downstream downstream collector
+     * @param <T>        original stream element type
+     * @param <E>        error type
+     * @param <R>        value type
+     * @param <A>        downstream accumulator type
+     * @param <U>        downstream result type
+     * @return traverse collector
+     * @see #sequencing(Collector)
+     */
+    static <T, E, R, A, U> Collector<T, ?, Validation<E, U>> traversing(@NonNull Function<? super T, Validation<E, R>> f,
+                                                                        @NonNull Collector<? super R, A, U> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super R> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, U> finisher = downstream.finisher();
+
+        return Collector.<T, ValidationState<A, E>, Validation<E, U>>of(
+                () -> new ValidationState<>(supplier.get()),
+                (state, element) -> state.accumulate(f.apply(element), accumulator),
+                (state1, state2) -> state1.combine(state2, combiner),
+                state -> state.finish(finisher)
+        );
+    }
+
+    /**
+     * Intermediate class to combine two validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply2<E, R1, R2> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull BiFunction<? super R1, ? super R2, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)) {
+                return valid(f.apply(r1, r2));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2));
+        }
+    }
+
+    /**
+     * Intermediate class to combine three validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply3<E, R1, R2, R3> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function3<? super R1, ? super R2, ? super R3, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)) {
+                return valid(f.apply(r1, r2, r3));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3));
+        }
+    }
+
+    /**
+     * Intermediate class to combine four validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     * @param <R4> fourth value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply4<E, R1, R2, R3, R4> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+        private final Validation<E, R4> validation4;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function4<? super R1, ? super R2, ? super R3, ? super R4, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)
+                && validation4 instanceof Valid<E, R4>(var r4)) {
+                return valid(f.apply(r1, r2, r3, r4));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3, validation4));
+        }
+    }
+
+    /**
+     * Intermediate class to combine five validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     * @param <R4> fourth value type
+     * @param <R5> fifth value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply5<E, R1, R2, R3, R4, R5> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+        private final Validation<E, R4> validation4;
+        private final Validation<E, R5> validation5;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function5<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)
+                && validation4 instanceof Valid<E, R4>(var r4)
+                && validation5 instanceof Valid<E, R5>(var r5)) {
+                return valid(f.apply(r1, r2, r3, r4, r5));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3, validation4, validation5));
+        }
+    }
+
+    /**
+     * Intermediate class to combine six validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     * @param <R4> fourth value type
+     * @param <R5> fifth value type
+     * @param <R6> sixth value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply6<E, R1, R2, R3, R4, R5, R6> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+        private final Validation<E, R4> validation4;
+        private final Validation<E, R5> validation5;
+        private final Validation<E, R6> validation6;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function6<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)
+                && validation4 instanceof Valid<E, R4>(var r4)
+                && validation5 instanceof Valid<E, R5>(var r5)
+                && validation6 instanceof Valid<E, R6>(var r6)) {
+                return valid(f.apply(r1, r2, r3, r4, r5, r6));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3, validation4, validation5, validation6));
+        }
+    }
+
+    /**
+     * Intermediate class to combine seven validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     * @param <R4> fourth value type
+     * @param <R5> fifth value type
+     * @param <R6> sixth value type
+     * @param <R7> seventh value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply7<E, R1, R2, R3, R4, R5, R6, R7> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+        private final Validation<E, R4> validation4;
+        private final Validation<E, R5> validation5;
+        private final Validation<E, R6> validation6;
+        private final Validation<E, R7> validation7;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function7<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)
+                && validation4 instanceof Valid<E, R4>(var r4)
+                && validation5 instanceof Valid<E, R5>(var r5)
+                && validation6 instanceof Valid<E, R6>(var r6)
+                && validation7 instanceof Valid<E, R7>(var r7)) {
+                return valid(f.apply(r1, r2, r3, r4, r5, r6, r7));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3, validation4, validation5, validation6, validation7));
+        }
+    }
+
+    /**
+     * Intermediate class to combine eight validations.
+     *
+     * @param <E>  error type
+     * @param <R1> first value type
+     * @param <R2> second value type
+     * @param <R3> third value type
+     * @param <R4> fourth value type
+     * @param <R5> fifth value type
+     * @param <R6> sixth value type
+     * @param <R7> seventh value type
+     * @param <R8> eighth value type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class ValidationApply8<E, R1, R2, R3, R4, R5, R6, R7, R8> {
+
+        private final Validation<E, R1> validation1;
+        private final Validation<E, R2> validation2;
+        private final Validation<E, R3> validation3;
+        private final Validation<E, R4> validation4;
+        private final Validation<E, R5> validation5;
+        private final Validation<E, R6> validation6;
+        private final Validation<E, R7> validation7;
+        private final Validation<E, R8> validation8;
+
+        /**
+         * Apply combine function.
+         *
+         * @param f   function
+         * @param <R> new value type
+         * @return valid validation with combined value or invalid one with errors of all invalid validations
+         */
+        public <R> Validation<E, R> apply(@NonNull Function8<? super R1, ? super R2, ? super R3, ? super R4, ? super R5, ? super R6, ? super R7, ? super R8, R> f) {
+            if (validation1 instanceof Valid<E, R1>(var r1)
+                && validation2 instanceof Valid<E, R2>(var r2)
+                && validation3 instanceof Valid<E, R3>(var r3)
+                && validation4 instanceof Valid<E, R4>(var r4)
+                && validation5 instanceof Valid<E, R5>(var r5)
+                && validation6 instanceof Valid<E, R6>(var r6)
+                && validation7 instanceof Valid<E, R7>(var r7)
+                && validation8 instanceof Valid<E, R8>(var r8)) {
+                return valid(f.apply(r1, r2, r3, r4, r5, r6, r7, r8));
+            }
+            return new Invalid<>(ErrorChunk.concat(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8));
+        }
+    }
+
+    /**
+     * Valid validation.
+     *
+     * @param value value
+     * @param <E>   error type
+     * @param <R>   value type
+     */
+    record Valid<E, R>(@NonNull R value) implements Validation<E, R> {
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public R get() {
+            return value;
+        }
+
+        @Override
+        public List<E> getErrors() {
+            throw new IllegalStateException("Validation is valid");
+        }
+
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return value;
+        }
+
+        @Override
+        public R getOrElse(@NonNull Function<? super List<E>, ? extends R> other) {
+            return value;
+        }
+
+        @Override
+        public <V> Validation<E, V> map(@NonNull Function<? super R, V> f) {
+            return Validation.valid(f.apply(value));
+        }
+
+        @Override
+        public <V> Validation<E, V> flatMap(@NonNull Function<? super R, Validation<? extends E, V>> f) {
+            return cast(f.apply(value));
+        }
+
+        @Override
+        public <O> Validation<O, R> mapError(@NonNull Function<? super E, O> f) {
+            return cast(this);
+        }
+
+        @Override
+        public Result<List<E>, R> toResult() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Invalid validation.
+     *
+     * @param errors non-empty list of errors
+     * @param <E>    error type
+     * @param <R>    value type
+     */
+    record Invalid<E, R>(@NonNull List<E> errors) implements Validation<E, R> {
+
+        /**
+         * Create invalid validation.
+         *
+         * <p>Errors are copied into immutable list.
+         *
+         * @throws IllegalArgumentException if errors are empty
+         * @throws NullPointerException     if errors contain {@literal null}
+         */
+        public Invalid {
+            errors = ErrorChunk.copyOf(errors);
+        }
+
+        ErrorChunk<E> chunk() {
+            return (ErrorChunk<E>) errors;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public R get() {
+            throw new IllegalStateException("Validation is invalid");
+        }
+
+        @Override
+        public List<E> getErrors() {
+            return errors;
+        }
+
+        @Override
+        public R getOrElse(@NonNull R other) {
+            return other;
+        }
+
+        @Override
+        public R getOrElse(@NonNull Function<? super List<E>, ? extends R> other) {
+            return other.apply(errors);
+        }
+
+        @Override
+        public <V> Validation<E, V> map(@NonNull Function<? super R, V> f) {
+            return cast(this);
+        }
+
+        @Override
+        public <V> Validation<E, V> flatMap(@NonNull Function<? super R, Validation<? extends E, V>> f) {
+            return cast(this);
+        }
+
+        @Override
+        public <O> Validation<O, R> mapError(@NonNull Function<? super E, O> f) {
+            Object[] mapped = new Object[errors.size()];
+            for (int i = 0; i < mapped.length; i++) {
+                mapped[i] = f.apply(errors.get(i));
+            }
+            return new Invalid<>(ErrorChunk.wrap(mapped, mapped.length));
+        }
+
+        @Override
+        public Result<List<E>, R> toResult() {
+            return Result.error(errors);
+        }
+    }
+}
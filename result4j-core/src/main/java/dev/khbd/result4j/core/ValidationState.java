@@ -0,0 +1,93 @@
+package dev.khbd.result4j.core;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Mutable accumulation state of validation traversal.
+ *
+ * <p>State holds downstream container while all validations are valid.
+ * After the first invalid validation container is released and only errors are accumulated.
+ * Error buffer is allocated only if at least one validation is invalid.
+ *
+ * @param <A> downstream container type
+ * @param <E> error type
+ * @author Sergei Khadanovich
+ */
+final class ValidationState<A, E> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private A container;
+    private Object[] errors;
+    private int size;
+
+    ValidationState(A container) {
+        this.container = container;
+    }
+
+    /**
+     * Accumulate validation.
+     *
+     * @param validation  validation
+     * @param accumulator downstream accumulator
+     * @param <R>         validation value type
+     */
+    <R> void accumulate(Validation<? extends E, ? extends R> validation, BiConsumer<A, ? super R> accumulator) {
+        if (validation instanceof Validation.Invalid<?, ?> invalid) {
+            ErrorChunk<?> chunk = invalid.chunk();
+            ensureCapacity(chunk.size());
+            size = chunk.copyTo(errors, size);
+        } else if (errors == null) {
+            accumulator.accept(container, validation.get());
+        }
+    }
+
+    /**
+     * Combine two states.
+     *
+     * <p>Current state is expected to precede other state in encounter order,
+     * so its errors go first.
+     *
+     * @param other    other state
+     * @param combiner downstream combiner
+     * @return combined state
+     */
+    ValidationState<A, E> combine(ValidationState<A, E> other, BinaryOperator<A> combiner) {
+        if (errors == null && other.errors == null) {
+            container = combiner.apply(container, other.container);
+            return this;
+        }
+        if (other.errors != null) {
+            ensureCapacity(other.size);
+            System.arraycopy(other.errors, 0, errors, size, other.size);
+            size += other.size;
+        }
+        return this;
+    }
+
+    /**
+     * Finish accumulation.
+     *
+     * @param finisher downstream finisher
+     * @param <U>      downstream result type
+     * @return valid validation with finished container or invalid one with all accumulated errors
+     */
+    <U> Validation<E, U> finish(Function<A, U> finisher) {
+        if (errors == null) {
+            return Validation.valid(finisher.apply(container));
+        }
+        return new Validation.Invalid<>(ErrorChunk.wrap(errors, size));
+    }
+
+    private void ensureCapacity(int additional) {
+        container = null;
+        if (errors == null) {
+            errors = new Object[Math.max(INITIAL_CAPACITY, additional)];
+        } else if (size + additional > errors.length) {
+            errors = Arrays.copyOf(errors, Math.max(errors.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class DoubleOptionTest {
+
+    @Test
+    public void isEmpty_optionIsNone_returnTrue() {
+        assertThat(DoubleOption.none().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isEmpty_optionIsSome_returnFalse() {
+        assertThat(DoubleOption.some(10.0).isEmpty()).isFalse();
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class, expectedExceptionsMessageRegExp = "Option is empty")
+    public void get_optionIsNone_throwError() {
+        DoubleOption.none().get();
+    }
+
+    @Test
+    public void get_optionIsSome_returnValue() {
+        assertThat(DoubleOption.some(10.0).get()).isEqualTo(10.0);
+    }
+
+    @Test
+    public void getOrElse_optionIsNone_returnDefault() {
+        DoubleOption option = DoubleOption.none();
+
+        assertThat(option.getOrElse(5.0)).isEqualTo(5.0);
+        assertThat(option.getOrElse(() -> 5.0)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void getOrElse_optionIsSome_returnValue() {
+        DoubleOption option = DoubleOption.some(10.0);
+
+        assertThat(option.getOrElse(5.0)).isEqualTo(10.0);
+        assertThat(option.getOrElse(() -> 5.0)).isEqualTo(10.0);
+    }
+
+    @Test
+    public void filter_optionIsNone_returnNone() {
+        DoubleOption result = DoubleOption.none().filter(v -> true);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeButPredicateFalse_returnNone() {
+        DoubleOption result = DoubleOption.some(10.0).filter(v -> v < 5.0);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeAndPredicateTrue_returnSome() {
+        DoubleOption option = DoubleOption.some(10.0);
+
+        DoubleOption result = option.filter(v -> v > 5.0);
+
+        assertThat(result).isSameAs(option);
+    }
+
+    @Test
+    public void map_optionIsNone_returnNone() {
+        DoubleOption result = DoubleOption.none().map(v -> v + 1.0);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void map_optionIsSome_returnTransformedSome() {
+        DoubleOption result = DoubleOption.some(10.0).map(v -> v + 1.0);
+
+        assertThat(result.get()).isEqualTo(11.0);
+    }
+
+    @Test
+    public void flatMap_optionIsNone_returnNone() {
+        DoubleOption result = DoubleOption.none().flatMap(v -> DoubleOption.some(v + 1.0));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnNone_returnNone() {
+        DoubleOption result = DoubleOption.some(10.0).flatMap(v -> DoubleOption.none());
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnSome_returnSome() {
+        DoubleOption result = DoubleOption.some(10.0).flatMap(v -> DoubleOption.some(v + 1.0));
+
+        assertThat(result.get()).isEqualTo(11.0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        DoubleOption.some(10.0).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_optionIsNone_returnNone() {
+        Option<String> result = DoubleOption.none().mapToObj(v -> v > 5.0 ? "big" : "small");
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void mapToObj_optionIsSome_returnTransformedSome() {
+        Option<String> result = DoubleOption.some(10.0).mapToObj(v -> v > 5.0 ? "big" : "small");
+
+        assertThat(result.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapToObj_functionReturnNull_returnNone() {
+        Option<String> result = DoubleOption.some(10.0).mapToObj(v -> null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void boxed_optionIsNone_returnGenericNone() {
+        Option<Double> result = DoubleOption.none().boxed();
+
+        assertThat(result).isSameAs(Option.none());
+    }
+
+    @Test
+    public void boxed_optionIsSome_returnGenericSome() {
+        Option<Double> result = DoubleOption.some(10.0).boxed();
+
+        assertThat(result).isEqualTo(Option.some(10.0));
+    }
+
+    @Test
+    public void fromOption_optionIsNone_returnNone() {
+        assertThat(DoubleOption.fromOption(Option.none())).isSameAs(DoubleOption.none());
+    }
+
+    @Test
+    public void fromOption_optionIsSome_returnSome() {
+        assertThat(DoubleOption.fromOption(Option.some(10.0))).isEqualTo(DoubleOption.some(10.0));
+    }
+
+    @Test
+    public void toOptional_optionIsNone_returnEmptyOptional() {
+        assertThat(DoubleOption.none().toOptional()).isEqualTo(OptionalDouble.empty());
+    }
+
+    @Test
+    public void toOptional_optionIsSome_returnNotEmptyOptional() {
+        assertThat(DoubleOption.some(10.0).toOptional()).isEqualTo(OptionalDouble.of(10.0));
+    }
+
+    @Test
+    public void fromOptional_optionalIsEmpty_returnNone() {
+        assertThat(DoubleOption.fromOptional(OptionalDouble.empty())).isSameAs(DoubleOption.none());
+    }
+
+    @Test
+    public void fromOptional_optionalIsNotEmpty_returnSome() {
+        assertThat(DoubleOption.fromOptional(OptionalDouble.of(10.0))).isEqualTo(DoubleOption.some(10.0));
+    }
+
+    @Test
+    public void toResult_optionIsNone_returnError() {
+        DoubleResult<String> result = DoubleOption.none().toResult("error");
+
+        assertThat(result).isEqualTo(DoubleResult.error("error"));
+    }
+
+    @Test
+    public void toResult_optionIsSome_returnSuccess() {
+        DoubleResult<String> result = DoubleOption.some(10.0).toResult("error");
+
+        assertThat(result).isEqualTo(DoubleResult.success(10.0));
+    }
+
+    @Test
+    public void propagate_optionIsNone_returnNone() {
+        assertThat(DoubleOption.propagate(DoubleOption.none())).isSameAs(DoubleOption.none());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Option is not empty")
+    public void propagate_optionIsSome_throwError() {
+        DoubleOption.propagate(DoubleOption.some(10.0));
+    }
+
+    @Test
+    public void switch_optionIsNone_matchNonePattern() {
+        DoubleOption option = DoubleOption.none();
+
+        double value = switch (option) {
+            case DoubleOption.Some(var v) -> v;
+            case DoubleOption.None() -> 0.0;
+        };
+
+        assertThat(value).isEqualTo(0.0);
+    }
+
+    @Test
+    public void switch_optionIsSome_matchSomePatternWithValue() {
+        DoubleOption option = DoubleOption.some(10.0);
+
+        double value = switch (option) {
+            case DoubleOption.Some(var v) -> v;
+            case DoubleOption.None() -> 0.0;
+        };
+
+        assertThat(value).isEqualTo(10.0);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        DoubleOption.some(10.0).unwrap();
+    }
+}
@@ -0,0 +1,220 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class DoubleResultTest {
+
+    @Test
+    public void isError_resultIsError_returnTrue() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        assertThat(result.isError()).isTrue();
+        assertThat(result.isSuccess()).isFalse();
+    }
+
+    @Test
+    public void isError_resultIsSuccess_returnFalse() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    @Test
+    public void get_resultIsSuccess_returnValue() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        assertThat(result.get()).isEqualTo(10.0);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is error")
+    public void get_resultIsError_throwError() {
+        DoubleResult.error("error").get();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void getError_resultIsSuccess_throwError() {
+        DoubleResult.success(10.0).getError();
+    }
+
+    @Test
+    public void getOrElse_resultIsError_returnDefault() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        assertThat(result.getOrElse(5.0)).isEqualTo(5.0);
+        assertThat(result.getOrElse(String::length)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void getOrElse_resultIsSuccess_returnValue() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        assertThat(result.getOrElse(5.0)).isEqualTo(10.0);
+        assertThat(result.getOrElse(String::length)).isEqualTo(10.0);
+    }
+
+    @Test
+    public void map_resultIsError_returnSameError() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        DoubleResult<String> mapped = result.map(v -> v + 1.0);
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void map_resultIsSuccess_returnTransformedSuccess() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        DoubleResult<String> mapped = result.map(v -> v + 1.0);
+
+        assertThat(mapped.get()).isEqualTo(11.0);
+    }
+
+    @Test
+    public void flatMap_resultIsError_returnSameError() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        DoubleResult<String> mapped = result.flatMap(v -> DoubleResult.success(v + 1.0));
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnError_returnError() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        DoubleResult<String> mapped = result.flatMap(v -> DoubleResult.error("error"));
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnSuccess_returnSuccess() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        DoubleResult<String> mapped = result.flatMap(v -> DoubleResult.success(v + 1.0));
+
+        assertThat(mapped.get()).isEqualTo(11.0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        DoubleResult.success(10.0).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_resultIsError_returnError() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5.0 ? "big" : "small");
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void mapToObj_resultIsSuccess_returnTransformedSuccess() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5.0 ? "big" : "small");
+
+        assertThat(mapped.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapError_resultIsError_returnTransformedError() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        DoubleResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.getError()).isEqualTo(5);
+    }
+
+    @Test
+    public void mapError_resultIsSuccess_returnSameSuccess() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        DoubleResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.get()).isEqualTo(10.0);
+    }
+
+    @Test
+    public void boxed_resultIsError_returnGenericError() {
+        Result<String, Double> result = DoubleResult.<String>error("error").boxed();
+
+        assertThat(result).isEqualTo(Result.error("error"));
+    }
+
+    @Test
+    public void boxed_resultIsSuccess_returnGenericSuccess() {
+        Result<String, Double> result = DoubleResult.<String>success(10.0).boxed();
+
+        assertThat(result).isEqualTo(Result.success(10.0));
+    }
+
+    @Test
+    public void fromResult_resultIsError_returnError() {
+        DoubleResult<String> result = DoubleResult.fromResult(Result.error("error"));
+
+        assertThat(result).isEqualTo(DoubleResult.error("error"));
+    }
+
+    @Test
+    public void fromResult_resultIsSuccess_returnSuccess() {
+        DoubleResult<String> result = DoubleResult.fromResult(Result.success(10.0));
+
+        assertThat(result).isEqualTo(DoubleResult.success(10.0));
+    }
+
+    @Test
+    public void propagate_resultIsError_returnTheSameErrorInstance() {
+        DoubleResult<String> error = DoubleResult.error("error");
+
+        DoubleResult<CharSequence> result = DoubleResult.propagate(error);
+
+        assertThat(result).isSameAs(error);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void propagate_resultIsSuccess_throwError() {
+        DoubleResult.propagate(DoubleResult.success(10.0));
+    }
+
+    @Test
+    public void switch_resultIsError_matchErrorPattern() {
+        DoubleResult<String> result = DoubleResult.error("error");
+
+        String message = switch (result) {
+            case DoubleResult.Ok(var value) -> "value";
+            case DoubleResult.Error(var error) -> error;
+        };
+
+        assertThat(message).isEqualTo("error");
+    }
+
+    @Test
+    public void switch_resultIsSuccess_matchOkPatternWithValue() {
+        DoubleResult<String> result = DoubleResult.success(10.0);
+
+        double value = switch (result) {
+            case DoubleResult.Ok(var v) -> v;
+            case DoubleResult.Error(var error) -> 0.0;
+        };
+
+        assertThat(value).isEqualTo(10.0);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        DoubleResult.success(10.0).unwrap();
+    }
+}
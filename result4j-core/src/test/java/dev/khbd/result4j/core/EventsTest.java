@@ -0,0 +1,201 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class EventsTest {
+
+    private static final String ERROR_CREATED = "dev.khbd.result4j.ErrorCreated";
+    private static final String ERROR_PROPAGATED = "dev.khbd.result4j.ErrorPropagated";
+
+    @Test
+    public void errorCreated_resultError_emitEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> Result.error("error"));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getEventType().getName()).isEqualTo(ERROR_CREATED);
+        assertThat(event.getClass("errorClass").getName()).isEqualTo(String.class.getName());
+        assertThat(event.getString("source")).isEqualTo("Result.error");
+        assertThat(event.getStackTrace()).isNotNull();
+    }
+
+    @Test
+    public void errorCreated_primitiveResultError_emitEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            IntResult.error("error");
+            LongResult.error("error");
+            DoubleResult.error("error");
+        });
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .containsOnly(ERROR_CREATED);
+        assertThat(events).extracting(event -> event.getString("source"))
+                .containsExactly("IntResult.error", "LongResult.error", "DoubleResult.error");
+        assertThat(events).extracting(event -> event.getClass("errorClass").getName())
+                .containsOnly(String.class.getName());
+    }
+
+    @Test
+    public void errorCreated_fromErroneousCatchesException_emitEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> Result.fromErroneous(() -> {
+            throw new IOException("error");
+        }));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getClass("errorClass").getName()).isEqualTo(IOException.class.getName());
+        assertThat(event.getString("source")).isEqualTo("Result.fromErroneous");
+    }
+
+    @Test
+    public void errorCreated_conversionsOfEmptyValues_emitEventPerConversion() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            Option.none().toResult("error");
+            Result.fromOption(Option.none(), "error");
+            Result.fromOptional(Optional.empty(), "error");
+            Result.fromNullable(null, "error");
+        });
+
+        assertThat(events).extracting(event -> event.getString("source"))
+                .containsExactly("Option.toResult", "Result.fromOption", "Result.fromOptional", "Result.fromNullable");
+    }
+
+    @Test
+    public void errorCreated_successResult_doNotEmitEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> Result.fromNullable("value", "error"));
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void errorPropagated_propagateThroughSeveralMethods_emitEventsWithDepth() throws Exception {
+        Result<Integer, String> error = Result.error(404);
+
+        List<RecordedEvent> events = record(() -> third(error));
+
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo(ERROR_PROPAGATED);
+            assertThat(event.getString("type")).isEqualTo("Result");
+            assertThat(event.getClass("errorClass").getName()).isEqualTo(Integer.class.getName());
+        });
+        assertThat(events).extracting(event -> event.getInt("depth")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void errorPropagated_propagateWithTrace_emitEventsWithDepth() throws Exception {
+        Result<Integer, String> error = Result.error(404);
+
+        List<RecordedEvent> events = record(() -> {
+            Result<Integer, String> first = Result.propagate(error, "cases.Main", "first", "Main.java", 10);
+            Result<Integer, String> second = Result.propagate(first, "cases.Main", "second", "Main.java", 20);
+            Result.propagate(second);
+        });
+
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo(ERROR_PROPAGATED);
+            assertThat(event.getString("type")).isEqualTo("Result");
+            assertThat(event.getClass("errorClass").getName()).isEqualTo(Integer.class.getName());
+        });
+        assertThat(events).extracting(event -> event.getInt("depth")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void errorPropagated_differentErrors_depthStartsFromOne() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            Result.propagate(Result.error("first"));
+            Result.propagate(Result.error("second"));
+        });
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(ERROR_PROPAGATED))
+                .extracting(event -> event.getInt("depth"))
+                .containsExactly(1, 1);
+    }
+
+    @Test
+    public void errorPropagated_sharedInstanceCreatedAgain_depthStartsFromOne() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            Option.propagate(Option.none());
+            Option.propagate(Option.none());
+        });
+
+        assertThat(events).extracting(event -> event.getInt("depth")).containsExactly(1, 1);
+    }
+
+    @Test
+    public void errorPropagated_libraryMethodsReturnExistingError_doNotEmitEvent() throws Exception {
+        Result<String, Integer> error = Result.error("error");
+
+        List<RecordedEvent> events = record(() -> {
+            Result.traverse(List.of(1, 2), value -> error);
+            Result.sequence(List.of(error));
+            Result.ap(error, Result.success(1)).apply(Integer::sum);
+        });
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(ERROR_PROPAGATED))
+                .isEmpty();
+    }
+
+    @Test
+    public void errorPropagated_option_emitEventWithoutErrorClass() throws Exception {
+        List<RecordedEvent> events = record(() -> Option.propagate(Option.none()));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("type")).isEqualTo("Option");
+        assertThat(event.getClass("errorClass")).isNull();
+    }
+
+    @Test
+    public void errorCreated_convertPrimitiveErrorResult_emitSingleEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> IntResult.error("error").boxed());
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("source")).isEqualTo("IntResult.error");
+    }
+
+    private static Result<Integer, String> first(Result<Integer, String> error) {
+        return Result.propagate(error);
+    }
+
+    private static Result<Integer, String> second(Result<Integer, String> error) {
+        Result<Integer, String> result = first(error);
+        return Result.propagate(result);
+    }
+
+    private static Result<Integer, String> third(Result<Integer, String> error) {
+        Result<Integer, String> result = second(error);
+        return Result.propagate(result);
+    }
+
+    private static List<RecordedEvent> record(Runnable code) throws IOException {
+        Path file = Files.createTempFile("result4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ERROR_CREATED).withStackTrace();
+            recording.enable(ERROR_PROPAGATED).withStackTrace();
+            recording.start();
+            code.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getThread() != null
+                                     && event.getThread().getJavaThreadId() == Thread.currentThread().threadId())
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
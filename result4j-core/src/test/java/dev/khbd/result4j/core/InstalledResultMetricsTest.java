@@ -0,0 +1,125 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.CountingResultMetrics.ErrorCounts;
+import org.testng.annotations.Test;
+
+/**
+ * Metrics tests with registered listener.
+ *
+ * <p>Listener is registered only for this test class by a separate surefire execution,
+ * so other tests run without listener.
+ *
+ * @author Sergei Khadanovich
+ */
+public class InstalledResultMetricsTest {
+
+    @Test
+    public void installed_listenerIsRegisteredInServicesFile_returnIt() {
+        assertThat(ResultMetrics.installed())
+                .hasSize(1)
+                .first()
+                .isInstanceOf(CountingResultMetrics.class);
+    }
+
+    @Test
+    public void errorCreated_createErrorResults_countByErrorClass() {
+        CountingResultMetrics metrics = installed();
+        ErrorCounts before = metrics.snapshot().errors(CreatedError.class);
+
+        Result.error(new CreatedError());
+        Result.fromNullable(null, new CreatedError());
+
+        ErrorCounts after = metrics.snapshot().errors(CreatedError.class);
+        assertThat(after.created() - before.created()).isEqualTo(2);
+    }
+
+    @Test
+    public void successCreated_createSuccessResult_countIt() {
+        CountingResultMetrics metrics = installed();
+
+        long before = metrics.snapshot().successes();
+        Result.success("value");
+
+        assertThat(metrics.snapshot().successes()).isGreaterThan(before);
+    }
+
+    @Test
+    public void errorMapped_mapError_countMappedAndCreatedErrors() {
+        CountingResultMetrics metrics = installed();
+        ErrorCounts mappedBefore = metrics.snapshot().errors(MappedError.class);
+        ErrorCounts createdBefore = metrics.snapshot().errors(CreatedError.class);
+
+        Result.error(new MappedError()).mapError(e -> new CreatedError());
+
+        ErrorCounts mappedAfter = metrics.snapshot().errors(MappedError.class);
+        ErrorCounts createdAfter = metrics.snapshot().errors(CreatedError.class);
+        assertThat(mappedAfter.mapped() - mappedBefore.mapped()).isEqualTo(1);
+        assertThat(createdAfter.created() - createdBefore.created()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void errorRecovered_orElseReturnsSuccess_countRecoveredError() {
+        CountingResultMetrics metrics = installed();
+        ErrorCounts before = metrics.snapshot().errors(RecoveredError.class);
+
+        Result.<RecoveredError, String>error(new RecoveredError()).orElse(Result.success("value"));
+        Result.<RecoveredError, String>error(new RecoveredError()).orElse(e -> Result.success("value"));
+        Result.<RecoveredError, String>error(new RecoveredError()).orElse(e -> Result.error(new RecoveredError()));
+
+        ErrorCounts after = metrics.snapshot().errors(RecoveredError.class);
+        assertThat(after.recovered() - before.recovered()).isEqualTo(2);
+    }
+
+    @Test
+    public void hooks_primitiveResults_countLikeResult() {
+        CountingResultMetrics metrics = installed();
+        long successesBefore = metrics.snapshot().successes();
+        ErrorCounts createdBefore = metrics.snapshot().errors(CreatedError.class);
+        ErrorCounts mappedBefore = metrics.snapshot().errors(MappedError.class);
+
+        IntResult.success(1);
+        LongResult.success(1L);
+        DoubleResult.success(1.0);
+        IntResult.error(new CreatedError());
+        LongResult.error(new CreatedError());
+        DoubleResult.error(new MappedError()).mapError(e -> new CreatedError());
+
+        ErrorCounts createdAfter = metrics.snapshot().errors(CreatedError.class);
+        ErrorCounts mappedAfter = metrics.snapshot().errors(MappedError.class);
+        assertThat(metrics.snapshot().successes() - successesBefore).isGreaterThanOrEqualTo(3);
+        assertThat(createdAfter.created() - createdBefore.created()).isEqualTo(3);
+        assertThat(mappedAfter.created() - mappedBefore.created()).isEqualTo(1);
+        assertThat(mappedAfter.mapped() - mappedBefore.mapped()).isEqualTo(1);
+    }
+
+    @Test
+    public void errorCreated_convertPrimitiveErrorResult_notCountAgain() {
+        CountingResultMetrics metrics = installed();
+        ErrorCounts before = metrics.snapshot().errors(ConvertedError.class);
+
+        IntResult.error(new ConvertedError()).boxed();
+        LongResult.error(new ConvertedError()).mapToObj(value -> value);
+        DoubleResult.error(new ConvertedError()).boxed();
+
+        ErrorCounts after = metrics.snapshot().errors(ConvertedError.class);
+        assertThat(after.created() - before.created()).isEqualTo(3);
+    }
+
+    private static CountingResultMetrics installed() {
+        return (CountingResultMetrics) ResultMetrics.installed().get(0);
+    }
+
+    private static final class CreatedError {
+    }
+
+    private static final class MappedError {
+    }
+
+    private static final class RecoveredError {
+    }
+
+    private static final class ConvertedError {
+    }
+}
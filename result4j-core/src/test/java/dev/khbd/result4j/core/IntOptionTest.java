@@ -0,0 +1,232 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class IntOptionTest {
+
+    @Test
+    public void isEmpty_optionIsNone_returnTrue() {
+        assertThat(IntOption.none().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isEmpty_optionIsSome_returnFalse() {
+        assertThat(IntOption.some(10).isEmpty()).isFalse();
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class, expectedExceptionsMessageRegExp = "Option is empty")
+    public void get_optionIsNone_throwError() {
+        IntOption.none().get();
+    }
+
+    @Test
+    public void get_optionIsSome_returnValue() {
+        assertThat(IntOption.some(10).get()).isEqualTo(10);
+    }
+
+    @Test
+    public void getOrElse_optionIsNone_returnDefault() {
+        IntOption option = IntOption.none();
+
+        assertThat(option.getOrElse(5)).isEqualTo(5);
+        assertThat(option.getOrElse(() -> 5)).isEqualTo(5);
+    }
+
+    @Test
+    public void getOrElse_optionIsSome_returnValue() {
+        IntOption option = IntOption.some(10);
+
+        assertThat(option.getOrElse(5)).isEqualTo(10);
+        assertThat(option.getOrElse(() -> 5)).isEqualTo(10);
+    }
+
+    @Test
+    public void filter_optionIsNone_returnNone() {
+        IntOption result = IntOption.none().filter(v -> true);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeButPredicateFalse_returnNone() {
+        IntOption result = IntOption.some(10).filter(v -> v < 5);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeAndPredicateTrue_returnSome() {
+        IntOption option = IntOption.some(10);
+
+        IntOption result = option.filter(v -> v > 5);
+
+        assertThat(result).isSameAs(option);
+    }
+
+    @Test
+    public void map_optionIsNone_returnNone() {
+        IntOption result = IntOption.none().map(v -> v + 1);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void map_optionIsSome_returnTransformedSome() {
+        IntOption result = IntOption.some(10).map(v -> v + 1);
+
+        assertThat(result.get()).isEqualTo(11);
+    }
+
+    @Test
+    public void flatMap_optionIsNone_returnNone() {
+        IntOption result = IntOption.none().flatMap(v -> IntOption.some(v + 1));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnNone_returnNone() {
+        IntOption result = IntOption.some(10).flatMap(v -> IntOption.none());
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnSome_returnSome() {
+        IntOption result = IntOption.some(10).flatMap(v -> IntOption.some(v + 1));
+
+        assertThat(result.get()).isEqualTo(11);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        IntOption.some(10).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_optionIsNone_returnNone() {
+        Option<String> result = IntOption.none().mapToObj(v -> v > 5 ? "big" : "small");
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void mapToObj_optionIsSome_returnTransformedSome() {
+        Option<String> result = IntOption.some(10).mapToObj(v -> v > 5 ? "big" : "small");
+
+        assertThat(result.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapToObj_functionReturnNull_returnNone() {
+        Option<String> result = IntOption.some(10).mapToObj(v -> null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void boxed_optionIsNone_returnGenericNone() {
+        Option<Integer> result = IntOption.none().boxed();
+
+        assertThat(result).isSameAs(Option.none());
+    }
+
+    @Test
+    public void boxed_optionIsSome_returnGenericSome() {
+        Option<Integer> result = IntOption.some(10).boxed();
+
+        assertThat(result).isEqualTo(Option.some(10));
+    }
+
+    @Test
+    public void fromOption_optionIsNone_returnNone() {
+        assertThat(IntOption.fromOption(Option.none())).isSameAs(IntOption.none());
+    }
+
+    @Test
+    public void fromOption_optionIsSome_returnSome() {
+        assertThat(IntOption.fromOption(Option.some(10))).isEqualTo(IntOption.some(10));
+    }
+
+    @Test
+    public void toOptional_optionIsNone_returnEmptyOptional() {
+        assertThat(IntOption.none().toOptional()).isEqualTo(OptionalInt.empty());
+    }
+
+    @Test
+    public void toOptional_optionIsSome_returnNotEmptyOptional() {
+        assertThat(IntOption.some(10).toOptional()).isEqualTo(OptionalInt.of(10));
+    }
+
+    @Test
+    public void fromOptional_optionalIsEmpty_returnNone() {
+        assertThat(IntOption.fromOptional(OptionalInt.empty())).isSameAs(IntOption.none());
+    }
+
+    @Test
+    public void fromOptional_optionalIsNotEmpty_returnSome() {
+        assertThat(IntOption.fromOptional(OptionalInt.of(10))).isEqualTo(IntOption.some(10));
+    }
+
+    @Test
+    public void toResult_optionIsNone_returnError() {
+        IntResult<String> result = IntOption.none().toResult("error");
+
+        assertThat(result).isEqualTo(IntResult.error("error"));
+    }
+
+    @Test
+    public void toResult_optionIsSome_returnSuccess() {
+        IntResult<String> result = IntOption.some(10).toResult("error");
+
+        assertThat(result).isEqualTo(IntResult.success(10));
+    }
+
+    @Test
+    public void propagate_optionIsNone_returnNone() {
+        assertThat(IntOption.propagate(IntOption.none())).isSameAs(IntOption.none());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Option is not empty")
+    public void propagate_optionIsSome_throwError() {
+        IntOption.propagate(IntOption.some(10));
+    }
+
+    @Test
+    public void switch_optionIsNone_matchNonePattern() {
+        IntOption option = IntOption.none();
+
+        int value = switch (option) {
+            case IntOption.Some(var v) -> v;
+            case IntOption.None() -> 0;
+        };
+
+        assertThat(value).isEqualTo(0);
+    }
+
+    @Test
+    public void switch_optionIsSome_matchSomePatternWithValue() {
+        IntOption option = IntOption.some(10);
+
+        int value = switch (option) {
+            case IntOption.Some(var v) -> v;
+            case IntOption.None() -> 0;
+        };
+
+        assertThat(value).isEqualTo(10);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        IntOption.some(10).unwrap();
+    }
+}
@@ -0,0 +1,220 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class IntResultTest {
+
+    @Test
+    public void isError_resultIsError_returnTrue() {
+        IntResult<String> result = IntResult.error("error");
+
+        assertThat(result.isError()).isTrue();
+        assertThat(result.isSuccess()).isFalse();
+    }
+
+    @Test
+    public void isError_resultIsSuccess_returnFalse() {
+        IntResult<String> result = IntResult.success(10);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    @Test
+    public void get_resultIsSuccess_returnValue() {
+        IntResult<String> result = IntResult.success(10);
+
+        assertThat(result.get()).isEqualTo(10);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is error")
+    public void get_resultIsError_throwError() {
+        IntResult.error("error").get();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void getError_resultIsSuccess_throwError() {
+        IntResult.success(10).getError();
+    }
+
+    @Test
+    public void getOrElse_resultIsError_returnDefault() {
+        IntResult<String> result = IntResult.error("error");
+
+        assertThat(result.getOrElse(5)).isEqualTo(5);
+        assertThat(result.getOrElse(String::length)).isEqualTo(5);
+    }
+
+    @Test
+    public void getOrElse_resultIsSuccess_returnValue() {
+        IntResult<String> result = IntResult.success(10);
+
+        assertThat(result.getOrElse(5)).isEqualTo(10);
+        assertThat(result.getOrElse(String::length)).isEqualTo(10);
+    }
+
+    @Test
+    public void map_resultIsError_returnSameError() {
+        IntResult<String> result = IntResult.error("error");
+
+        IntResult<String> mapped = result.map(v -> v + 1);
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void map_resultIsSuccess_returnTransformedSuccess() {
+        IntResult<String> result = IntResult.success(10);
+
+        IntResult<String> mapped = result.map(v -> v + 1);
+
+        assertThat(mapped.get()).isEqualTo(11);
+    }
+
+    @Test
+    public void flatMap_resultIsError_returnSameError() {
+        IntResult<String> result = IntResult.error("error");
+
+        IntResult<String> mapped = result.flatMap(v -> IntResult.success(v + 1));
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnError_returnError() {
+        IntResult<String> result = IntResult.success(10);
+
+        IntResult<String> mapped = result.flatMap(v -> IntResult.error("error"));
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnSuccess_returnSuccess() {
+        IntResult<String> result = IntResult.success(10);
+
+        IntResult<String> mapped = result.flatMap(v -> IntResult.success(v + 1));
+
+        assertThat(mapped.get()).isEqualTo(11);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        IntResult.success(10).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_resultIsError_returnError() {
+        IntResult<String> result = IntResult.error("error");
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5 ? "big" : "small");
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void mapToObj_resultIsSuccess_returnTransformedSuccess() {
+        IntResult<String> result = IntResult.success(10);
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5 ? "big" : "small");
+
+        assertThat(mapped.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapError_resultIsError_returnTransformedError() {
+        IntResult<String> result = IntResult.error("error");
+
+        IntResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.getError()).isEqualTo(5);
+    }
+
+    @Test
+    public void mapError_resultIsSuccess_returnSameSuccess() {
+        IntResult<String> result = IntResult.success(10);
+
+        IntResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void boxed_resultIsError_returnGenericError() {
+        Result<String, Integer> result = IntResult.<String>error("error").boxed();
+
+        assertThat(result).isEqualTo(Result.error("error"));
+    }
+
+    @Test
+    public void boxed_resultIsSuccess_returnGenericSuccess() {
+        Result<String, Integer> result = IntResult.<String>success(10).boxed();
+
+        assertThat(result).isEqualTo(Result.success(10));
+    }
+
+    @Test
+    public void fromResult_resultIsError_returnError() {
+        IntResult<String> result = IntResult.fromResult(Result.error("error"));
+
+        assertThat(result).isEqualTo(IntResult.error("error"));
+    }
+
+    @Test
+    public void fromResult_resultIsSuccess_returnSuccess() {
+        IntResult<String> result = IntResult.fromResult(Result.success(10));
+
+        assertThat(result).isEqualTo(IntResult.success(10));
+    }
+
+    @Test
+    public void propagate_resultIsError_returnTheSameErrorInstance() {
+        IntResult<String> error = IntResult.error("error");
+
+        IntResult<CharSequence> result = IntResult.propagate(error);
+
+        assertThat(result).isSameAs(error);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void propagate_resultIsSuccess_throwError() {
+        IntResult.propagate(IntResult.success(10));
+    }
+
+    @Test
+    public void switch_resultIsError_matchErrorPattern() {
+        IntResult<String> result = IntResult.error("error");
+
+        String message = switch (result) {
+            case IntResult.Ok(var value) -> "value";
+            case IntResult.Error(var error) -> error;
+        };
+
+        assertThat(message).isEqualTo("error");
+    }
+
+    @Test
+    public void switch_resultIsSuccess_matchOkPatternWithValue() {
+        IntResult<String> result = IntResult.success(10);
+
+        int value = switch (result) {
+            case IntResult.Ok(var v) -> v;
+            case IntResult.Error(var error) -> 0;
+        };
+
+        assertThat(value).isEqualTo(10);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        IntResult.success(10).unwrap();
+    }
+}
@@ -0,0 +1,232 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class LongOptionTest {
+
+    @Test
+    public void isEmpty_optionIsNone_returnTrue() {
+        assertThat(LongOption.none().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isEmpty_optionIsSome_returnFalse() {
+        assertThat(LongOption.some(10L).isEmpty()).isFalse();
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class, expectedExceptionsMessageRegExp = "Option is empty")
+    public void get_optionIsNone_throwError() {
+        LongOption.none().get();
+    }
+
+    @Test
+    public void get_optionIsSome_returnValue() {
+        assertThat(LongOption.some(10L).get()).isEqualTo(10L);
+    }
+
+    @Test
+    public void getOrElse_optionIsNone_returnDefault() {
+        LongOption option = LongOption.none();
+
+        assertThat(option.getOrElse(5L)).isEqualTo(5L);
+        assertThat(option.getOrElse(() -> 5L)).isEqualTo(5L);
+    }
+
+    @Test
+    public void getOrElse_optionIsSome_returnValue() {
+        LongOption option = LongOption.some(10L);
+
+        assertThat(option.getOrElse(5L)).isEqualTo(10L);
+        assertThat(option.getOrElse(() -> 5L)).isEqualTo(10L);
+    }
+
+    @Test
+    public void filter_optionIsNone_returnNone() {
+        LongOption result = LongOption.none().filter(v -> true);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeButPredicateFalse_returnNone() {
+        LongOption result = LongOption.some(10L).filter(v -> v < 5L);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void filter_optionIsSomeAndPredicateTrue_returnSome() {
+        LongOption option = LongOption.some(10L);
+
+        LongOption result = option.filter(v -> v > 5L);
+
+        assertThat(result).isSameAs(option);
+    }
+
+    @Test
+    public void map_optionIsNone_returnNone() {
+        LongOption result = LongOption.none().map(v -> v + 1L);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void map_optionIsSome_returnTransformedSome() {
+        LongOption result = LongOption.some(10L).map(v -> v + 1L);
+
+        assertThat(result.get()).isEqualTo(11L);
+    }
+
+    @Test
+    public void flatMap_optionIsNone_returnNone() {
+        LongOption result = LongOption.none().flatMap(v -> LongOption.some(v + 1L));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnNone_returnNone() {
+        LongOption result = LongOption.some(10L).flatMap(v -> LongOption.none());
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void flatMap_optionIsSomeAndFunctionReturnSome_returnSome() {
+        LongOption result = LongOption.some(10L).flatMap(v -> LongOption.some(v + 1L));
+
+        assertThat(result.get()).isEqualTo(11L);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        LongOption.some(10L).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_optionIsNone_returnNone() {
+        Option<String> result = LongOption.none().mapToObj(v -> v > 5L ? "big" : "small");
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void mapToObj_optionIsSome_returnTransformedSome() {
+        Option<String> result = LongOption.some(10L).mapToObj(v -> v > 5L ? "big" : "small");
+
+        assertThat(result.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapToObj_functionReturnNull_returnNone() {
+        Option<String> result = LongOption.some(10L).mapToObj(v -> null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void boxed_optionIsNone_returnGenericNone() {
+        Option<Long> result = LongOption.none().boxed();
+
+        assertThat(result).isSameAs(Option.none());
+    }
+
+    @Test
+    public void boxed_optionIsSome_returnGenericSome() {
+        Option<Long> result = LongOption.some(10L).boxed();
+
+        assertThat(result).isEqualTo(Option.some(10L));
+    }
+
+    @Test
+    public void fromOption_optionIsNone_returnNone() {
+        assertThat(LongOption.fromOption(Option.none())).isSameAs(LongOption.none());
+    }
+
+    @Test
+    public void fromOption_optionIsSome_returnSome() {
+        assertThat(LongOption.fromOption(Option.some(10L))).isEqualTo(LongOption.some(10L));
+    }
+
+    @Test
+    public void toOptional_optionIsNone_returnEmptyOptional() {
+        assertThat(LongOption.none().toOptional()).isEqualTo(OptionalLong.empty());
+    }
+
+    @Test
+    public void toOptional_optionIsSome_returnNotEmptyOptional() {
+        assertThat(LongOption.some(10L).toOptional()).isEqualTo(OptionalLong.of(10L));
+    }
+
+    @Test
+    public void fromOptional_optionalIsEmpty_returnNone() {
+        assertThat(LongOption.fromOptional(OptionalLong.empty())).isSameAs(LongOption.none());
+    }
+
+    @Test
+    public void fromOptional_optionalIsNotEmpty_returnSome() {
+        assertThat(LongOption.fromOptional(OptionalLong.of(10L))).isEqualTo(LongOption.some(10L));
+    }
+
+    @Test
+    public void toResult_optionIsNone_returnError() {
+        LongResult<String> result = LongOption.none().toResult("error");
+
+        assertThat(result).isEqualTo(LongResult.error("error"));
+    }
+
+    @Test
+    public void toResult_optionIsSome_returnSuccess() {
+        LongResult<String> result = LongOption.some(10L).toResult("error");
+
+        assertThat(result).isEqualTo(LongResult.success(10L));
+    }
+
+    @Test
+    public void propagate_optionIsNone_returnNone() {
+        assertThat(LongOption.propagate(LongOption.none())).isSameAs(LongOption.none());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Option is not empty")
+    public void propagate_optionIsSome_throwError() {
+        LongOption.propagate(LongOption.some(10L));
+    }
+
+    @Test
+    public void switch_optionIsNone_matchNonePattern() {
+        LongOption option = LongOption.none();
+
+        long value = switch (option) {
+            case LongOption.Some(var v) -> v;
+            case LongOption.None() -> 0L;
+        };
+
+        assertThat(value).isEqualTo(0L);
+    }
+
+    @Test
+    public void switch_optionIsSome_matchSomePatternWithValue() {
+        LongOption option = LongOption.some(10L);
+
+        long value = switch (option) {
+            case LongOption.Some(var v) -> v;
+            case LongOption.None() -> 0L;
+        };
+
+        assertThat(value).isEqualTo(10L);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        LongOption.some(10L).unwrap();
+    }
+}
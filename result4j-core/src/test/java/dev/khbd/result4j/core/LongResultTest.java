@@ -0,0 +1,220 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class LongResultTest {
+
+    @Test
+    public void isError_resultIsError_returnTrue() {
+        LongResult<String> result = LongResult.error("error");
+
+        assertThat(result.isError()).isTrue();
+        assertThat(result.isSuccess()).isFalse();
+    }
+
+    @Test
+    public void isError_resultIsSuccess_returnFalse() {
+        LongResult<String> result = LongResult.success(10L);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    @Test
+    public void get_resultIsSuccess_returnValue() {
+        LongResult<String> result = LongResult.success(10L);
+
+        assertThat(result.get()).isEqualTo(10L);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is error")
+    public void get_resultIsError_throwError() {
+        LongResult.error("error").get();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void getError_resultIsSuccess_throwError() {
+        LongResult.success(10L).getError();
+    }
+
+    @Test
+    public void getOrElse_resultIsError_returnDefault() {
+        LongResult<String> result = LongResult.error("error");
+
+        assertThat(result.getOrElse(5L)).isEqualTo(5L);
+        assertThat(result.getOrElse(String::length)).isEqualTo(5L);
+    }
+
+    @Test
+    public void getOrElse_resultIsSuccess_returnValue() {
+        LongResult<String> result = LongResult.success(10L);
+
+        assertThat(result.getOrElse(5L)).isEqualTo(10L);
+        assertThat(result.getOrElse(String::length)).isEqualTo(10L);
+    }
+
+    @Test
+    public void map_resultIsError_returnSameError() {
+        LongResult<String> result = LongResult.error("error");
+
+        LongResult<String> mapped = result.map(v -> v + 1L);
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void map_resultIsSuccess_returnTransformedSuccess() {
+        LongResult<String> result = LongResult.success(10L);
+
+        LongResult<String> mapped = result.map(v -> v + 1L);
+
+        assertThat(mapped.get()).isEqualTo(11L);
+    }
+
+    @Test
+    public void flatMap_resultIsError_returnSameError() {
+        LongResult<String> result = LongResult.error("error");
+
+        LongResult<String> mapped = result.flatMap(v -> LongResult.success(v + 1L));
+
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnError_returnError() {
+        LongResult<String> result = LongResult.success(10L);
+
+        LongResult<String> mapped = result.flatMap(v -> LongResult.error("error"));
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void flatMap_resultIsSuccessAndFunctionReturnSuccess_returnSuccess() {
+        LongResult<String> result = LongResult.success(10L);
+
+        LongResult<String> mapped = result.flatMap(v -> LongResult.success(v + 1L));
+
+        assertThat(mapped.get()).isEqualTo(11L);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class,
+            expectedExceptionsMessageRegExp = "Function result cannot be null.")
+    public void flatMap_functionReturnNull_throwNPE() {
+        LongResult.success(10L).flatMap(v -> null);
+    }
+
+    @Test
+    public void mapToObj_resultIsError_returnError() {
+        LongResult<String> result = LongResult.error("error");
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5L ? "big" : "small");
+
+        assertThat(mapped.isError()).isTrue();
+        assertThat(mapped.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void mapToObj_resultIsSuccess_returnTransformedSuccess() {
+        LongResult<String> result = LongResult.success(10L);
+
+        Result<String, String> mapped = result.mapToObj(v -> v > 5L ? "big" : "small");
+
+        assertThat(mapped.get()).isEqualTo("big");
+    }
+
+    @Test
+    public void mapError_resultIsError_returnTransformedError() {
+        LongResult<String> result = LongResult.error("error");
+
+        LongResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.getError()).isEqualTo(5);
+    }
+
+    @Test
+    public void mapError_resultIsSuccess_returnSameSuccess() {
+        LongResult<String> result = LongResult.success(10L);
+
+        LongResult<Integer> mapped = result.mapError(String::length);
+
+        assertThat(mapped.get()).isEqualTo(10L);
+    }
+
+    @Test
+    public void boxed_resultIsError_returnGenericError() {
+        Result<String, Long> result = LongResult.<String>error("error").boxed();
+
+        assertThat(result).isEqualTo(Result.error("error"));
+    }
+
+    @Test
+    public void boxed_resultIsSuccess_returnGenericSuccess() {
+        Result<String, Long> result = LongResult.<String>success(10L).boxed();
+
+        assertThat(result).isEqualTo(Result.success(10L));
+    }
+
+    @Test
+    public void fromResult_resultIsError_returnError() {
+        LongResult<String> result = LongResult.fromResult(Result.error("error"));
+
+        assertThat(result).isEqualTo(LongResult.error("error"));
+    }
+
+    @Test
+    public void fromResult_resultIsSuccess_returnSuccess() {
+        LongResult<String> result = LongResult.fromResult(Result.success(10L));
+
+        assertThat(result).isEqualTo(LongResult.success(10L));
+    }
+
+    @Test
+    public void propagate_resultIsError_returnTheSameErrorInstance() {
+        LongResult<String> error = LongResult.error("error");
+
+        LongResult<CharSequence> result = LongResult.propagate(error);
+
+        assertThat(result).isSameAs(error);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void propagate_resultIsSuccess_throwError() {
+        LongResult.propagate(LongResult.success(10L));
+    }
+
+    @Test
+    public void switch_resultIsError_matchErrorPattern() {
+        LongResult<String> result = LongResult.error("error");
+
+        String message = switch (result) {
+            case LongResult.Ok(var value) -> "value";
+            case LongResult.Error(var error) -> error;
+        };
+
+        assertThat(message).isEqualTo("error");
+    }
+
+    @Test
+    public void switch_resultIsSuccess_matchOkPatternWithValue() {
+        LongResult<String> result = LongResult.success(10L);
+
+        long value = switch (result) {
+            case LongResult.Ok(var v) -> v;
+            case LongResult.Error(var error) -> 0L;
+        };
+
+        assertThat(value).isEqualTo(10L);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void unwrap_notTransformed_throwError() {
+        LongResult.success(10L).unwrap();
+    }
+}
@@ -1,13 +1,17 @@
 package dev.khbd.result4j.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -178,6 +182,42 @@ public class OptionTest {
         assertThat(result.get()).isEqualTo("Alex");
     }
 
+    @Test
+    public void propagate_valueIsNone_returnNone() {
+        Option<String> result = Option.propagate(Option.<Integer>none());
+
+        assertThat(result).isSameAs(Option.none());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Option is not empty")
+    public void propagate_valueIsSome_throwError() {
+        Option.propagate(Option.some(10));
+    }
+
+    @Test
+    public void switch_valueIsNone_matchNonePattern() {
+        Option<String> option = Option.none();
+
+        String result = switch (option) {
+            case Option.Some(var value) -> value;
+            case Option.None() -> "none";
+        };
+
+        assertThat(result).isEqualTo("none");
+    }
+
+    @Test
+    public void switch_valueIsSome_matchSomePatternWithValue() {
+        Option<String> option = Option.some("Alex");
+
+        String result = switch (option) {
+            case Option.Some(var value) -> value;
+            case Option.None() -> "none";
+        };
+
+        assertThat(result).isEqualTo("Alex");
+    }
+
     @Test
     public void map_valueIsNone_returnNone() {
         Option<String> option = Option.none();
@@ -332,6 +372,195 @@ public class OptionTest {
         assertThat(result.isEmpty()).isTrue();
     }
 
+    @Test
+    public void sequencing_parallelStreamWithoutEmpty_returnAllValuesInOrder() {
+        Option<List<Integer>> result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(Option::some)
+                .collect(Option.sequencing(Collectors.toList()));
+
+        assertThat(result.get()).isEqualTo(IntStream.range(0, 100_000).boxed().toList());
+    }
+
+    @Test
+    public void sequencing_parallelStreamWithEmpty_returnNone() {
+        Option<List<Integer>> result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i == 50_000 ? Option.<Integer>none() : Option.some(i))
+                .collect(Option.sequencing(Collectors.toList()));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void traversing_atLeastOneIsEmpty_doNotInvokeFunctionAfterEmpty() {
+        List<Integer> invoked = new ArrayList<>();
+
+        Option<List<Integer>> result = Stream.of(1, 2, 3)
+                .collect(Option.traversing(i -> {
+                    invoked.add(i);
+                    return i == 2 ? Option.none() : Option.some(i);
+                }, Collectors.toList()));
+
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(invoked).containsExactly(1, 2);
+    }
+
+    @Test
+    public void takeUntilEmpty_streamWithEmpty_doNotPullElementsAfterEmpty() {
+        List<Integer> pulled = new ArrayList<>();
+
+        Option<List<Integer>> result = Option.takeUntilEmpty(
+                Stream.of(1, 2, 3)
+                        .peek(pulled::add)
+                        .map(i -> i == 2 ? Option.<Integer>none() : Option.some(i))
+        ).collect(Option.sequencing(Collectors.toList()));
+
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(pulled).containsExactly(1, 2);
+    }
+
+    @Test
+    public void takeUntilEmpty_streamWithoutEmpty_returnAllElements() {
+        List<Option<Integer>> options = Option.takeUntilEmpty(Stream.of(Option.some(1), Option.some(2))).toList();
+
+        assertThat(options).containsExactly(Option.some(1), Option.some(2));
+    }
+
+    @Test
+    public void traverseList_allValuesArePresent_returnUnmodifiableList() {
+        Option<List<Integer>> result = Option.traverse(List.of(1, 2, 3), i -> Option.some(i * 10));
+
+        assertThat(result.get()).containsExactly(10, 20, 30);
+        assertThatThrownBy(() -> result.get().add(40)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void traverseList_someValueIsEmpty_returnNoneAndStop() {
+        List<Integer> invoked = new ArrayList<>();
+
+        Option<List<Integer>> result = Option.traverse(List.of(1, 2, 3), i -> {
+            invoked.add(i);
+            return i == 2 ? Option.none() : Option.some(i);
+        });
+
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(invoked).containsExactly(1, 2);
+    }
+
+    @Test
+    public void traverseArray_someValueIsEmpty_returnNone() {
+        Option<List<Integer>> result = Option.traverse(new Integer[]{1, 2}, i -> i == 2 ? Option.none() : Option.some(i));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void traverseIterable_allValuesArePresent_returnList() {
+        Option<List<Integer>> result = Option.traverse(new LinkedList<>(List.of(1, 2)), Option::some);
+
+        assertThat(result.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void sequenceList_allValuesArePresent_returnList() {
+        Option<List<Integer>> result = Option.sequence(List.of(Option.some(1), Option.some(2)));
+
+        assertThat(result.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sequenceArray_someValueIsEmpty_returnNone() {
+        Option<Integer>[] options = new Option[]{Option.some(1), Option.none()};
+
+        Option<List<Integer>> result = Option.sequence(options);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void sequenceIterable_allValuesArePresent_returnList() {
+        Iterable<Option<Integer>> options = () -> List.of(Option.some(1), Option.some(2)).iterator();
+
+        Option<List<Integer>> result = Option.sequence(options);
+
+        assertThat(result.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void ap3_allOptionsAreNotEmpty_returnCombined() {
+        Option<String> result = Option.ap(Option.some("a"), Option.some(1), Option.some(true))
+                .apply((a, b, c) -> a + b + c);
+
+        assertThat(result.get()).isEqualTo("a1true");
+    }
+
+    @Test
+    public void ap6_oneOptionIsEmpty_returnNoneWithoutInvokingFunction() {
+        Option<Integer> result = Option.ap(
+                Option.some(1),
+                Option.some(2),
+                Option.some(3),
+                Option.<Integer>none(),
+                Option.some(5),
+                Option.some(6)
+        ).apply((a, b, c, d, e, f) -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void apWithFunction2_functionReturnsNull_returnNone() {
+        Option<String> result = Option.ap(Option.some("a"), Option.some(1), (a, b) -> null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void apWithFunction3_oneOptionIsEmpty_returnNoneWithoutInvokingFunction() {
+        Option<Integer> result = Option.ap(Option.some(1), Option.<Integer>none(), Option.some(3), (a, b, c) -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void apWithFunction8_allOptionsAreNotEmpty_returnCombined() {
+        Option<Integer> result = Option.ap(
+                Option.some(1),
+                Option.some(2),
+                Option.some(3),
+                Option.some(4),
+                Option.some(5),
+                Option.some(6),
+                Option.some(7),
+                Option.some(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h
+        );
+
+        assertThat(result.get()).isEqualTo(36);
+    }
+
+    @Test
+    public void ap8_allOptionsAreNotEmpty_returnCombined() {
+        Option<Integer> result = Option.ap(
+                Option.some(1),
+                Option.some(2),
+                Option.some(3),
+                Option.some(4),
+                Option.some(5),
+                Option.some(6),
+                Option.some(7),
+                Option.some(8)
+        ).apply((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertThat(result.get()).isEqualTo(36);
+    }
+
     @Test
     public void orElse_valueIsNone_returnOther() {
         Option<String> option = Option.none();
@@ -389,4 +618,25 @@ public class OptionTest {
 
         assertThat(result).containsExactly("Alex");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void some_valueIsCached_returnSharedInstance() {
+        assertThat(Option.some(NoData.INSTANCE)).isSameAs(Option.some(NoData.INSTANCE));
+        assertThat(Option.some(true)).isSameAs(Option.some(Boolean.TRUE));
+        assertThat(Option.some(Boolean.FALSE)).isSameAs(Option.some(false));
+        assertThat(Option.some(-128)).isSameAs(Option.some(-128));
+        assertThat(Option.some(127L)).isSameAs(Option.some(127L));
+        assertThat(Option.some('z')).isSameAs(Option.some('z'));
+    }
+
+    @Test
+    public void some_valueIsNotCached_returnNewInstance() {
+        assertThat(Option.some(-129)).isNotSameAs(Option.some(-129));
+        assertThat(Option.some("Alex")).isNotSameAs(Option.some("Alex"));
+    }
+
+    @Test
+    public void drop_valueIsNotEmpty_returnSharedInstance() {
+        assertThat(Option.some("Alex").drop()).isSameAs(Option.some(10).drop());
+    }
+}
@@ -0,0 +1,220 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class ResultFutureTest {
+
+    @Test
+    public void map_completedSuccess_mapImmediately() {
+        ResultFuture<String, Integer> future = ResultFuture.<String, Integer>success(10).map(v -> v * 2);
+
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.join()).isEqualTo(Result.success(20));
+    }
+
+    @Test
+    public void map_completedError_returnTheSameInstance() {
+        ResultFuture<String, Integer> future = ResultFuture.error("error");
+
+        ResultFuture<String, String> mapped = future.map(v -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(mapped).isSameAs(future);
+    }
+
+    @Test
+    public void map_functionThrowsException_completeExceptionally() {
+        ResultFuture<String, Integer> future = ResultFuture.<String, Integer>success(10).map(v -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("boom");
+    }
+
+    @Test
+    public void map_notCompleted_mapWhenCompleted() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+
+        ResultFuture<String, Integer> future = ResultFuture.from(source).map(v -> v * 2);
+        assertThat(future.isDone()).isFalse();
+
+        source.complete(Result.success(10));
+
+        assertThat(future.join()).isEqualTo(Result.success(20));
+    }
+
+    @Test
+    public void map_sourceIsCompletedAlready_mapImmediately() {
+        ResultFuture<String, Integer> future = ResultFuture.from(CompletableFuture.completedFuture(Result.<String, Integer>success(10)));
+
+        ResultFuture<String, Integer> mapped = future.map(v -> v * 2);
+
+        assertThat(mapped.isDone()).isTrue();
+        assertThat(mapped.join()).isEqualTo(Result.success(20));
+    }
+
+    @Test
+    public void map_sourceIsFailed_keepException() {
+        ResultFuture<String, Integer> future = ResultFuture.from(CompletableFuture.failedFuture(new IOException("io")));
+
+        ResultFuture<String, Integer> mapped = future.map(v -> v * 2).mapError(String::toUpperCase);
+
+        assertThat(mapped).isSameAs(future);
+        assertThatThrownBy(mapped::join).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void flatMap_completedSuccess_returnNextFuture() {
+        ResultFuture<String, Integer> next = ResultFuture.success(20);
+
+        ResultFuture<String, Integer> future = ResultFuture.<String, Integer>success(10).flatMap(v -> next);
+
+        assertThat(future).isSameAs(next);
+    }
+
+    @Test
+    public void flatMap_notCompleted_composeWhenCompleted() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+        CompletableFuture<Result<String, Integer>> nextSource = new CompletableFuture<>();
+
+        ResultFuture<String, Integer> future = ResultFuture.from(source).flatMap(v -> ResultFuture.from(nextSource).map(n -> n + v));
+
+        source.complete(Result.success(10));
+        assertThat(future.isDone()).isFalse();
+        nextSource.complete(Result.success(5));
+
+        assertThat(future.join()).isEqualTo(Result.success(15));
+    }
+
+    @Test
+    public void flatMap_notCompletedError_propagateError() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+
+        ResultFuture<String, Integer> future = ResultFuture.from(source).flatMap(v -> ResultFuture.success(v * 2));
+        source.complete(Result.error("error"));
+
+        assertThat(future.join()).isEqualTo(Result.error("error"));
+    }
+
+    @Test
+    public void mapError_completedError_mapImmediately() {
+        ResultFuture<Integer, Integer> future = ResultFuture.<String, Integer>error("error").mapError(String::length);
+
+        assertThat(future.join()).isEqualTo(Result.error(5));
+    }
+
+    @Test
+    public void mapError_notCompleted_mapWhenCompleted() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+
+        ResultFuture<Integer, Integer> future = ResultFuture.from(source).mapError(String::length);
+        source.complete(Result.error("error"));
+
+        assertThat(future.join()).isEqualTo(Result.error(5));
+    }
+
+    @Test
+    public void recover_completedError_recoverImmediately() {
+        ResultFuture<String, Integer> future = ResultFuture.<String, Integer>error("error")
+                .recover(error -> Result.success(error.length()));
+
+        assertThat(future.join()).isEqualTo(Result.success(5));
+    }
+
+    @Test
+    public void recover_completedSuccess_returnTheSameInstance() {
+        ResultFuture<String, Integer> future = ResultFuture.success(10);
+
+        assertThat(future.recover(error -> Result.success(0))).isSameAs(future);
+    }
+
+    @Test
+    public void recover_notCompleted_recoverWhenCompleted() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+
+        ResultFuture<String, Integer> future = ResultFuture.from(source).recover(error -> Result.success(0));
+        source.complete(Result.error("error"));
+
+        assertThat(future.join()).isEqualTo(Result.success(0));
+    }
+
+    @Test
+    public void recover_sourceIsFailed_doNotRecoverException() {
+        ResultFuture<String, Integer> future = ResultFuture.<String, Integer>from(CompletableFuture.failedFuture(new IOException("io")))
+                .recover(error -> Result.success(0));
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void recoverException_sourceIsFailed_recoverWithUnwrappedException() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+
+        ResultFuture<String, Integer> future = ResultFuture.from(source)
+                .map(v -> v * 2)
+                .recoverException(e -> Result.error(e.getClass().getSimpleName()));
+        source.completeExceptionally(new IOException("io"));
+
+        assertThat(future.join()).isEqualTo(Result.error("IOException"));
+    }
+
+    @Test
+    public void recoverException_completedSuccess_returnTheSameInstance() {
+        ResultFuture<String, Integer> future = ResultFuture.success(10);
+
+        assertThat(future.recoverException(e -> Result.error("error"))).isSameAs(future);
+    }
+
+    @Test
+    public void fromErroneous_codeThrowsException_returnTypedError() {
+        ResultFuture<Exception, Integer> future = ResultFuture.fromErroneous(() -> {
+            throw new IOException("io");
+        }, ForkJoinPool.commonPool());
+
+        Result<Exception, Integer> result = future.join();
+
+        assertThat(result.getError()).isInstanceOf(IOException.class).hasMessage("io");
+    }
+
+    @Test
+    public void supplyAsync_supplierReturnsSuccess_returnSuccess() {
+        ResultFuture<String, Integer> future = ResultFuture.supplyAsync(() -> Result.success(10), ForkJoinPool.commonPool());
+
+        assertThat(future.map(v -> v + 1).join()).isEqualTo(Result.success(11));
+    }
+
+    @Test
+    public void toCompletableFuture_completedResult_returnCompletedFuture() {
+        CompletableFuture<Result<String, Integer>> future = ResultFuture.<String, Integer>success(10).toCompletableFuture();
+
+        assertThat(future.join()).isEqualTo(Result.success(10));
+    }
+
+    @Test
+    public void toCompletableFuture_completeReturnedFuture_resultFutureIsNotChanged() {
+        CompletableFuture<Result<String, Integer>> source = new CompletableFuture<>();
+        ResultFuture<String, Integer> future = ResultFuture.from(source).map(v -> v * 2);
+
+        CompletableFuture<Result<String, Integer>> copy = future.toCompletableFuture();
+        copy.complete(Result.error("error"));
+        copy.obtrudeValue(Result.error("error"));
+        source.complete(Result.success(10));
+
+        assertThat(future.join()).isEqualTo(Result.success(20));
+        assertThat(future.toCompletableFuture().join()).isEqualTo(Result.success(20));
+    }
+}
@@ -0,0 +1,79 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.CountingResultMetrics.ErrorCounts;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class ResultMetricsTest {
+
+    @Test
+    public void installed_noListenerIsRegistered_returnEmptyList() {
+        assertThat(ResultMetrics.installed()).isEmpty();
+    }
+
+    @Test
+    public void hooks_noListenerIsRegistered_createResults() {
+        assertThat(Result.success("value").isSuccess()).isTrue();
+        assertThat(Result.error("error").mapError(String::length).getError()).isEqualTo(5);
+        assertThat(IntResult.error("error").mapError(String::length).getError()).isEqualTo(5);
+        assertThat(Result.<String, String>error("error").orElse(Result.success("value")).get()).isEqualTo("value");
+    }
+
+    @Test
+    public void snapshot_errorClassIsNotSeen_returnZeroCounts() {
+        CountingResultMetrics metrics = new CountingResultMetrics();
+
+        ErrorCounts counts = metrics.snapshot().errors(CreatedError.class);
+
+        assertThat(counts).isEqualTo(new ErrorCounts(0, 0, 0));
+    }
+
+    @Test
+    public void snapshot_countFromManyThreads_returnAllCounts() {
+        CountingResultMetrics metrics = new CountingResultMetrics();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            CompletableFuture<?>[] futures = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        for (int j = 0; j < 1000; j++) {
+                            metrics.successCreated();
+                            metrics.errorCreated("error");
+                            metrics.errorMapped(404, "error");
+                            metrics.errorRecovered("error");
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+
+        CountingResultMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.successes()).isEqualTo(8000);
+        assertThat(snapshot.errors(String.class)).isEqualTo(new ErrorCounts(8000, 0, 8000));
+        assertThat(snapshot.errors(Integer.class)).isEqualTo(new ErrorCounts(0, 8000, 0));
+    }
+
+    @Test
+    public void snapshot_countAfterSnapshot_snapshotIsNotChanged() {
+        CountingResultMetrics metrics = new CountingResultMetrics();
+        metrics.errorCreated("error");
+
+        CountingResultMetrics.Snapshot snapshot = metrics.snapshot();
+        metrics.errorCreated("error");
+        metrics.successCreated();
+
+        assertThat(snapshot.successes()).isZero();
+        assertThat(snapshot.errors(String.class).created()).isEqualTo(1);
+    }
+
+    private static final class CreatedError {
+    }
+}
@@ -0,0 +1,212 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class ResultScopeTest {
+
+    @Test
+    public void join_noTasks_returnSuccess() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            assertThat(scope.join()).isEqualTo(Result.success(NoData.INSTANCE));
+        }
+    }
+
+    @Test
+    public void join_allTasksAreSuccess_runConcurrentlyAndReturnSuccess() throws Exception {
+        long start = System.nanoTime();
+
+        try (ResultScope<String> scope = ResultScope.open(Duration.ofSeconds(10), () -> "timeout")) {
+            ResultScope.Subtask<Integer> first = scope.fork(() -> sleepAndReturn(300, Result.success(1)));
+            ResultScope.Subtask<String> second = scope.fork(() -> sleepAndReturn(300, Result.success("2")));
+            ResultScope.Subtask<Boolean> third = scope.fork(() -> sleepAndReturn(300, Result.success(true)));
+
+            Result<String, String> result = scope.join().map(ok -> first.get() + second.get() + third.get());
+
+            assertThat(result).isEqualTo(Result.success("12true"));
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+    }
+
+    @Test
+    public void join_ownerIsInterrupted_throwErrorAndAllowToJoinAgain() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ResultScope<String> scope = ResultScope.open()) {
+            ResultScope.Subtask<Integer> task = scope.fork(() -> {
+                release.await();
+                return Result.success(1);
+            });
+
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(scope::join).isInstanceOf(InterruptedException.class);
+
+            release.countDown();
+
+            assertThat(scope.join()).isEqualTo(Result.success(NoData.INSTANCE));
+            assertThat(task.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void fork_always_runTaskOnVirtualThread() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            ResultScope.Subtask<Boolean> virtual = scope.fork(() -> Result.success(Thread.currentThread().isVirtual()));
+
+            scope.join();
+
+            assertThat(virtual.get()).isTrue();
+        }
+    }
+
+    @Test
+    public void join_oneTaskIsError_returnErrorAndInterruptSiblings() throws Exception {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        try (ResultScope<String> scope = ResultScope.open()) {
+            ResultScope.Subtask<Integer> slow = scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return Result.success(1);
+            });
+            scope.fork(() -> {
+                started.await();
+                return Result.error("error");
+            });
+
+            Result<String, NoData> result = scope.join();
+
+            assertThat(result).isEqualTo(Result.error("error"));
+            assertThatThrownBy(slow::get)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Subtask is not completed successfully");
+        }
+
+        assertThat(interrupted).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void join_deadlineIsReached_returnTimeoutErrorAndInterruptTasks() throws Exception {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        long start = System.nanoTime();
+
+        try (ResultScope<String> scope = ResultScope.open(Duration.ofMillis(200), () -> "timeout")) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return Result.success(1);
+            });
+
+            assertThat(scope.join()).isEqualTo(Result.error("timeout"));
+        }
+
+        assertThat(interrupted).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void join_taskThrowsException_throwCompletionException() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("boom");
+        }
+    }
+
+    @Test
+    public void fork_scopeIsJoined_throwError() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            scope.join();
+
+            assertThatThrownBy(() -> scope.fork(() -> Result.success(1)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Scope is already joined");
+        }
+    }
+
+    @Test
+    public void fork_scopeIsClosed_throwError() {
+        ResultScope<String> scope = ResultScope.open();
+        scope.close();
+
+        assertThatThrownBy(() -> scope.fork(() -> Result.success(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Scope is shut down");
+    }
+
+    @Test
+    public void fork_currentThreadIsNotOwner_throwError() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+            Thread thread = Thread.ofVirtual().start(() -> {
+                try {
+                    scope.fork(() -> Result.success(1));
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            thread.join();
+
+            assertThat(thrown.get())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Current thread is not scope owner");
+            assertThat(scope.join()).isEqualTo(Result.success(NoData.INSTANCE));
+        }
+    }
+
+    @Test
+    public void join_currentThreadIsNotOwner_throwError() throws Exception {
+        try (ResultScope<String> scope = ResultScope.open()) {
+            AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+            Thread thread = Thread.ofVirtual().start(() -> {
+                try {
+                    scope.join();
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            thread.join();
+
+            assertThat(thrown.get())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Current thread is not scope owner");
+        }
+    }
+
+    private static <R> Result<String, R> sleepAndReturn(long millis, Result<String, R> result) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(millis);
+        return result;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.khbd.result4j.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -11,13 +12,20 @@ import static org.mockito.Mockito.when;
 
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -308,6 +316,128 @@ public class ResultTest {
         verify(errorF, never()).apply(any());
     }
 
+    @Test
+    public void propagate_resultIsError_returnTheSameInstance() {
+        Result<String, Integer> error = Result.error("error");
+
+        Result<CharSequence, String> result = Result.propagate(error);
+
+        assertThat(result).isSameAs(error);
+        assertError(result, "error");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void propagate_resultIsSuccess_throwError() {
+        Result.propagate(Result.success(10));
+    }
+
+    @Test
+    public void propagateTraced_resultIsError_returnNewErrorWithTrace() {
+        Result<String, Integer> error = Result.error("error");
+
+        Result<String, String> first = Result.propagate(error, "cases.Main", "first", "Main.java", 10);
+        Result<String, String> second = Result.propagate(first, "cases.Main", "second", "Main.java", 20);
+
+        assertError(second, "error");
+        assertThat(second).isNotSameAs(first).isNotSameAs(error);
+        assertThat(error.propagationTrace()).isEmpty();
+        assertThat(first.propagationTrace()).containsExactly(
+                new StackTraceElement("cases.Main", "first", "Main.java", 10)
+        );
+        assertThat(second.propagationTrace()).containsExactly(
+                new StackTraceElement("cases.Main", "first", "Main.java", 10),
+                new StackTraceElement("cases.Main", "second", "Main.java", 20)
+        );
+    }
+
+    @Test
+    public void propagateTraced_sharedErrorInstance_doNotChangeIt() {
+        Result<ErrorCode, Integer> error = Result.error(ErrorCode.NOT_FOUND);
+
+        Result.propagate(error, "cases.Main", "first", "Main.java", 10);
+
+        assertThat(Result.error(ErrorCode.NOT_FOUND).propagationTrace()).isEmpty();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Result is success")
+    public void propagateTraced_resultIsSuccess_throwError() {
+        Result.propagate(Result.success(10), "cases.Main", "first", "Main.java", 10);
+    }
+
+    @Test
+    public void propagateTraced_errorIsTransformed_keepTrace() {
+        Result<String, Integer> error = Result.error("error");
+        Result<String, Integer> traced = Result.propagate(error, "cases.Main", "first", "Main.java", 10);
+
+        List<StackTraceElement> expected = List.of(new StackTraceElement("cases.Main", "first", "Main.java", 10));
+        assertThat(traced.map(value -> value + 1).propagationTrace()).isEqualTo(expected);
+        assertThat(traced.flatMap(value -> Result.success(value + 1)).propagationTrace()).isEqualTo(expected);
+        assertThat(traced.mapError(String::length).propagationTrace()).isEqualTo(expected);
+        assertThat(traced.bimap(String::length, value -> value + 1).propagationTrace()).isEqualTo(expected);
+        assertThat(traced.dropError().propagationTrace()).isEqualTo(expected);
+        assertThat(traced.mapError(String::length).getError()).isEqualTo(5);
+    }
+
+    @Test
+    public void propagateTraced_plainPropagationOfTracedError_keepTrace() {
+        Result<String, Integer> traced = Result.propagate(Result.error("error"), "cases.Main", "first", "Main.java", 10);
+
+        Result<String, String> propagated = Result.propagate(traced);
+
+        assertThat(propagated.propagationTrace()).hasSize(1);
+    }
+
+    @Test
+    public void equals_tracedAndNotTracedErrors_areEqual() {
+        Result<String, Integer> traced = Result.propagate(Result.error("error"), "cases.Main", "first", "Main.java", 10);
+
+        assertThat(traced).isEqualTo(Result.error("error"));
+        assertThat(traced.hashCode()).isEqualTo(Result.error("error").hashCode());
+        assertThat(traced.toString()).isEqualTo(Result.error("error").toString());
+    }
+
+    @Test
+    public void patternMatching_tracedError_matchErrorValue() {
+        Result<String, Integer> traced = Result.propagate(Result.error("error"), "cases.Main", "first", "Main.java", 10);
+
+        String message = switch (traced) {
+            case Result.Ok(var value) -> "value " + value;
+            case Result.Error(var error) -> "error " + error;
+        };
+
+        assertThat(message).isEqualTo("error error");
+        assertThat(traced.getError()).isEqualTo("error");
+    }
+
+    @Test
+    public void propagationTrace_resultIsSuccess_returnEmptyList() {
+        assertThat(Result.success(10).propagationTrace()).isEmpty();
+    }
+
+    @Test
+    public void switch_resultIsError_matchErrorPatternWithError() {
+        Result<String, Integer> result = Result.error("error");
+
+        String message = switch (result) {
+            case Result.Ok(var value) -> "value " + value;
+            case Result.Error(var error) -> "error " + error;
+        };
+
+        assertThat(message).isEqualTo("error error");
+    }
+
+    @Test
+    public void switch_resultIsSuccess_matchOkPatternWithValue() {
+        Result<String, Integer> result = Result.success(10);
+
+        String message = switch (result) {
+            case Result.Ok(var value) -> "value " + value;
+            case Result.Error(var error) -> "error " + error;
+        };
+
+        assertThat(message).isEqualTo("value 10");
+    }
+
     @Test
     public void flatten_resultIsError_returnIt() {
         Result<String, ?> result = Result.flatten(Result.error("error"));
@@ -343,6 +473,14 @@ public class ResultTest {
         assertSuccess(result, NoData.INSTANCE);
     }
 
+    @Test
+    public void drop_valueIsSuccess_returnSharedInstance() {
+        Result<?, NoData> result1 = Result.success("Alex").drop();
+        Result<?, NoData> result2 = Result.success(10).drop();
+
+        assertThat(result1).isSameAs(result2);
+    }
+
     @Test
     public void dropError_valueIsError_dropIt() {
         Result<NoData, ?> result = Result.error("error").dropError();
@@ -357,6 +495,27 @@ public class ResultTest {
         assertSuccess(result, "text");
     }
 
+    @Test
+    public void drop_valueIsError_returnSameInstance() {
+        Result<String, Integer> result = Result.error("error");
+
+        assertThat(result.drop()).isSameAs(result);
+    }
+
+    @Test
+    public void dropError_valueIsSuccess_returnSameInstance() {
+        Result<String, String> result = Result.success("text");
+
+        assertThat(result.dropError()).isSameAs(result);
+    }
+
+    @Test
+    public void orElse_resultIsError_returnOtherInstance() {
+        Result<String, String> other = Result.success("text");
+
+        assertThat(Result.<String, String>error("error").orElse(other)).isSameAs(other);
+    }
+
     @Test
     public void toOption_valueIsError_returnNone() {
         Option<?> result = Result.error("error").toOption();
@@ -467,6 +626,359 @@ public class ResultTest {
         assertError(result, "error");
     }
 
+    @Test
+    public void sequencing_severalErrors_returnFirstError() {
+        Result<String, List<Integer>> result =
+                Stream.<Result<String, Integer>>of(Result.success(10), Result.error("first"), Result.error("second"))
+                        .collect(Result.sequencing(Collectors.toList()));
+
+        assertError(result, "first");
+    }
+
+    @Test
+    public void sequencing_parallelStreamWithSeveralErrors_returnFirstError() {
+        Result<String, List<Integer>> result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i % 1000 == 999 ? Result.<String, Integer>error("error " + i) : Result.<String, Integer>success(i))
+                .collect(Result.sequencing(Collectors.toList()));
+
+        assertError(result, "error 999");
+    }
+
+    @Test
+    public void sequencing_parallelStreamWithoutErrors_returnAllValuesInOrder() {
+        Result<String, List<Integer>> result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(Result::<String, Integer>success)
+                .collect(Result.sequencing(Collectors.toList()));
+
+        assertSuccess(result, IntStream.range(0, 100_000).boxed().toList());
+    }
+
+    @Test
+    public void traversing_someValuesAreError_doNotInvokeFunctionAfterFirstError() {
+        List<Integer> invoked = new ArrayList<>();
+
+        Result<String, List<Integer>> result = Stream.of(10, 20, 30, 40)
+                .collect(Result.traversing(num -> {
+                    invoked.add(num);
+                    return num == 20 ? Result.error("error") : Result.success(num);
+                }, Collectors.toList()));
+
+        assertError(result, "error");
+        assertThat(invoked).containsExactly(10, 20);
+    }
+
+    @Test
+    public void takeUntilError_streamWithError_doNotPullElementsAfterError() {
+        List<Integer> pulled = new ArrayList<>();
+
+        Result<String, List<Integer>> result = Result.takeUntilError(
+                Stream.of(10, 20, 30, 40)
+                        .peek(pulled::add)
+                        .map(num -> num == 20 ? Result.<String, Integer>error("error") : Result.<String, Integer>success(num))
+        ).collect(Result.sequencing(Collectors.toList()));
+
+        assertError(result, "error");
+        assertThat(pulled).containsExactly(10, 20);
+    }
+
+    @Test
+    public void takeUntilError_streamWithoutErrors_returnAllElements() {
+        List<Result<String, Integer>> results = Result.takeUntilError(
+                Stream.<Result<String, Integer>>of(Result.success(10), Result.success(20))
+        ).toList();
+
+        assertThat(results).containsExactly(Result.success(10), Result.success(20));
+    }
+
+    @Test
+    public void takeUntilError_infiniteStream_stopAfterFirstError() {
+        Result<String, List<Integer>> result = Result.takeUntilError(
+                Stream.iterate(0, i -> i + 1)
+                        .map(i -> i == 5 ? Result.<String, Integer>error("error") : Result.<String, Integer>success(i))
+        ).collect(Result.sequencing(Collectors.toList()));
+
+        assertError(result, "error");
+    }
+
+    @Test
+    public void takeUntilError_closeStream_closeOriginalStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Result<String, Integer>> stream = Stream.<Result<String, Integer>>of(Result.success(10))
+                .onClose(() -> closed.set(true));
+
+        Result.takeUntilError(stream).close();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void traverseList_allValuesAreSuccess_returnUnmodifiableList() {
+        Result<String, List<Integer>> result = Result.traverse(List.of(1, 2, 3), num -> Result.success(num * 10));
+
+        assertSuccess(result, List.of(10, 20, 30));
+        assertThatThrownBy(() -> result.get().add(40)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void traverseList_someValuesAreError_returnFirstErrorAndStop() {
+        List<Integer> invoked = new ArrayList<>();
+
+        Result<String, List<Integer>> result = Result.traverse(List.of(1, 2, 3, 4), num -> {
+            invoked.add(num);
+            return num % 2 == 0 ? Result.error("error " + num) : Result.success(num);
+        });
+
+        assertError(result, "error 2");
+        assertThat(invoked).containsExactly(1, 2);
+    }
+
+    @Test
+    public void traverseList_notRandomAccessList_returnList() {
+        Result<String, List<Integer>> result = Result.traverse(new LinkedList<>(List.of(1, 2, 3)), Result::success);
+
+        assertSuccess(result, List.of(1, 2, 3));
+    }
+
+    @Test
+    public void traverseArray_allValuesAreSuccess_returnList() {
+        Result<String, List<Integer>> result = Result.traverse(new String[]{"1", "2"}, str -> Result.success(Integer.parseInt(str)));
+
+        assertSuccess(result, List.of(1, 2));
+    }
+
+    @Test
+    public void traverseArray_someValuesAreError_returnFirstError() {
+        Result<String, List<Integer>> result = Result.traverse(new String[]{"1", "x", "y"},
+                str -> str.equals("1") ? Result.success(1) : Result.error("not a number: " + str));
+
+        assertError(result, "not a number: x");
+    }
+
+    @Test
+    public void traverseIterable_allValuesAreSuccess_returnList() {
+        Iterable<Integer> values = () -> List.of(1, 2, 3).iterator();
+
+        Result<String, List<Integer>> result = Result.traverse(values, Result::success);
+
+        assertSuccess(result, List.of(1, 2, 3));
+    }
+
+    @Test
+    public void traverseIterable_someValuesAreError_returnFirstError() {
+        Result<String, List<Integer>> result = Result.traverse(new LinkedHashSet<>(List.of(1, 2, 3)),
+                num -> num > 1 ? Result.error("error " + num) : Result.success(num));
+
+        assertError(result, "error 2");
+    }
+
+    @Test
+    public void sequenceList_allValuesAreSuccess_returnList() {
+        Result<String, List<Integer>> result = Result.sequence(List.of(Result.success(1), Result.success(2)));
+
+        assertSuccess(result, List.of(1, 2));
+    }
+
+    @Test
+    public void sequenceList_emptyList_returnEmptyList() {
+        Result<String, List<Integer>> result = Result.sequence(List.<Result<String, Integer>>of());
+
+        assertSuccess(result, List.of());
+    }
+
+    @Test
+    public void sequenceList_someValuesAreError_returnFirstError() {
+        Result<String, List<Integer>> result = Result.sequence(
+                List.of(Result.success(1), Result.error("first"), Result.error("second")));
+
+        assertError(result, "first");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sequenceArray_someValuesAreError_returnFirstError() {
+        Result<String, Integer>[] results = new Result[]{Result.success(1), Result.error("error")};
+
+        Result<String, List<Integer>> result = Result.sequence(results);
+
+        assertError(result, "error");
+    }
+
+    @Test
+    public void sequenceIterable_allValuesAreSuccess_returnList() {
+        Set<Result<String, Integer>> results = new LinkedHashSet<>(List.of(Result.success(1), Result.success(2)));
+
+        Result<String, List<Integer>> result = Result.sequence(results);
+
+        assertSuccess(result, List.of(1, 2));
+    }
+
+    @Test
+    public void traverseParallel_emptyCollection_returnEmptyList() {
+        Result<String, List<Integer>> result = Result.traverseParallel(List.<Integer>of(), Result::success, ForkJoinPool.commonPool());
+
+        assertSuccess(result, List.of());
+    }
+
+    @Test
+    public void traverseParallel_allValuesAreSuccess_returnListInCollectionOrder() {
+        List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Result<String, List<Integer>> result = Result.traverseParallel(values, num -> Result.success(num * 2), pool);
+
+            assertSuccess(result, IntStream.range(0, 100_000).map(num -> num * 2).boxed().toList());
+            assertThatThrownBy(() -> result.get().add(1)).isInstanceOf(UnsupportedOperationException.class);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void traverseParallel_severalErrors_returnFirstErrorInCollectionOrder() {
+        List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int attempt = 0; attempt < 10; attempt++) {
+                Result<String, List<Integer>> result = Result.traverseParallel(values,
+                        num -> num % 10_000 == 5_000 ? Result.error("error " + num) : Result.success(num), pool);
+
+                assertError(result, "error 5000");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void traverseParallel_errorAtTheBeginning_skipMostOfValues() {
+        List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+        AtomicInteger invoked = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Result<String, List<Integer>> result = Result.traverseParallel(values, num -> {
+                invoked.incrementAndGet();
+                return num == 0 ? Result.error("error") : Result.success(num);
+            }, pool);
+
+            assertError(result, "error");
+            assertThat(invoked.get()).isLessThan(values.size() / 2);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void traverseParallel_functionThrowsException_rethrowException() {
+        assertThatThrownBy(() -> Result.traverseParallel(List.of(1, 2, 3), num -> {
+            throw new IllegalStateException("boom");
+        }, ForkJoinPool.commonPool()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("boom");
+    }
+
+    @Test
+    public void ap3_allResultsAreSuccess_returnCombined() {
+        Result<String, String> result = Result.ap(
+                Result.<String, String>success("a"),
+                Result.<String, Integer>success(1),
+                Result.<String, Boolean>success(true)
+        ).apply((a, b, c) -> a + b + c);
+
+        assertSuccess(result, "a1true");
+    }
+
+    @Test
+    public void ap5_severalResultsAreError_returnFirstErrorWithoutInvokingFunction() {
+        Result<String, Integer> result = Result.ap(
+                Result.<String, Integer>success(1),
+                Result.<String, Integer>error("second"),
+                Result.<String, Integer>success(3),
+                Result.<String, Integer>error("fourth"),
+                Result.<String, Integer>success(5)
+        ).apply((a, b, c, d, e) -> {
+            throw new IllegalStateException();
+        });
+
+        assertError(result, "second");
+    }
+
+    @Test
+    public void ap8_allResultsAreSuccess_returnCombined() {
+        Result<String, Integer> result = Result.ap(
+                Result.<String, Integer>success(1),
+                Result.<String, Integer>success(2),
+                Result.<String, Integer>success(3),
+                Result.<String, Integer>success(4),
+                Result.<String, Integer>success(5),
+                Result.<String, Integer>success(6),
+                Result.<String, Integer>success(7),
+                Result.<String, Integer>success(8)
+        ).apply((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertSuccess(result, 36);
+    }
+
+    @Test
+    public void apWithFunction2_bothResultsAreSuccess_returnCombined() {
+        Result<String, String> result = Result.ap(
+                Result.<String, String>success("a"),
+                Result.<String, Integer>success(1),
+                (a, b) -> a + b
+        );
+
+        assertSuccess(result, "a1");
+    }
+
+    @Test
+    public void apWithFunction4_severalResultsAreError_returnFirstErrorWithoutInvokingFunction() {
+        Result<String, Integer> result = Result.ap(
+                Result.<String, Integer>success(1),
+                Result.<String, Integer>error("second"),
+                Result.<String, Integer>error("third"),
+                Result.<String, Integer>success(4),
+                (a, b, c, d) -> {
+                    throw new IllegalStateException();
+                }
+        );
+
+        assertError(result, "second");
+    }
+
+    @Test
+    public void apWithFunction8_allResultsAreSuccess_returnCombined() {
+        Result<String, Integer> result = Result.ap(
+                Result.<String, Integer>success(1),
+                Result.<String, Integer>success(2),
+                Result.<String, Integer>success(3),
+                Result.<String, Integer>success(4),
+                Result.<String, Integer>success(5),
+                Result.<String, Integer>success(6),
+                Result.<String, Integer>success(7),
+                Result.<String, Integer>success(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h
+        );
+
+        assertSuccess(result, 36);
+    }
+
+    @Test
+    public void ap8_lastResultIsError_returnError() {
+        Result<String, Integer> result = Result.ap(
+                Result.<String, Integer>success(1),
+                Result.<String, Integer>success(2),
+                Result.<String, Integer>success(3),
+                Result.<String, Integer>success(4),
+                Result.<String, Integer>success(5),
+                Result.<String, Integer>success(6),
+                Result.<String, Integer>success(7),
+                Result.<String, Integer>error("error")
+        ).apply((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertError(result, "error");
+    }
+
     @Test
     public void fromErroneousRunnable_withoutError_returnSuccess() {
         Result<Exception, NoData> result = Result.fromErroneous(() -> {
@@ -508,6 +1020,84 @@ public class ResultTest {
         assertThat(result.getError()).hasMessage("error").isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    public void success_valueIsCached_returnSharedInstance() {
+        assertThat(Result.success(NoData.INSTANCE)).isSameAs(Result.success(NoData.INSTANCE));
+        assertThat(Result.success(true)).isSameAs(Result.success(Boolean.TRUE));
+        assertThat(Result.success(false)).isSameAs(Result.success(Boolean.FALSE));
+        assertThat(Result.success(-128)).isSameAs(Result.success(-128));
+        assertThat(Result.success(127)).isSameAs(Result.success(127));
+        assertThat(Result.success(10L)).isSameAs(Result.success(10L));
+        assertThat(Result.success('a')).isSameAs(Result.success('a'));
+    }
+
+    @Test
+    public void success_valueIsCached_returnResultWithTheSameValue() {
+        Result<?, Integer> result = Result.success(10);
+
+        assertThat(result.get()).isSameAs(Integer.valueOf(10));
+        assertThat(result).isEqualTo(new Result.Ok<>(10));
+    }
+
+    @Test
+    public void success_valueIsNotCached_returnNewInstance() {
+        assertThat(Result.success(128)).isNotSameAs(Result.success(128));
+        assertThat(Result.success(1000L)).isNotSameAs(Result.success(1000L));
+        assertThat(Result.success('ж')).isNotSameAs(Result.success('ж'));
+        assertThat(Result.success("Alex")).isNotSameAs(Result.success("Alex"));
+    }
+
+    @SuppressWarnings({"deprecation", "removal"})
+    @Test
+    public void success_valueIsNotInterned_returnNewInstanceWithTheSameValue() {
+        Integer value = new Integer(10);
+
+        Result<?, Integer> result = Result.success(value);
+
+        assertThat(result).isNotSameAs(Result.success(10));
+        assertThat(result.get()).isSameAs(value);
+    }
+
+    @Test
+    public void error_errorIsEnumConstant_returnSharedInstance() {
+        assertThat(Result.error(ErrorCode.NOT_FOUND)).isSameAs(Result.error(ErrorCode.NOT_FOUND));
+        assertThat(Result.error(ErrorCode.FORBIDDEN)).isSameAs(Result.error(ErrorCode.FORBIDDEN));
+        assertThat(Result.error(ErrorCode.NOT_FOUND)).isNotSameAs(Result.error(ErrorCode.FORBIDDEN));
+        assertError(Result.error(ErrorCode.FORBIDDEN), ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    public void error_errorIsEnumConstantWithBody_returnSharedInstance() {
+        Result<ErrorCode, ?> result = Result.error(ErrorCode.CUSTOM);
+
+        assertThat(result).isSameAs(Result.error(ErrorCode.CUSTOM));
+        assertError(result, ErrorCode.CUSTOM);
+    }
+
+    @Test
+    public void error_errorIsNotEnumConstant_returnNewInstance() {
+        assertThat(Result.error("error")).isNotSameAs(Result.error("error"));
+    }
+
+    @Test
+    public void dropError_valueIsError_returnSharedInstance() {
+        Result<NoData, ?> result1 = Result.error("error").dropError();
+        Result<NoData, ?> result2 = Result.error(10).dropError();
+
+        assertThat(result1).isSameAs(result2);
+    }
+
+    private enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CUSTOM {
+            @Override
+            public String toString() {
+                return "custom";
+            }
+        }
+    }
+
     private static <E, V> void assertError(Result<E, V> result, E expected) {
         assertThat(result.isError()).isTrue();
         assertThat(result.getError()).isEqualTo(expected);
@@ -0,0 +1,292 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class TryTest {
+
+    @Test
+    public void of_codeReturnsValue_returnSuccess() {
+        Try<Integer> result = Try.of(() -> 10);
+
+        assertSuccess(result, 10);
+    }
+
+    @Test
+    public void of_codeThrowsCheckedException_returnFailure() {
+        IOException exception = new IOException("error");
+
+        Try<Integer> result = Try.of(() -> {
+            throw exception;
+        });
+
+        assertFailure(result, exception);
+    }
+
+    @Test
+    public void of_codeThrowsError_propagateIt() {
+        assertThatThrownBy(() -> Try.of(() -> {
+            throw new AssertionError("error");
+        })).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void of_codeThrowsPreallocatedException_returnFailureWithSameInstance() {
+        StacklessException exception = new StacklessException("error");
+
+        Try<Integer> first = Try.of(() -> {
+            throw exception;
+        });
+        Try<Integer> second = Try.of(() -> {
+            throw exception;
+        });
+
+        assertFailure(first, exception);
+        assertFailure(second, exception);
+    }
+
+    @Test
+    public void failure_message_returnFailureWithStacklessException() {
+        Try<Integer> result = Try.failure("error");
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause())
+                .isInstanceOf(StacklessException.class)
+                .hasMessage("error");
+        assertThat(result.getCause().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void failure_preallocatedException_returnFailureWithSameInstance() {
+        StacklessException exception = new StacklessException("error");
+
+        assertFailure(Try.failure(exception), exception);
+        assertFailure(Try.failure(exception), exception);
+    }
+
+    @Test
+    public void stacklessException_create_stackTraceIsEmpty() {
+        StacklessException exception = new StacklessException("error");
+        exception.addSuppressed(new IllegalStateException());
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    public void get_tryIsFailure_throwError() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void getCause_tryIsSuccess_throwError() {
+        assertThatThrownBy(() -> Try.success(1).getCause())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Try is success");
+    }
+
+    @Test
+    public void getOrElse_tryIsFailure_returnDefault() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+
+        assertThat(result.getOrElse(1)).isEqualTo(1);
+        assertThat(result.getOrElse(e -> e.getMessage().length())).isEqualTo(5);
+    }
+
+    @Test
+    public void getOrElse_tryIsSuccess_returnValue() {
+        Try<Integer> result = Try.success(10);
+
+        assertThat(result.getOrElse(1)).isEqualTo(10);
+        assertThat(result.getOrElse(e -> 1)).isEqualTo(10);
+    }
+
+    @Test
+    public void map_tryIsFailure_returnSameInstanceAndDoNotCallFunction() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+        AtomicBoolean called = new AtomicBoolean();
+
+        Try<String> mapped = result.map(v -> {
+            called.set(true);
+            return v.toString();
+        });
+
+        assertThat(mapped).isSameAs(result);
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    public void map_tryIsSuccess_returnMapped() {
+        Try<String> result = Try.success(10).map(Object::toString);
+
+        assertSuccess(result, "10");
+    }
+
+    @Test
+    public void map_functionThrowsException_returnFailure() {
+        Try<Integer> result = Try.success("text").map(Integer::parseInt);
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void flatMap_tryIsFailure_returnSameInstance() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+
+        assertThat(result.flatMap(v -> Try.success(v + 1))).isSameAs(result);
+    }
+
+    @Test
+    public void flatMap_tryIsSuccess_returnFunctionResult() {
+        Try<Integer> result = Try.success(10).flatMap(v -> Try.success(v + 1));
+
+        assertSuccess(result, 11);
+    }
+
+    @Test
+    public void flatMap_functionThrowsException_returnFailure() {
+        IOException exception = new IOException("error");
+
+        Try<Integer> result = Try.success(10).flatMap(v -> {
+            throw exception;
+        });
+
+        assertFailure(result, exception);
+    }
+
+    @Test
+    public void recover_tryIsSuccess_returnSameInstance() {
+        Try<Integer> result = Try.success(10);
+
+        assertThat(result.recover(e -> 1)).isSameAs(result);
+        assertThat(result.recoverWith(e -> Try.success(1))).isSameAs(result);
+    }
+
+    @Test
+    public void recover_tryIsFailure_returnRecovered() {
+        Try<Integer> result = Try.<Integer>failure(new IOException("error"))
+                .recover(e -> e.getMessage().length());
+
+        assertSuccess(result, 5);
+    }
+
+    @Test
+    public void recover_functionThrowsException_returnNewFailure() {
+        IllegalStateException exception = new IllegalStateException("error");
+
+        Try<Integer> result = Try.<Integer>failure(new IOException("error"))
+                .recover(e -> {
+                    throw exception;
+                });
+
+        assertFailure(result, exception);
+    }
+
+    @Test
+    public void recover_exceptionIsInstanceOfType_returnRecovered() {
+        Try<Integer> result = Try.success("text")
+                .map(Integer::parseInt)
+                .recover(NumberFormatException.class, e -> 0);
+
+        assertSuccess(result, 0);
+    }
+
+    @Test
+    public void recover_exceptionIsNotInstanceOfType_returnSameInstance() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+
+        assertThat(result.recover(NumberFormatException.class, e -> 0)).isSameAs(result);
+    }
+
+    @Test
+    public void recoverWith_tryIsFailure_returnFunctionResult() {
+        IOException exception = new IOException("error");
+
+        Try<Integer> result = Try.<Integer>failure(new IllegalStateException("error"))
+                .recoverWith(e -> Try.failure(exception));
+
+        assertFailure(result, exception);
+    }
+
+    @Test
+    public void recoverWith_exceptionIsInstanceOfType_returnFunctionResult() {
+        Try<Integer> result = Try.<Integer>failure(new IOException("error"))
+                .recoverWith(IOException.class, e -> Try.success(1));
+
+        assertSuccess(result, 1);
+    }
+
+    @Test
+    public void recoverWith_exceptionIsNotInstanceOfType_returnSameInstance() {
+        Try<Integer> result = Try.failure(new IOException("error"));
+
+        assertThat(result.recoverWith(NumberFormatException.class, e -> Try.success(1))).isSameAs(result);
+    }
+
+    @Test
+    public void toResult_tryIsFailure_returnError() {
+        IOException exception = new IOException("error");
+
+        Result<Exception, Integer> result = Try.<Integer>failure(exception).toResult();
+
+        assertThat(result.isError()).isTrue();
+        assertThat(result.getError()).isSameAs(exception);
+    }
+
+    @Test
+    public void toResult_tryIsSuccess_returnSuccess() {
+        Result<Exception, Integer> result = Try.success(10).toResult();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void fromResult_resultIsError_returnFailure() {
+        IOException exception = new IOException("error");
+
+        Try<Integer> result = Try.fromResult(Result.error(exception));
+
+        assertFailure(result, exception);
+    }
+
+    @Test
+    public void fromResult_resultIsSuccess_returnSuccess() {
+        Try<Integer> result = Try.fromResult(Result.success(10));
+
+        assertSuccess(result, 10);
+    }
+
+    @Test
+    public void patternMatching_tryIsFailure_matchFailure() {
+        String message = switch (Try.of(() -> Integer.parseInt("text"))) {
+            case Try.Success(var value) -> "Value is " + value;
+            case Try.Failure(var exception) -> "Failure";
+        };
+
+        assertThat(message).isEqualTo("Failure");
+    }
+
+    private static <R> void assertFailure(Try<R> result, Exception expected) {
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).isSameAs(expected);
+    }
+
+    private static <R> void assertSuccess(Try<R> result, R expected) {
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,369 @@
+package dev.khbd.result4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class ValidationTest {
+
+    @Test
+    public void valid_always_returnValidValidation() {
+        Validation<String, Integer> validation = Validation.valid(10);
+
+        assertThat(validation.isValid()).isTrue();
+        assertThat(validation.isInvalid()).isFalse();
+        assertThat(validation.get()).isEqualTo(10);
+        assertThatThrownBy(validation::getErrors)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Validation is valid");
+    }
+
+    @Test
+    public void invalid_always_returnInvalidValidation() {
+        Validation<String, Integer> validation = Validation.invalid("error");
+
+        assertThat(validation.isInvalid()).isTrue();
+        assertThat(validation.getErrors()).containsExactly("error");
+        assertThatThrownBy(validation::get)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Validation is invalid");
+    }
+
+    @Test
+    public void invalid_errorIsNull_throwError() {
+        assertThatThrownBy(() -> Validation.invalid(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void invalidAll_errorsAreEmpty_throwError() {
+        assertThatThrownBy(() -> Validation.invalidAll(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Errors are empty");
+    }
+
+    @Test
+    public void invalidAll_errorsContainNull_throwError() {
+        assertThatThrownBy(() -> Validation.invalidAll(Arrays.asList("error", null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void invalidAll_sourceIsModified_errorsAreNotChanged() {
+        List<String> errors = new ArrayList<>(List.of("error1", "error2"));
+
+        Validation<String, Integer> validation = Validation.invalidAll(errors);
+        errors.add("error3");
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error2");
+        assertThatThrownBy(() -> validation.getErrors().add("error3"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void invalid_errorsAreTheSame_validationsAreEqual() {
+        Validation<String, Integer> validation1 = Validation.invalidAll(List.of("error1", "error2"));
+        Validation<String, Integer> validation2 = new Validation.Invalid<>(new ArrayList<>(List.of("error1", "error2")));
+
+        assertThat(validation1).isEqualTo(validation2);
+        assertThat(validation1.hashCode()).isEqualTo(validation2.hashCode());
+    }
+
+    @Test
+    public void switch_overValidation_matchVariants() {
+        Validation<String, Integer> validation = Validation.invalid("error");
+
+        String message = switch (validation) {
+            case Validation.Valid(var value) -> "Value is " + value;
+            case Validation.Invalid(var errors) -> "Errors are " + errors;
+        };
+
+        assertThat(message).isEqualTo("Errors are [error]");
+    }
+
+    @Test
+    public void getOrElse_validationIsInvalid_returnOther() {
+        Validation<String, Integer> validation = Validation.invalidAll(List.of("error1", "error2"));
+
+        assertThat(validation.getOrElse(10)).isEqualTo(10);
+        assertThat(validation.getOrElse(List::size)).isEqualTo(2);
+    }
+
+    @Test
+    public void map_validationIsValid_returnMapped() {
+        Validation<String, Integer> validation = Validation.<String, Integer>valid(10).map(v -> v * 2);
+
+        assertThat(validation).isEqualTo(Validation.valid(20));
+    }
+
+    @Test
+    public void mapError_validationIsInvalid_mapEachError() {
+        Validation<Integer, Integer> validation = Validation.<String, Integer>invalidAll(List.of("a", "bb"))
+                .mapError(String::length);
+
+        assertThat(validation.getErrors()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void flatMap_validationIsInvalid_doNotInvokeFunction() {
+        Validation<String, Integer> validation = Validation.<String, Integer>invalid("error")
+                .flatMap(v -> {
+                    throw new IllegalStateException();
+                });
+
+        assertThat(validation.getErrors()).containsExactly("error");
+    }
+
+    @Test
+    public void toResult_validationIsInvalid_returnErrorWithAllErrors() {
+        Result<List<String>, Integer> result = Validation.<String, Integer>invalidAll(List.of("error1", "error2")).toResult();
+
+        assertThat(result.getError()).containsExactly("error1", "error2");
+    }
+
+    @Test
+    public void toResult_validationIsValid_returnSuccess() {
+        Result<List<String>, Integer> result = Validation.<String, Integer>valid(10).toResult();
+
+        assertThat(result).isEqualTo(Result.success(10));
+    }
+
+    @Test
+    public void fromResult_resultIsError_returnInvalid() {
+        Validation<String, Integer> validation = Validation.fromResult(Result.error("error"));
+
+        assertThat(validation).isEqualTo(Validation.invalid("error"));
+    }
+
+    @Test
+    public void fromResult_resultIsSuccess_returnValid() {
+        Validation<String, Integer> validation = Validation.fromResult(Result.success(10));
+
+        assertThat(validation).isEqualTo(Validation.valid(10));
+    }
+
+    @Test
+    public void toOption_validationIsInvalid_returnNone() {
+        assertThat(Validation.invalid("error").toOption().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void ap2_allValidationsAreValid_returnCombined() {
+        Validation<String, Integer> validation = Validation.ap(Validation.<String, Integer>valid(1), Validation.<String, Integer>valid(2))
+                .apply(Integer::sum);
+
+        assertThat(validation).isEqualTo(Validation.valid(3));
+    }
+
+    @Test
+    public void ap2_allValidationsAreInvalid_accumulateErrors() {
+        Validation<String, Integer> validation = Validation.ap(
+                Validation.<String, Integer>invalidAll(List.of("error1", "error2")),
+                Validation.<String, Integer>invalid("error3")
+        ).apply(Integer::sum);
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error2", "error3");
+    }
+
+    @Test
+    public void ap2_oneValidationIsInvalid_returnItsErrors() {
+        Validation<String, Integer> invalid = Validation.invalid("error");
+
+        Validation<String, Integer> validation = Validation.ap(Validation.<String, Integer>valid(1), invalid)
+                .apply(Integer::sum);
+
+        assertThat(validation.getErrors()).isSameAs(invalid.getErrors());
+    }
+
+    @Test
+    public void ap3_allValidationsAreValid_returnCombined() {
+        Validation<String, String> validation = Validation.ap(
+                Validation.<String, String>valid("a"),
+                Validation.<String, Integer>valid(1),
+                Validation.<String, Boolean>valid(true)
+        ).apply((a, b, c) -> a + b + c);
+
+        assertThat(validation).isEqualTo(Validation.valid("a1true"));
+    }
+
+    @Test
+    public void ap4_someValidationsAreInvalid_accumulateErrorsInOrder() {
+        Validation<String, String> validation = Validation.ap(
+                Validation.<String, String>invalid("error1"),
+                Validation.<String, Integer>valid(1),
+                Validation.<String, Boolean>invalid("error2"),
+                Validation.<String, Long>invalid("error3")
+        ).apply((a, b, c, d) -> a + b + c + d);
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error2", "error3");
+    }
+
+    @Test
+    public void ap5_allValidationsAreValid_returnCombined() {
+        Validation<String, Integer> validation = Validation.ap(
+                Validation.<String, Integer>valid(1),
+                Validation.<String, Integer>valid(2),
+                Validation.<String, Integer>valid(3),
+                Validation.<String, Integer>valid(4),
+                Validation.<String, Integer>valid(5)
+        ).apply((a, b, c, d, e) -> a + b + c + d + e);
+
+        assertThat(validation).isEqualTo(Validation.valid(15));
+    }
+
+    @Test
+    public void ap5_lastValidationIsInvalid_returnError() {
+        Validation<String, Integer> validation = Validation.ap(
+                Validation.<String, Integer>valid(1),
+                Validation.<String, Integer>valid(2),
+                Validation.<String, Integer>valid(3),
+                Validation.<String, Integer>valid(4),
+                Validation.<String, Integer>invalid("error")
+        ).apply((a, b, c, d, e) -> a + b + c + d + e);
+
+        assertThat(validation.getErrors()).containsExactly("error");
+    }
+
+    @Test
+    public void ap8_someValidationsAreInvalid_accumulateErrorsInOrder() {
+        Validation<String, Integer> validation = Validation.ap(
+                Validation.<String, Integer>invalid("error1"),
+                Validation.<String, Integer>valid(2),
+                Validation.<String, Integer>valid(3),
+                Validation.<String, Integer>invalid("error4"),
+                Validation.<String, Integer>valid(5),
+                Validation.<String, Integer>valid(6),
+                Validation.<String, Integer>valid(7),
+                Validation.<String, Integer>invalid("error8")
+        ).apply((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error4", "error8");
+    }
+
+    @Test
+    public void traverseList_allValuesAreValid_returnUnmodifiableList() {
+        Validation<String, List<Integer>> validation = Validation.traverse(List.of(1, 2, 3), v -> Validation.valid(v * 10));
+
+        assertThat(validation.get()).containsExactly(10, 20, 30);
+        assertThatThrownBy(() -> validation.get().add(40)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void traverseList_someValuesAreInvalid_accumulateAllErrors() {
+        List<Integer> invoked = new ArrayList<>();
+
+        Validation<String, List<Integer>> validation = Validation.traverse(List.of(1, 2, 3, 4), v -> {
+            invoked.add(v);
+            return v % 2 == 0 ? Validation.invalid("error " + v) : Validation.valid(v);
+        });
+
+        assertThat(validation.getErrors()).containsExactly("error 2", "error 4");
+        assertThat(invoked).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    public void traverseIterable_someValuesAreInvalid_accumulateAllErrors() {
+        Validation<String, List<Integer>> validation = Validation.traverse(new LinkedList<>(List.of(1, 2, 3)),
+                v -> v > 1 ? Validation.invalid("error " + v) : Validation.valid(v));
+
+        assertThat(validation.getErrors()).containsExactly("error 2", "error 3");
+    }
+
+    @Test
+    public void traverseArray_allValuesAreValid_returnList() {
+        Validation<String, List<Integer>> validation = Validation.traverse(new String[]{"1", "2"}, s -> Validation.valid(Integer.parseInt(s)));
+
+        assertThat(validation.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void sequenceList_manyErrors_accumulateAllErrors() {
+        List<Validation<Integer, Integer>> validations = IntStream.range(0, 100)
+                .mapToObj(i -> Validation.<Integer, Integer>invalidAll(List.of(i, -i)))
+                .toList();
+
+        Validation<Integer, List<Integer>> validation = Validation.sequence(validations);
+
+        assertThat(validation.getErrors()).hasSize(200).startsWith(0, 0, 1, -1).endsWith(99, -99);
+    }
+
+    @Test
+    public void sequenceIterable_allValuesAreValid_returnList() {
+        Iterable<Validation<String, Integer>> validations = () -> List.of(Validation.<String, Integer>valid(1), Validation.<String, Integer>valid(2)).iterator();
+
+        Validation<String, List<Integer>> validation = Validation.sequence(validations);
+
+        assertThat(validation.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sequenceArray_someValuesAreInvalid_accumulateAllErrors() {
+        Validation<String, Integer>[] validations = new Validation[]{
+                Validation.invalid("error1"), Validation.valid(1), Validation.invalid("error2")
+        };
+
+        Validation<String, List<Integer>> validation = Validation.sequence(validations);
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error2");
+    }
+
+    @Test
+    public void sequencing_allValuesAreValid_returnCollected() {
+        Validation<String, List<Integer>> validation = Stream.of(Validation.<String, Integer>valid(1), Validation.<String, Integer>valid(2))
+                .collect(Validation.sequencing(Collectors.toList()));
+
+        assertThat(validation.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void sequencing_someValuesAreInvalid_accumulateAllErrors() {
+        Validation<String, List<Integer>> validation = Stream.of(
+                Validation.<String, Integer>valid(1),
+                Validation.<String, Integer>invalid("error1"),
+                Validation.<String, Integer>valid(2),
+                Validation.<String, Integer>invalid("error2")
+        ).collect(Validation.sequencing(Collectors.toList()));
+
+        assertThat(validation.getErrors()).containsExactly("error1", "error2");
+    }
+
+    @Test
+    public void sequencing_parallelStream_keepErrorsInEncounterOrder() {
+        Validation<Integer, List<Integer>> validation = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i % 1000 == 0 ? Validation.<Integer, Integer>invalid(i) : Validation.<Integer, Integer>valid(i))
+                .collect(Validation.sequencing(Collectors.toList()));
+
+        assertThat(validation.getErrors()).isEqualTo(IntStream.range(0, 100).map(i -> i * 1000).boxed().toList());
+    }
+
+    @Test
+    public void sequencing_parallelStreamWithoutErrors_returnAllValuesInOrder() {
+        Validation<String, List<Integer>> validation = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(Validation::<String, Integer>valid)
+                .collect(Validation.sequencing(Collectors.toList()));
+
+        assertThat(validation.get()).isEqualTo(IntStream.range(0, 100_000).boxed().toList());
+    }
+
+    @Test
+    public void traversing_someValuesAreInvalid_accumulateAllErrors() {
+        Validation<String, List<Integer>> validation = Stream.of(1, 2, 3)
+                .collect(Validation.traversing(v -> v == 2 ? Validation.invalid("error") : Validation.valid(v), Collectors.toList()));
+
+        assertThat(validation.getErrors()).containsExactly("error");
+    }
+}
@@ -14,14 +14,23 @@ import java.util.ResourceBundle;
 @UtilityClass
 public class BundleInitializer {
 
+    private static final Context.Key<Boolean> KEY = new Context.Key<>();
+
     private static final List<String> BUNDLES = List.of(
             DefaultResult4jBundle.class.getName()
     );
 
     /**
      * Init plugin bundles.
+     *
+     * <p>Bundles are registered once per javac context, so repeated invocations do nothing.
      */
     static void initPluginBundles(Context context) {
+        if (context.get(KEY) != null) {
+            return;
+        }
+        context.put(KEY, Boolean.TRUE);
+
         JavacMessages messages = JavacMessages.instance(context);
 
         for (String name : BUNDLES) {
@@ -35,7 +44,8 @@ public class BundleInitializer {
         @Override
         protected Object[][] getContents() {
             return new Object[][]{
-                    {"compiler.err.unwrap.call.at.unsupported.position", "Unsupported position for unwrap method call"}
+                    {"compiler.err.unwrap.call.at.unsupported.position", "Unsupported position for unwrap method call"},
+                    {"compiler.warn.stats.file.not.opened", "Statistics file {0} can not be opened, statistics are not written: {1}"}
             };
         }
     }
@@ -0,0 +1,13 @@
+package dev.khbd.result4j.javac;
+
+import com.sun.tools.javac.tree.JCTree;
+
+/**
+ * Class member which can contain statements.
+ *
+ * @param owner  class declaration member belongs to
+ * @param member method, field or initializer block
+ * @author Sergei Khadanovich
+ */
+record ClassMember(JCTree.JCClassDecl owner, JCTree member) {
+}
@@ -0,0 +1,121 @@
+package dev.khbd.result4j.javac;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics writer which appends statistics to file as JSON lines.
+ *
+ * <p>Each processed compilation unit is written as a separate line.
+ * Summary line for the whole compilation is written at the end.
+ * File is appended, so several compilations can share the same file.
+ *
+ * @author Sergei Khadanovich
+ */
+class FileStatisticsWriter implements StatisticsWriter {
+
+    private final BufferedWriter writer;
+
+    private int units;
+    private int skippedUnits;
+    private long replacedCalls;
+    private long rewrittenStatements;
+    private long scanNanos;
+    private long rewriteNanos;
+    private long attributeNanos;
+    private long attributedMembers;
+
+    FileStatisticsWriter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void write(UnitStatistics statistics) {
+        units++;
+        replacedCalls += statistics.replacedCalls();
+        rewrittenStatements += statistics.rewrittenStatements();
+        scanNanos += statistics.scanNanos();
+        rewriteNanos += statistics.rewriteNanos();
+        attributeNanos += statistics.attributeNanos();
+        attributedMembers += statistics.attributedMembers();
+
+        writeLine("{\"file\":\"" + escape(statistics.file()) + "\""
+                + ",\"replacedCalls\":" + statistics.replacedCalls()
+                + ",\"rewrittenStatements\":" + statistics.rewrittenStatements()
+                + ",\"scanMicros\":" + micros(statistics.scanNanos())
+                + ",\"rewriteMicros\":" + micros(statistics.rewriteNanos())
+                + ",\"attributeMicros\":" + micros(statistics.attributeNanos())
+                + ",\"attributedMembers\":" + statistics.attributedMembers()
+                + "}");
+    }
+
+    @Override
+    public void skipped() {
+        skippedUnits++;
+    }
+
+    @Override
+    public void finish() {
+        writeLine("{\"summary\":true"
+                + ",\"units\":" + units
+                + ",\"skippedUnits\":" + skippedUnits
+                + ",\"replacedCalls\":" + replacedCalls
+                + ",\"rewrittenStatements\":" + rewrittenStatements
+                + ",\"scanMicros\":" + micros(scanNanos)
+                + ",\"rewriteMicros\":" + micros(rewriteNanos)
+                + ",\"attributeMicros\":" + micros(attributeNanos)
+                + ",\"attributedMembers\":" + attributedMembers
+                + "}");
+        try {
+            writer.close();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
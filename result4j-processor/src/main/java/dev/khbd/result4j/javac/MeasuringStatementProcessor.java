@@ -0,0 +1,40 @@
+package dev.khbd.result4j.javac;
+
+import com.sun.tools.javac.tree.JCTree;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Statement processor which measures time spent in another processor.
+ *
+ * <p>Processor also counts processed statements and replaced unwrap calls.
+ * New instance should be created for each compilation unit.
+ *
+ * @author Sergei Khadanovich
+ */
+@RequiredArgsConstructor
+class MeasuringStatementProcessor implements StatementProcessor {
+
+    private final StatementProcessor delegate;
+
+    @Getter
+    private int processedStatements;
+    @Getter
+    private int replacedCalls;
+    @Getter
+    private long processingNanos;
+
+    @Override
+    public ProcessedStatement process(JCTree.JCStatement statement, ClassMember member) {
+        long start = System.nanoTime();
+        ProcessedStatement processed = delegate.process(statement, member);
+        processingNanos += System.nanoTime() - start;
+
+        if (processed.processed()) {
+            processedStatements++;
+            replacedCalls += processed.replacedCalls();
+        }
+
+        return processed;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.khbd.result4j.javac;
+
+/**
+ * @author Sergei Khadanovich
+ */
+class NoOpsStatisticsWriter implements StatisticsWriter {
+
+    @Override
+    public void write(UnitStatistics statistics) {
+    }
+
+    @Override
+    public void skipped() {
+    }
+
+    @Override
+    public void finish() {
+    }
+}
@@ -1,9 +1,13 @@
 package dev.khbd.result4j.javac;
 
+import com.sun.tools.javac.util.Context;
+
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -13,16 +17,22 @@ import java.util.function.Supplier;
 class Options {
 
     private static final OptionsKey<Boolean> PRETTY_PRINTING_ENABLED = new OptionsKey<>("prettyPrint");
+    private static final OptionsKey<Path> STATS_FILE = new OptionsKey<>("stats");
+    private static final OptionsKey<Boolean> TRACE_ENABLED = new OptionsKey<>("trace");
 
     private static final List<OptionsDescription<?>> DESCRIPTIONS = List.of(
-            new OptionsDescription<>(PRETTY_PRINTING_ENABLED, Boolean::parseBoolean, () -> false)
+            new OptionsDescription<>(PRETTY_PRINTING_ENABLED, Boolean::parseBoolean, () -> false),
+            new OptionsDescription<>(STATS_FILE, Path::of, () -> null),
+            new OptionsDescription<>(TRACE_ENABLED, Boolean::parseBoolean, () -> false)
     );
 
+    private static final Context.Key<Options> KEY = new Context.Key<>();
+
     private final Map<OptionsKey<?>, Object> params = new HashMap<>();
 
     Options(String... args) {
         for (String arg : args) {
-            String[] parts = arg.split("=");
+            String[] parts = arg.split("=", 2);
             if (parts.length != 2) {
                 continue;
             }
@@ -59,6 +69,37 @@ class Options {
         return getKeyValue(PRETTY_PRINTING_ENABLED);
     }
 
+    /**
+     * File to write compilation statistics to.
+     */
+    Optional<Path> statsFile() {
+        return Optional.ofNullable(getKeyValue(STATS_FILE));
+    }
+
+    /**
+     * Is unwrap site tracing enabled or not.
+     */
+    boolean traceEnabled() {
+        return getKeyValue(TRACE_ENABLED);
+    }
+
+    /**
+     * Put options into context, so other plugin components can find them.
+     */
+    void register(Context context) {
+        context.put(KEY, this);
+    }
+
+    /**
+     * Find options in context.
+     *
+     * @return registered options or default options if nothing was registered
+     */
+    static Options instance(Context context) {
+        Options options = context.get(KEY);
+        return options == null ? new Options() : options;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T getKeyValue(OptionsKey<T> key) {
         return (T) params.get(key);
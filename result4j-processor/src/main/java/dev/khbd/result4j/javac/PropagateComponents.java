@@ -0,0 +1,82 @@
+package dev.khbd.result4j.javac;
+
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.List;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plugin components shared by all compilation units of the same compilation.
+ *
+ * <p>Components are created once per javac context, so supported type symbols,
+ * propagate logic builders and message bundles are not looked up again for each unit.
+ *
+ * @author Sergei Khadanovich
+ */
+class PropagateComponents {
+
+    static final Context.Key<PropagateComponents> KEY = new Context.Key<>();
+
+    private static final List<PropagateStrategy> STRATEGIES = List.of(
+            SealedTypePropagateStrategy.option(),
+            SealedTypePropagateStrategy.result(),
+            SealedTypePropagateStrategy.intOption(),
+            SealedTypePropagateStrategy.longOption(),
+            SealedTypePropagateStrategy.doubleOption(),
+            SealedTypePropagateStrategy.intResult(),
+            SealedTypePropagateStrategy.longResult(),
+            SealedTypePropagateStrategy.doubleResult()
+    );
+
+    private final List<Symbol> types;
+    private final StatementProcessor processor;
+    private final ReAttributer attributer;
+
+    private PropagateComponents(Context context) {
+        BundleInitializer.initPluginBundles(context);
+
+        Map<Symbol, PropagateLogicBuilder> builders = new HashMap<>();
+        for (PropagateStrategy strategy : STRATEGIES) {
+            builders.put(strategy.type(context), strategy.propagateLogicBuilder(context));
+        }
+
+        this.types = List.from(builders.keySet());
+        this.processor = new UnwrapCallReplacerStatementProcessor(new UnwrapCallSearcher(types), builders);
+        this.attributer = new ReAttributer(context);
+    }
+
+    /**
+     * Factory method to create components singleton and insert it into context.
+     */
+    static PropagateComponents instance(Context context) {
+        PropagateComponents instance = context.get(KEY);
+        if (instance == null) {
+            instance = new PropagateComponents(context);
+            context.put(KEY, instance);
+        }
+        return instance;
+    }
+
+    /**
+     * All supported types.
+     */
+    List<Symbol> types() {
+        return types;
+    }
+
+    /**
+     * Statement processor to replace unwrap calls.
+     */
+    StatementProcessor processor() {
+        return processor;
+    }
+
+    /**
+     * Re-attributer for changed class members.
+     */
+    ReAttributer attributer() {
+        return attributer;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.khbd.result4j.javac;
 
+import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.tree.JCTree;
 
 /**
@@ -10,7 +11,9 @@ import com.sun.tools.javac.tree.JCTree;
 interface PropagateLogicBuilder {
 
     /**
-     * Build propagate logic from receiver expression and position.
+     * Build propagate logic from receiver expression, receiver type and position.
+     *
+     * <p>Class member which contains unwrap call is used to describe unwrap site.
      */
-    PropagateLogic build(JCTree.JCExpression receiver, int position);
+    PropagateLogic build(JCTree.JCExpression receiver, Type receiverType, int position, ClassMember member);
 }
@@ -1,39 +1,56 @@
 package dev.khbd.result4j.javac;
 
-import static com.sun.tools.javac.code.Flags.UNATTRIBUTED;
-
 import com.sun.tools.javac.comp.Attr;
 import com.sun.tools.javac.comp.Enter;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Log;
+
+import javax.tools.JavaFileObject;
+import java.util.Collection;
 
 /**
+ * Re-attributer to attribute changed class members.
+ *
+ * <p>Only changed members are attributed again.
+ * Each member is attributed in environment of a class it belongs to,
+ * so members of nested, local and anonymous classes are supported too.
+ *
  * @author Sergei Khadanovich
  */
 class ReAttributer {
 
     private final Attr attr;
     private final Enter enter;
+    private final Log log;
 
     ReAttributer(Context context) {
         this.attr = Attr.instance(context);
         this.enter = Enter.instance(context);
+        this.log = Log.instance(context);
     }
 
     /**
-     * Reattribute compilation unit.
+     * Reattribute class members.
+     *
+     * @param unit    compilation unit members belong to
+     * @param members changed members
      */
-    void attribute(JCTree.JCCompilationUnit unit) {
-        unit.getTypeDecls()
-                .stream()
-                .filter(declaration -> declaration instanceof JCTree.JCClassDecl)
-                .map(declaration -> (JCTree.JCClassDecl) declaration)
-                .forEach(this::enterClass);
+    void attribute(JCTree.JCCompilationUnit unit, Collection<ClassMember> members) {
+        JavaFileObject prevSource = log.useSource(unit.getSourceFile());
+        try {
+            for (ClassMember member : members) {
+                attributeMember(unit, member);
+            }
+        } finally {
+            log.useSource(prevSource);
+        }
     }
 
-    private void enterClass(JCTree.JCClassDecl classDeclaration) {
-        var env = enter.getClassEnv(classDeclaration.sym);
-        classDeclaration.sym.flags_field = classDeclaration.sym.flags_field | UNATTRIBUTED;
-        attr.attrib(env);
+    private void attributeMember(JCTree.JCCompilationUnit unit, ClassMember member) {
+        // local and anonymous classes are entered one more time during attribution.
+        // They have to be removed first to get the same synthetic names
+        enter.unenter(unit, member.member());
+        attr.attribStat(member.member(), enter.getClassEnv(member.owner().sym));
     }
 }
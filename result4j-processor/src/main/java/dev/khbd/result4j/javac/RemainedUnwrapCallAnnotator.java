@@ -1,48 +1,57 @@
 package dev.khbd.result4j.javac;
 
-import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.Tree;
-import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Types;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.List;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Special tree scanner to find unwrap method calls and mark them as erroneous.
+ * Annotator to mark remained unwrap method calls as erroneous.
+ *
+ * <p>Annotator does not scan compilation unit itself. Candidates are collected
+ * during statement processing and checked only after re-attribution,
+ * because types of receivers are known only after that.
+ *
+ * <p>Unwrap calls on subtypes of supported types (for example, {@code Result.Ok})
+ * are reported too, because they are never rewritten.
  *
  * @author Sergei Khadanovich
  */
 @RequiredArgsConstructor
-class RemainedUnwrapCallAnnotator extends TreeScanner<Object, Object> {
+class RemainedUnwrapCallAnnotator {
 
     private final Logger logger;
     private final List<Symbol> types;
+    private final Types javacTypes;
 
-    @Override
-    public Object visitMethodInvocation(MethodInvocationTree node, Object o) {
-        super.visitMethodInvocation(node, o);
-
-        JCTree.JCMethodInvocation jcMethodCall = (JCTree.JCMethodInvocation) node;
-
-        if (unwrapCall(jcMethodCall)) {
-            logger.logError(jcMethodCall, "unwrap.call.at.unsupported.position");
+    /**
+     * Mark all unwrap calls of supported types as erroneous.
+     *
+     * @param candidates method calls named unwrap in tree order
+     */
+    void annotate(Iterable<JCTree.JCMethodInvocation> candidates) {
+        for (JCTree.JCMethodInvocation candidate : candidates) {
+            JCTree.JCFieldAccess fieldAccess = (JCTree.JCFieldAccess) candidate.meth;
+            if (oneOfSupportedType(fieldAccess.selected)) {
+                logger.logError(candidate, "unwrap.call.at.unsupported.position");
+            }
         }
-
-        return null;
     }
 
-    private boolean unwrapCall(JCTree.JCMethodInvocation jcMethodCall) {
+    /**
+     * Check if method call is an unwrap call candidate.
+     *
+     * <p>Receiver type is not checked, so it can be used before attribution.
+     */
+    static boolean unwrapCallCandidate(JCTree.JCMethodInvocation jcMethodCall) {
         if (jcMethodCall.meth.getKind() != Tree.Kind.MEMBER_SELECT) {
             return false;
         }
 
         JCTree.JCFieldAccess fieldAccess = (JCTree.JCFieldAccess) jcMethodCall.meth;
-        if (!fieldAccess.name.contentEquals("unwrap")) {
-            return false;
-        }
-
-        return oneOfSupportedType(fieldAccess.selected);
+        return fieldAccess.name.contentEquals("unwrap");
     }
 
     private boolean oneOfSupportedType(JCTree.JCExpression expression) {
@@ -50,7 +59,7 @@ class RemainedUnwrapCallAnnotator extends TreeScanner<Object, Object> {
             return false;
         }
         for (Symbol type : types) {
-            if (expression.type.tsym.equals(type)) {
+            if (expression.type.tsym.isSubClass(type, javacTypes)) {
                 return true;
             }
         }
@@ -6,23 +6,20 @@ import com.sun.source.util.Plugin;
 import com.sun.source.util.TaskEvent;
 import com.sun.source.util.TaskListener;
 import com.sun.tools.javac.api.BasicJavacTask;
-import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Types;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.JCDiagnostic;
-import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.Log;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * @author Sergei_Khadanovich
  */
 public class ResultPropagatePlugin implements Plugin {
 
-    private static final List<PropagateStrategy> STRATEGIES = List.of(
-            new OptionPropagateStrategy(),
-            new ResultPropagateStrategy()
-    );
-
     @Override
     public String getName() {
         return "result4j";
@@ -31,51 +28,81 @@ public class ResultPropagatePlugin implements Plugin {
     @Override
     public void init(JavacTask task, String... args) {
         Options options = new Options(args);
+        options.register(((BasicJavacTask) task).getContext());
         PrettyPrinter printer = options.prettyPrintEnabled() ? new StdoutPrettyPrinter() : new NoOpsPrettyPrinter();
+        StatisticsWriter statistics = options.statsFile()
+                .map(file -> statisticsWriter(file, ((BasicJavacTask) task).getContext()))
+                .orElseGet(NoOpsStatisticsWriter::new);
 
         task.addTaskListener(new TaskListener() {
             @Override
             public void finished(TaskEvent event) {
+                if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+                    statistics.finish();
+                    return;
+                }
+
                 if (event.getKind() != TaskEvent.Kind.ANALYZE) {
                     return;
                 }
 
-                Context context = ((BasicJavacTask) task).getContext();
+                CompilationUnitTree unit = event.getCompilationUnit();
+                if (!UnwrapCallPrefilter.mayContainUnwrapCalls(unit)) {
+                    statistics.skipped();
+                    return;
+                }
 
-                BundleInitializer.initPluginBundles(context);
+                Context context = ((BasicJavacTask) task).getContext();
+                PropagateComponents components = PropagateComponents.instance(context);
 
-                CompilationUnitTree unit = event.getCompilationUnit();
+                MeasuringStatementProcessor processor = new MeasuringStatementProcessor(components.processor());
+                StatementProcessingTreeScanner scanner = new StatementProcessingTreeScanner(processor, context);
 
-                StatementProcessingTreeScanner scanner = buildStatementProcessingTreeScanner(context);
-                ReAttributer attributer = new ReAttributer(context);
+                long scanStart = System.nanoTime();
+                boolean processed = unit.accept(scanner, null);
+                long attributeStart = System.nanoTime();
 
-                int times = 0;
-                while (unit.accept(scanner, null)) {
-                    attributer.attribute((JCTree.JCCompilationUnit) unit);
-                    times++;
+                if (processed) {
+                    components.attributer().attribute((JCTree.JCCompilationUnit) unit, scanner.getProcessedMembers());
                 }
 
-                if (times > 0) {
+                long attributeEnd = System.nanoTime();
+
+                if (processed) {
                     printer.print((JCTree.JCCompilationUnit) unit);
                 }
 
                 Logger logger = new Logger(Log.instance(context), JCDiagnostic.Factory.instance(context), unit.getSourceFile());
-                RemainedUnwrapCallAnnotator unwrapCallAnnotator =
-                        new RemainedUnwrapCallAnnotator(logger, getAllSupportedTypes(context));
-                unwrapCallAnnotator.scan(unit, null);
+                RemainedUnwrapCallAnnotator unwrapCallAnnotator = new RemainedUnwrapCallAnnotator(logger, components.types(), Types.instance(context));
+                unwrapCallAnnotator.annotate(scanner.getUnwrapCallCandidates());
+
+                statistics.write(new UnitStatistics(
+                        unit.getSourceFile().getName(),
+                        processor.getReplacedCalls(),
+                        processor.getProcessedStatements(),
+                        attributeStart - scanStart - processor.getProcessingNanos(),
+                        processor.getProcessingNanos(),
+                        attributeEnd - attributeStart,
+                        scanner.getProcessedMembers().size()
+                ));
             }
         });
     }
 
-    private static StatementProcessingTreeScanner buildStatementProcessingTreeScanner(Context context) {
-        List<StatementProcessor> processors =
-                STRATEGIES.map(strategy -> new UnwrapCallReplacerStatementProcessor(
-                        new UnwrapCallSearcher(strategy.type(context)), strategy.propagateLogicBuilder(context)));
-        return new StatementProcessingTreeScanner(processors, context);
-    }
-
-    private static List<Symbol> getAllSupportedTypes(Context context) {
-        return STRATEGIES.map(strategy -> strategy.type(context));
+    /**
+     * Open statistics file.
+     *
+     * <p>If file can not be opened, warning is reported and statistics are not written,
+     * so compilation is not failed because of statistics.
+     */
+    private static StatisticsWriter statisticsWriter(Path file, Context context) {
+        try {
+            return new FileStatisticsWriter(file);
+        } catch (IOException ioe) {
+            BundleInitializer.initPluginBundles(context);
+            Log.instance(context).warning(new JCDiagnostic.Warning("compiler", "stats.file.not.opened", file, ioe.toString()));
+            return new NoOpsStatisticsWriter();
+        }
     }
 
     @Override
@@ -0,0 +1,223 @@
+package dev.khbd.result4j.javac;
+
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symtab;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.DiagnosticSource;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Log;
+import com.sun.tools.javac.util.Name;
+import com.sun.tools.javac.util.Names;
+import lombok.RequiredArgsConstructor;
+
+import javax.tools.JavaFileObject;
+
+/**
+ * Propagate strategy for sealed data types with success record variant.
+ *
+ * <p>All supported types have the same shape: success variant is a record with single value component
+ * and type has static {@code propagate} method to return failed instance from enclosing method.
+ * For example, for {@link dev.khbd.result4j.core.Result} unwrap call is replaced with
+ * <pre>{@code
+ *     dev.khbd.result4j.core.Result<E, R> $$rec = receiver;
+ *     if (!($$rec instanceof dev.khbd.result4j.core.Result.Ok(var $$recVal))) {
+ *         return dev.khbd.result4j.core.Result.propagate($$rec);
+ *     }
+ * }</pre>
+ * and unwrap call itself is replaced with {@code $$recVal}.
+ *
+ * <p>Type is referenced by fully qualified name, so generated code does not depend on imports
+ * of compilation unit.
+ *
+ * <p>If tracing is enabled by {@code trace=true} option and type supports it, unwrap site
+ * is passed to propagate method, for example
+ * {@code Result.propagate($$rec, "cases.Main", "compute", "Main.java", 42)}.
+ * Site is described by constants only, so success path is not changed.
+ *
+ * @author Sergei Khadanovich
+ */
+@RequiredArgsConstructor
+class SealedTypePropagateStrategy implements PropagateStrategy {
+
+    private final String id;
+    private final String typeName;
+    private final String successVariantName;
+    private final boolean traceable;
+
+    SealedTypePropagateStrategy(String id, String typeName, String successVariantName) {
+        this(id, typeName, successVariantName, false);
+    }
+
+    static SealedTypePropagateStrategy result() {
+        return new SealedTypePropagateStrategy("result", "dev.khbd.result4j.core.Result", "Ok", true);
+    }
+
+    static SealedTypePropagateStrategy option() {
+        return new SealedTypePropagateStrategy("option", "dev.khbd.result4j.core.Option", "Some");
+    }
+
+    static SealedTypePropagateStrategy intResult() {
+        return new SealedTypePropagateStrategy("int-result", "dev.khbd.result4j.core.IntResult", "Ok");
+    }
+
+    static SealedTypePropagateStrategy longResult() {
+        return new SealedTypePropagateStrategy("long-result", "dev.khbd.result4j.core.LongResult", "Ok");
+    }
+
+    static SealedTypePropagateStrategy doubleResult() {
+        return new SealedTypePropagateStrategy("double-result", "dev.khbd.result4j.core.DoubleResult", "Ok");
+    }
+
+    static SealedTypePropagateStrategy intOption() {
+        return new SealedTypePropagateStrategy("int-option", "dev.khbd.result4j.core.IntOption", "Some");
+    }
+
+    static SealedTypePropagateStrategy longOption() {
+        return new SealedTypePropagateStrategy("long-option", "dev.khbd.result4j.core.LongOption", "Some");
+    }
+
+    static SealedTypePropagateStrategy doubleOption() {
+        return new SealedTypePropagateStrategy("double-option", "dev.khbd.result4j.core.DoubleOption", "Some");
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public Symbol type(Context context) {
+        Symtab symtab = Symtab.instance(context);
+        Names names = Names.instance(context);
+        return symtab.enterClass(symtab.unnamedModule, names.fromString(typeName));
+    }
+
+    @Override
+    public PropagateLogicBuilder propagateLogicBuilder(Context context) {
+        return new SealedTypePropagateLogicBuilder(context);
+    }
+
+    /**
+     * Propagate logic builder for sealed data type.
+     *
+     * @author Sergei Khadanovich
+     */
+    private class SealedTypePropagateLogicBuilder implements PropagateLogicBuilder {
+
+        private final Names names;
+        private final TreeMaker treeMaker;
+        private final Log log;
+        private final IdentNameStrategyFactory nameStrategyFactory;
+        private final boolean trace;
+        private DiagnosticSource source = DiagnosticSource.NO_SOURCE;
+
+        private final List<Name> typeNameParts;
+        private final Name successVariant;
+        private final Name propagateName;
+
+        SealedTypePropagateLogicBuilder(Context context) {
+            this.names = Names.instance(context);
+            this.treeMaker = TreeMaker.instance(context);
+            this.log = Log.instance(context);
+            this.nameStrategyFactory = IdentNameStrategyFactory.instance(context);
+            this.trace = traceable && Options.instance(context).traceEnabled();
+
+            ListBuffer<Name> parts = new ListBuffer<>();
+            for (String part : typeName.split("\\.")) {
+                parts.append(names.fromString(part));
+            }
+            this.typeNameParts = parts.toList();
+            this.successVariant = names.fromString(successVariantName);
+            this.propagateName = names.fromString("propagate");
+        }
+
+        @Override
+        public PropagateLogic build(JCTree.JCExpression receiver, Type receiverType, int position, ClassMember member) {
+            IdentNameStrategy nameStrategy = nameStrategyFactory.create();
+
+            var receiverName = names.fromString(nameStrategy.getName("$$rec"));
+            var receiverValueName = names.fromString(nameStrategy.getName("$$recVal"));
+
+            treeMaker.at(position);
+
+            List<JCTree.JCStatement> statements = List.of(
+                    treeMaker.VarDef(treeMaker.Modifiers(0), receiverName, treeMaker.Type(receiverType), receiver, false),
+                    treeMaker.If(
+                            treeMaker.Unary(JCTree.Tag.NOT, treeMaker.Parens(
+                                    treeMaker.TypeTest(
+                                            treeMaker.Ident(receiverName),
+                                            treeMaker.RecordPattern(
+                                                    treeMaker.Select(qualifiedType(), successVariant),
+                                                    List.of(treeMaker.BindingPattern(
+                                                            treeMaker.VarDef(treeMaker.Modifiers(0), receiverValueName, null, null)
+                                                    ))
+                                            )
+                                    )
+                            )),
+                            treeMaker.Return(
+                                    treeMaker.Apply(
+                                            List.nil(),
+                                            treeMaker.Select(qualifiedType(), propagateName),
+                                            propagateArgs(receiverName, position, member)
+                                    )
+                            ),
+                            null)
+            );
+
+            return new PropagateLogic(statements, treeMaker.Ident(receiverValueName));
+        }
+
+        private List<JCTree.JCExpression> propagateArgs(Name receiverName, int position, ClassMember member) {
+            if (!trace) {
+                return List.of(treeMaker.Ident(receiverName));
+            }
+            Symbol.ClassSymbol owner = member.owner().sym;
+            JavaFileObject sourceFile = owner.outermostClass().sourcefile;
+            return List.of(
+                    treeMaker.Ident(receiverName),
+                    treeMaker.Literal(owner.flatName().toString()),
+                    treeMaker.Literal(methodName(member.member())),
+                    treeMaker.Literal(fileName(sourceFile)),
+                    treeMaker.Literal(source(sourceFile).getLineNumber(position))
+            );
+        }
+
+        private DiagnosticSource source(JavaFileObject file) {
+            if (source.getFile() != file) {
+                source = new DiagnosticSource(file, log);
+            }
+            return source;
+        }
+
+        private static String methodName(JCTree member) {
+            if (member instanceof JCTree.JCMethodDecl method) {
+                return method.name.toString();
+            }
+            long flags = switch (member) {
+                case JCTree.JCVariableDecl variable -> variable.mods.flags;
+                case JCTree.JCBlock block -> block.flags;
+                default -> 0;
+            };
+            return (flags & Flags.STATIC) != 0 ? "<clinit>" : "<init>";
+        }
+
+        private static String fileName(JavaFileObject file) {
+            String name = file.getName();
+            int separator = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+            return name.substring(separator + 1);
+        }
+
+        private JCTree.JCExpression qualifiedType() {
+            JCTree.JCExpression type = treeMaker.Ident(typeNameParts.head);
+            for (Name part : typeNameParts.tail) {
+                type = treeMaker.Select(type, part);
+            }
+            return type;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package dev.khbd.result4j.javac;
 
 import com.sun.source.tree.BlockTree;
 import com.sun.source.tree.CaseTree;
+import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.DoWhileLoopTree;
 import com.sun.source.tree.EnhancedForLoopTree;
 import com.sun.source.tree.ForLoopTree;
 import com.sun.source.tree.IfTree;
 import com.sun.source.tree.SwitchExpressionTree;
 import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.SwitchTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.WhileLoopTree;
@@ -16,57 +18,145 @@ import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
 import dev.khbd.result4j.javac.StatementProcessor.ProcessedStatement;
-import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * Tree scanner to process statements in blocks.
  *
+ * <p>Each statement is processed completely at once, so single scan is enough
+ * to process the whole compilation unit. Statements produced by processor are scanned
+ * in the same pass to process nested blocks and lambdas.
+ *
+ * <p>Scanner tracks class members which were changed during processing,
+ * so only those members have to be attributed again.
+ *
+ * <p>Scanner also collects unwrap call candidates remained in the tree after processing,
+ * so compilation unit is not scanned one more time to find them.
+ * Parts of the tree which are not processed are scanned in collect-only mode.
+ * Candidates are collected in the same order as plain tree scanner visits them.
+ *
  * @author Sergei Khadanovich
  */
-@RequiredArgsConstructor
 class StatementProcessingTreeScanner extends TreeScanner<Boolean, Object> {
 
-    private final List<StatementProcessor> processors;
+    private final StatementProcessor processor;
     private final TreeMaker treeMaker;
 
-    StatementProcessingTreeScanner(List<StatementProcessor> processors,
+    private final Set<ClassMember> processedMembers = new LinkedHashSet<>();
+    private ClassMember currentMember;
+
+    private final ArrayList<JCTree.JCMethodInvocation> unwrapCallCandidates = new ArrayList<>();
+    private boolean collectOnly;
+
+    StatementProcessingTreeScanner(StatementProcessor processor,
                                    Context context) {
-        this.processors = processors;
+        this.processor = processor;
         this.treeMaker = TreeMaker.instance(context);
     }
 
+    /**
+     * Class members changed during scanning.
+     */
+    Set<ClassMember> getProcessedMembers() {
+        return processedMembers;
+    }
+
+    /**
+     * Unwrap call candidates remained in the tree after processing.
+     */
+    Collection<JCTree.JCMethodInvocation> getUnwrapCallCandidates() {
+        return unwrapCallCandidates;
+    }
+
+    @Override
+    public Boolean visitMethodInvocation(MethodInvocationTree node, Object o) {
+        Boolean processed = super.visitMethodInvocation(node, o);
+
+        JCTree.JCMethodInvocation jcMethodCall = (JCTree.JCMethodInvocation) node;
+        if (RemainedUnwrapCallAnnotator.unwrapCallCandidate(jcMethodCall)) {
+            unwrapCallCandidates.add(jcMethodCall);
+        }
+
+        return processed;
+    }
+
+    @Override
+    public Boolean visitClass(ClassTree node, Object o) {
+        if (collectOnly) {
+            return super.visitClass(node, o);
+        }
+
+        JCTree.JCClassDecl jcClass = (JCTree.JCClassDecl) node;
+
+        collect(jcClass.mods);
+        collect(jcClass.typarams);
+        collect(jcClass.extending);
+        collect(jcClass.implementing);
+        collect(jcClass.permitting);
+
+        ClassMember outerMember = currentMember;
+        boolean processed = false;
+
+        for (JCTree def : jcClass.defs) {
+            currentMember = new ClassMember(jcClass, def);
+            processed |= toBoolean(scan(def, o));
+        }
+
+        currentMember = outerMember;
+
+        return processed;
+    }
+
     @Override
     public Boolean visitLambdaExpression(LambdaExpressionTree node, Object o) {
+        if (collectOnly) {
+            return super.visitLambdaExpression(node, o);
+        }
+
         JCTree.JCLambda jcLambda = (JCTree.JCLambda) node;
 
+        collect(jcLambda.params);
+
         if (jcLambda.getBodyKind() == LambdaExpressionTree.BodyKind.STATEMENT) {
             return scan(jcLambda.body, o);
         }
 
         JCTree.JCReturn returnStatement = treeMaker.at(jcLambda.pos).Return((JCTree.JCExpression) jcLambda.body);
 
-        ProcessedStatement processed = applyFirstProcessor(returnStatement);
+        ProcessedStatement processed = processor.process(returnStatement, currentMember);
         if (!processed.processed()) {
+            collect(jcLambda.body);
             return Boolean.FALSE;
         }
 
         jcLambda.body = treeMaker.Block(0, processed.statements());
+        markProcessed();
+        scan(jcLambda.body, o);
 
         return Boolean.TRUE;
     }
 
     @Override
     public Boolean visitBlock(BlockTree node, Object o) {
+        if (collectOnly) {
+            return super.visitBlock(node, o);
+        }
+
         JCTree.JCBlock jcBlock = (JCTree.JCBlock) node;
 
         ProcessedStatement processed = processSeveralStatements(jcBlock.stats);
 
         if (processed.processed()) {
             jcBlock.stats = processed.statements();
+            markProcessed();
         }
 
         return reduce(processed.processed(), scan(jcBlock.stats, o));
@@ -74,32 +164,70 @@ class StatementProcessingTreeScanner extends TreeScanner<Boolean, Object> {
 
     @Override
     public Boolean visitForLoop(ForLoopTree node, Object o) {
+        if (collectOnly) {
+            return super.visitForLoop(node, o);
+        }
+
         JCTree.JCForLoop jcLoop = (JCTree.JCForLoop) node;
+
+        collect(jcLoop.init);
+        collect(jcLoop.cond);
+        collect(jcLoop.step);
+
         return processOneStatementBlock(jcLoop.body, st -> jcLoop.body = st, o);
     }
 
     @Override
     public Boolean visitEnhancedForLoop(EnhancedForLoopTree node, Object o) {
+        if (collectOnly) {
+            return super.visitEnhancedForLoop(node, o);
+        }
+
         JCTree.JCEnhancedForLoop jcLoop = (JCTree.JCEnhancedForLoop) node;
+
+        collect(jcLoop.var);
+        collect(jcLoop.expr);
+
         return processOneStatementBlock(jcLoop.body, st -> jcLoop.body = st, 0);
     }
 
     @Override
     public Boolean visitWhileLoop(WhileLoopTree node, Object o) {
+        if (collectOnly) {
+            return super.visitWhileLoop(node, o);
+        }
+
         JCTree.JCWhileLoop jcLoop = (JCTree.JCWhileLoop) node;
+
+        collect(jcLoop.cond);
+
         return processOneStatementBlock(jcLoop.body, st -> jcLoop.body = st, o);
     }
 
     @Override
     public Boolean visitDoWhileLoop(DoWhileLoopTree node, Object o) {
+        if (collectOnly) {
+            return super.visitDoWhileLoop(node, o);
+        }
+
         JCTree.JCDoWhileLoop jcLoop = (JCTree.JCDoWhileLoop) node;
-        return processOneStatementBlock(jcLoop.body, st -> jcLoop.body = st, o);
+
+        Boolean processed = processOneStatementBlock(jcLoop.body, st -> jcLoop.body = st, o);
+        collect(jcLoop.cond);
+
+        return processed;
     }
 
     @Override
     public Boolean visitIf(IfTree node, Object o) {
+        if (collectOnly) {
+            return super.visitIf(node, o);
+        }
+
         JCTree.JCIf jcIf = (JCTree.JCIf) node;
 
+        collect(jcIf.cond);
+
         return reduce(
                 processOneStatementBlock(jcIf.thenpart, st -> jcIf.thenpart = st, o),
                 processOneStatementBlock(jcIf.elsepart, st -> jcIf.elsepart = st, o)
@@ -108,28 +236,65 @@ class StatementProcessingTreeScanner extends TreeScanner<Boolean, Object> {
 
     @Override
     public Boolean visitSwitchExpression(SwitchExpressionTree node, Object o) {
+        if (collectOnly) {
+            return super.visitSwitchExpression(node, o);
+        }
+
         // do not analise switch expression deeply
         // return statement is not allowed inside switch statement
+        collect((JCTree.JCSwitchExpression) node);
         return Boolean.FALSE;
     }
 
     @Override
     public Boolean visitSwitch(SwitchTree node, Object o) {
+        if (collectOnly) {
+            return super.visitSwitch(node, o);
+        }
+
         JCTree.JCSwitch jcSwitch = (JCTree.JCSwitch) node;
+
+        collect(jcSwitch.selector);
+
         return scan(jcSwitch.cases, o);
     }
 
     @Override
     public Boolean visitCase(CaseTree node, Object o) {
+        if (collectOnly) {
+            return super.visitCase(node, o);
+        }
+
         JCTree.JCCase jcCase = (JCTree.JCCase) node;
 
+        collect(jcCase.labels);
+        collect(jcCase.guard);
+
         ProcessedStatement processed = processSeveralStatements(jcCase.stats);
 
         if (processed.processed()) {
             jcCase.stats = processed.statements();
+            markProcessed();
+        }
+
+        if (jcCase.caseKind == CaseTree.CaseKind.STATEMENT) {
+            return reduce(processed.processed(), scan(jcCase.stats, o));
         }
 
-        return reduce(processed.processed(), scan(jcCase.stats, o));
+        // tree scanner visits only body of rule case,
+        // so candidates from statements added before the body are not collected
+        boolean scanned = false;
+        for (JCTree.JCStatement statement : jcCase.stats) {
+            if (statement == jcCase.body) {
+                scanned |= toBoolean(scan(statement, o));
+            } else {
+                int collected = unwrapCallCandidates.size();
+                scanned |= toBoolean(scan(statement, o));
+                truncateCandidates(collected);
+            }
+        }
+
+        return reduce(processed.processed(), scanned);
     }
 
     private Boolean processOneStatementBlock(JCTree.JCStatement statement,
@@ -143,8 +308,9 @@ class StatementProcessingTreeScanner extends TreeScanner<Boolean, Object> {
             return scan(statement, o);
         }
 
-        ProcessedStatement processed = applyFirstProcessor(statement);
+        ProcessedStatement processed = processor.process(statement, currentMember);
         if (!processed.processed()) {
+            collect(statement);
             return Boolean.FALSE;
         }
 
@@ -153,31 +319,51 @@ class StatementProcessingTreeScanner extends TreeScanner<Boolean, Object> {
                 : treeMaker.at(statement.pos).Block(0, processed.statements());
 
         changedStatementApplier.accept(changed);
+        markProcessed();
+        scan(changed, o);
 
         return Boolean.TRUE;
     }
 
     private ProcessedStatement processSeveralStatements(List<JCTree.JCStatement> statements) {
-        List<JCTree.JCStatement> newStatements = List.nil();
+        ListBuffer<JCTree.JCStatement> newStatements = new ListBuffer<>();
         boolean processed = false;
+        int replacedCalls = 0;
 
         for (JCTree.JCStatement statement : statements) {
-            ProcessedStatement processedStatement = applyFirstProcessor(statement);
-            newStatements = newStatements.appendList(processedStatement.statements());
+            ProcessedStatement processedStatement = processor.process(statement, currentMember);
+            newStatements.appendList(processedStatement.statements());
             processed |= processedStatement.processed();
+            replacedCalls += processedStatement.replacedCalls();
         }
 
-        return new ProcessedStatement(processed, newStatements);
+        if (!processed) {
+            return new ProcessedStatement(false, statements);
+        }
+
+        return new ProcessedStatement(true, newStatements.toList(), replacedCalls);
     }
 
-    private ProcessedStatement applyFirstProcessor(JCTree.JCStatement statement) {
-        for (var processor : processors) {
-            ProcessedStatement processed = processor.process(statement);
-            if (processed.processed()) {
-                return processed;
-            }
-        }
-        return new ProcessedStatement(false, statement);
+    private void collect(JCTree tree) {
+        boolean outerCollectOnly = collectOnly;
+        collectOnly = true;
+        scan(tree, null);
+        collectOnly = outerCollectOnly;
+    }
+
+    private void collect(List<? extends JCTree> trees) {
+        boolean outerCollectOnly = collectOnly;
+        collectOnly = true;
+        scan(trees, null);
+        collectOnly = outerCollectOnly;
+    }
+
+    private void truncateCandidates(int size) {
+        unwrapCallCandidates.subList(size, unwrapCallCandidates.size()).clear();
+    }
+
+    private void markProcessed() {
+        processedMembers.add(currentMember);
     }
 
     @Override
@@ -14,13 +14,22 @@ interface StatementProcessor {
      * Process statement.
      *
      * @param statement original statement
+     * @param member    class member statement belongs to
      */
-    ProcessedStatement process(JCTree.JCStatement statement);
+    ProcessedStatement process(JCTree.JCStatement statement, ClassMember member);
 
     /**
      * Processed statement.
+     *
+     * @param processed     was statement changed or not
+     * @param statements    statements to insert in place of original statement
+     * @param replacedCalls number of replaced unwrap calls
      */
-    record ProcessedStatement(boolean processed, List<JCTree.JCStatement> statements) {
+    record ProcessedStatement(boolean processed, List<JCTree.JCStatement> statements, int replacedCalls) {
+
+        ProcessedStatement(boolean processed, List<JCTree.JCStatement> statements) {
+            this(processed, statements, 0);
+        }
 
         ProcessedStatement(boolean processed, JCTree.JCStatement... statements) {
             this(processed, List.from(statements));
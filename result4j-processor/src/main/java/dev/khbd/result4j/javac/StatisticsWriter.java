@@ -0,0 +1,26 @@
+package dev.khbd.result4j.javac;
+
+/**
+ * Plugin statistics writer.
+ *
+ * @author Sergei Khadanovich
+ */
+interface StatisticsWriter {
+
+    /**
+     * Write statistics of processed compilation unit.
+     *
+     * @param statistics unit statistics
+     */
+    void write(UnitStatistics statistics);
+
+    /**
+     * Register compilation unit which was skipped without processing.
+     */
+    void skipped();
+
+    /**
+     * Write summary for the whole compilation and release resources.
+     */
+    void finish();
+}
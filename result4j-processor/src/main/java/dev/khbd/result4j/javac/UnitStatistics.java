@@ -0,0 +1,22 @@
+package dev.khbd.result4j.javac;
+
+/**
+ * Plugin statistics for one compilation unit.
+ *
+ * @param file                source file name
+ * @param replacedCalls       number of replaced unwrap calls
+ * @param rewrittenStatements number of rewritten statements
+ * @param scanNanos           time spent in scanning, excluding rewriting
+ * @param rewriteNanos        time spent in rewriting statements
+ * @param attributeNanos      time spent in re-attribution
+ * @param attributedMembers   number of re-attributed class members
+ * @author Sergei Khadanovich
+ */
+record UnitStatistics(String file,
+                      int replacedCalls,
+                      int rewrittenStatements,
+                      long scanNanos,
+                      long rewriteNanos,
+                      long attributeNanos,
+                      int attributedMembers) {
+}
@@ -1,5 +1,6 @@
 package dev.khbd.result4j.javac;
 
+import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.tree.JCTree;
 
 import java.util.function.Consumer;
@@ -7,9 +8,20 @@ import java.util.function.Consumer;
 /**
  * Unwrap call lens.
  *
- * @param receiver expression on which unwrap function was called
- * @param replaceF function to consume replacement
+ * <p>Receiver expression is read from unwrap call lazily, because nested unwrap calls
+ * inside receiver can be replaced before the lens itself is processed.
+ *
+ * @param unwrap       unwrap method select
+ * @param receiverType type of receiver expression computed during original attribution
+ * @param replaceF     function to consume replacement
  * @author Sergei Khadanovich
  */
-record UnwrapCallLens(JCTree.JCExpression receiver, Consumer<JCTree.JCIdent> replaceF) {
+record UnwrapCallLens(JCTree.JCFieldAccess unwrap, Type receiverType, Consumer<JCTree.JCIdent> replaceF) {
+
+    /**
+     * Expression on which unwrap function was called.
+     */
+    JCTree.JCExpression receiver() {
+        return unwrap.selected;
+    }
 }
@@ -0,0 +1,73 @@
+package dev.khbd.result4j.javac;
+
+import com.sun.source.tree.CompilationUnitTree;
+import lombok.experimental.UtilityClass;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+
+/**
+ * Cheap check to skip compilation units without unwrap calls.
+ *
+ * <p>Check looks for {@code unwrap} word in unit source text. Javac caches source content
+ * after parsing, so check does not read the file again in the common case.
+ * Check is conservative: if source is unavailable or contains unicode escapes,
+ * unit is considered as one which may contain unwrap calls.
+ *
+ * @author Sergei Khadanovich
+ */
+@UtilityClass
+class UnwrapCallPrefilter {
+
+    private static final String UNWRAP = "unwrap";
+    private static final String UNICODE_ESCAPE = "\\u";
+
+    /**
+     * Check if compilation unit may contain unwrap calls.
+     *
+     * @param unit compilation unit
+     * @return {@literal false} if unit does not contain unwrap calls for sure and {@literal true} otherwise
+     */
+    static boolean mayContainUnwrapCalls(CompilationUnitTree unit) {
+        JavaFileObject file = unit.getSourceFile();
+        if (file == null) {
+            return true;
+        }
+
+        CharSequence content;
+        try {
+            // the same flag as javac uses to get cached content
+            content = file.getCharContent(false);
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+
+        if (content == null) {
+            return true;
+        }
+
+        return contains(content, UNWRAP) || contains(content, UNICODE_ESCAPE);
+    }
+
+    private static boolean contains(CharSequence content, String word) {
+        char first = word.charAt(0);
+        int last = content.length() - word.length();
+
+        for (int i = 0; i <= last; i++) {
+            if (content.charAt(i) == first && matches(content, i, word)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matches(CharSequence content, int offset, String word) {
+        for (int i = 1; i < word.length(); i++) {
+            if (content.charAt(offset + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
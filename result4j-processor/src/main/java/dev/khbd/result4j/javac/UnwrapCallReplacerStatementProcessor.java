@@ -1,36 +1,45 @@
 package dev.khbd.result4j.javac;
 
+import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+
 /**
  * Statement process to replace unwrap call by propagating logic.
  *
+ * <p>All unwrap calls found in a statement are replaced at once.
+ *
  * @author Sergei Khadanovich
  */
 @RequiredArgsConstructor
 class UnwrapCallReplacerStatementProcessor implements StatementProcessor {
 
     private final UnwrapCallSearcher searcher;
-    private final PropagateLogicBuilder propagateLogicBuilder;
+    private final Map<Symbol, PropagateLogicBuilder> propagateLogicBuilders;
 
     @Override
-    public ProcessedStatement process(JCTree.JCStatement statement) {
-        UnwrapCallLens lens = searcher.visit(statement, null);
+    public ProcessedStatement process(JCTree.JCStatement statement, ClassMember member) {
+        List<UnwrapCallLens> lenses = searcher.search(statement);
 
-        if (lens == null) {
+        if (lenses.isEmpty()) {
             return new ProcessedStatement(false, statement);
         }
 
-        PropagateLogic logic = propagateLogicBuilder.build(lens.receiver(), statement.pos);
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        for (UnwrapCallLens lens : lenses) {
+            PropagateLogicBuilder propagateLogicBuilder = propagateLogicBuilders.get(lens.receiverType().tsym);
+            PropagateLogic logic = propagateLogicBuilder.build(lens.receiver(), lens.receiverType(), statement.pos, member);
 
-        lens.replaceF().accept(logic.ident());
+            lens.replaceF().accept(logic.ident());
+
+            statements.appendList(logic.statements());
+        }
+        statements.append(statement);
 
-        return new ProcessedStatement(true,
-                List.<JCTree.JCStatement>nil()
-                        .appendList(logic.statements())
-                        .append(statement)
-        );
+        return new ProcessedStatement(true, statements.toList(), lenses.size());
     }
 }
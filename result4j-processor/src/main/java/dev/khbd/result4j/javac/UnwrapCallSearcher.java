@@ -26,23 +26,43 @@ import com.sun.source.util.SimpleTreeVisitor;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Unwrap lens searcher.
  *
+ * <p>Searcher collects all unwrap calls at supported positions in a statement at once.
+ * Lenses are collected in evaluation order and unwrap calls nested in receiver of another
+ * unwrap call go before the enclosing one, so lenses can be processed one by one in the
+ * order they were found.
+ *
  * @author Sergei Khadanovich
  */
 @RequiredArgsConstructor
-class UnwrapCallSearcher extends SimpleTreeVisitor<UnwrapCallLens, Object> {
-
-    private final Symbol type;
+class UnwrapCallSearcher extends SimpleTreeVisitor<Void, ListBuffer<UnwrapCallLens>> {
+
+    private final Collection<Symbol> types;
+
+    /**
+     * Search all unwrap calls in statement.
+     *
+     * @param statement statement
+     * @return found lenses in evaluation order
+     */
+    List<UnwrapCallLens> search(JCTree.JCStatement statement) {
+        ListBuffer<UnwrapCallLens> lenses = new ListBuffer<>();
+        visit(statement, lenses);
+        return lenses.toList();
+    }
 
     @Override
-    public UnwrapCallLens visitTry(TryTree node, Object o) {
+    public Void visitTry(TryTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCTry jcTry = (JCTree.JCTry) node;
 
         if (jcTry.resources != null && jcTry.resources.head != null) {
@@ -54,12 +74,12 @@ class UnwrapCallSearcher extends SimpleTreeVisitor<UnwrapCallLens, Object> {
             }
 
             JCTree.JCVariableDecl jcVar = (JCTree.JCVariableDecl) jcTree;
-            JCTree.JCExpression receiver = getUnwrapCallReceiver(jcVar.init);
-            if (receiver != null) {
-               return new UnwrapCallLens(receiver, expr -> {
-                   jcVar.init = expr;
-                   jcVar.sym = null;
-               });
+            JCTree.JCFieldAccess unwrap = getUnwrapCall(jcVar.init);
+            if (unwrap != null) {
+                visitUnwrapCall(unwrap, expr -> {
+                    jcVar.init = expr;
+                    jcVar.sym = null;
+                }, lenses);
             }
         }
 
@@ -67,289 +87,217 @@ class UnwrapCallSearcher extends SimpleTreeVisitor<UnwrapCallLens, Object> {
     }
 
     @Override
-    public UnwrapCallLens visitBinary(BinaryTree node, Object o) {
+    public Void visitBinary(BinaryTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCBinary jcBinary = (JCTree.JCBinary) node;
 
+        visitOperand(jcBinary.lhs, expr -> jcBinary.lhs = expr, lenses);
+
         // binary boolean operators
         // only left side can be analized because execution order rules can be violated
         // after code transformation.
         if (jcBinary.getTag() == JCTree.Tag.OR || jcBinary.getTag() == JCTree.Tag.AND) {
-            JCTree.JCExpression leftReceiver = getUnwrapCallReceiver(jcBinary.lhs);
-            if (leftReceiver != null) {
-                return new UnwrapCallLens(leftReceiver, expr -> jcBinary.lhs = expr);
-            }
-            return visit(jcBinary.lhs, o);
-        }
-
-        JCTree.JCExpression leftReceiver = getUnwrapCallReceiver(jcBinary.lhs);
-        if (leftReceiver != null) {
-            return new UnwrapCallLens(leftReceiver, expr -> jcBinary.lhs = expr);
-        }
-
-        JCTree.JCExpression rightReceiver = getUnwrapCallReceiver(jcBinary.rhs);
-        if (rightReceiver != null) {
-            return new UnwrapCallLens(rightReceiver, expr -> jcBinary.rhs = expr);
+            return null;
         }
 
-        return reduce(visit(jcBinary.lhs, o), visit(jcBinary.rhs, o));
+        visitOperand(jcBinary.rhs, expr -> jcBinary.rhs = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitCompoundAssignment(CompoundAssignmentTree node, Object o) {
+    public Void visitCompoundAssignment(CompoundAssignmentTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCAssignOp jcAssign = (JCTree.JCAssignOp) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcAssign.rhs);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcAssign.rhs = expr);
-        }
-
-        return visit(jcAssign.rhs, o);
+        visitOperand(jcAssign.rhs, expr -> jcAssign.rhs = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitAssignment(AssignmentTree node, Object o) {
+    public Void visitAssignment(AssignmentTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCAssign jcAssign = (JCTree.JCAssign) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcAssign.rhs);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcAssign.rhs = expr);
-        }
-
-        return visit(jcAssign.rhs, o);
+        visitOperand(jcAssign.rhs, expr -> jcAssign.rhs = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitUnary(UnaryTree node, Object o) {
+    public Void visitUnary(UnaryTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCUnary jcUnary = (JCTree.JCUnary) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcUnary.arg);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcUnary.arg = expr);
-        }
-
-        return visit(jcUnary.arg, o);
+        visitOperand(jcUnary.arg, expr -> jcUnary.arg = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitSwitch(SwitchTree node, Object o) {
+    public Void visitSwitch(SwitchTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCSwitch jcSwitch = (JCTree.JCSwitch) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcSwitch.selector);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcSwitch.selector = expr);
-        }
-
-        return visit(jcSwitch.selector, o);
+        visitOperand(jcSwitch.selector, expr -> jcSwitch.selector = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitSwitchExpression(SwitchExpressionTree node, Object o) {
+    public Void visitSwitchExpression(SwitchExpressionTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCSwitchExpression jcSwitch = (JCTree.JCSwitchExpression) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcSwitch.selector);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcSwitch.selector = expr);
-        }
-
-        return visit(jcSwitch.selector, o);
+        visitOperand(jcSwitch.selector, expr -> jcSwitch.selector = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitIf(IfTree node, Object o) {
+    public Void visitIf(IfTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCIf jcIf = (JCTree.JCIf) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcIf.cond);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcIf.cond = expr);
-        }
-
-        return visit(jcIf.cond, o);
+        visitOperand(jcIf.cond, expr -> jcIf.cond = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitParenthesized(ParenthesizedTree node, Object o) {
+    public Void visitParenthesized(ParenthesizedTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCParens jcParens = (JCTree.JCParens) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcParens.expr);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcParens.expr = expr);
-        }
-
-        return visit(jcParens.expr, o);
+        visitOperand(jcParens.expr, expr -> jcParens.expr = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitSynchronized(SynchronizedTree node, Object o) {
+    public Void visitSynchronized(SynchronizedTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCSynchronized jcSync = (JCTree.JCSynchronized) node;
 
         // sync lock is jcParens, so do not try to analise it.
         // go one step deeper
 
-        return visit(jcSync.lock, o);
+        return visit(jcSync.lock, lenses);
     }
 
     @Override
-    public UnwrapCallLens visitThrow(ThrowTree node, Object o) {
+    public Void visitThrow(ThrowTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCThrow jcThrow = (JCTree.JCThrow) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcThrow.expr);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcThrow.expr = expr);
-        }
-
-        return visit(jcThrow.expr, o);
+        visitOperand(jcThrow.expr, expr -> jcThrow.expr = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitVariable(VariableTree node, Object o) {
+    public Void visitVariable(VariableTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCVariableDecl jcVariable = (JCTree.JCVariableDecl) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcVariable.init);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcVariable.init = expr);
-        }
-
-        return visit(jcVariable.init, o);
+        visitOperand(jcVariable.init, expr -> jcVariable.init = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitConditionalExpression(ConditionalExpressionTree node, Object o) {
+    public Void visitConditionalExpression(ConditionalExpressionTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCConditional jcConditional = (JCTree.JCConditional) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcConditional.cond);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcConditional.cond = expr);
-        }
-
-        return visit(jcConditional.cond, o);
+        visitOperand(jcConditional.cond, expr -> jcConditional.cond = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitExpressionStatement(ExpressionStatementTree node, Object o) {
+    public Void visitExpressionStatement(ExpressionStatementTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCExpressionStatement jcExprStatement = (JCTree.JCExpressionStatement) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcExprStatement.expr);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcExprStatement.expr = expr);
-        }
-
-        return visit(jcExprStatement.expr, o);
+        visitOperand(jcExprStatement.expr, expr -> jcExprStatement.expr = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitEnhancedForLoop(EnhancedForLoopTree node, Object o) {
+    public Void visitEnhancedForLoop(EnhancedForLoopTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCEnhancedForLoop jcLoop = (JCTree.JCEnhancedForLoop) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcLoop.expr);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcLoop.expr = expr);
-        }
-
-        return visit(jcLoop.expr, o);
+        visitOperand(jcLoop.expr, expr -> jcLoop.expr = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitMethodInvocation(MethodInvocationTree node, Object o) {
+    public Void visitMethodInvocation(MethodInvocationTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCMethodInvocation jcCall = (JCTree.JCMethodInvocation) node;
 
         // jcCall.meth cannot be the unwrap method call.
         // either field access or ident.
         // So, do not need to search lens in jcCall.meth directly
 
-        UnwrapCallLens methLens = visit(jcCall.meth, o);
-        if (Objects.nonNull(methLens)) {
-            return methLens;
-        }
-
-        return visitExpressions(jcCall.args, replacement -> jcCall.args = replacement, o);
+        visit(jcCall.meth, lenses);
+        visitExpressions(() -> jcCall.args, replacement -> jcCall.args = replacement, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitArrayAccess(ArrayAccessTree node, Object o) {
+    public Void visitArrayAccess(ArrayAccessTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCArrayAccess jcAccess = (JCTree.JCArrayAccess) node;
 
-        JCTree.JCExpression instanceReceiver = getUnwrapCallReceiver(jcAccess.indexed);
-        if (instanceReceiver != null) {
-            return new UnwrapCallLens(instanceReceiver, expr -> jcAccess.indexed = expr);
-        }
-
-        JCTree.JCExpression indexReceiver = getUnwrapCallReceiver(jcAccess.index);
-        if (indexReceiver != null) {
-            return new UnwrapCallLens(indexReceiver, expr -> jcAccess.index = expr);
-        }
-
-        return reduce(visit(jcAccess.indexed, o), visit(jcAccess.index, o));
+        visitOperand(jcAccess.indexed, expr -> jcAccess.indexed = expr, lenses);
+        visitOperand(jcAccess.index, expr -> jcAccess.index = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitNewArray(NewArrayTree node, Object o) {
+    public Void visitNewArray(NewArrayTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCNewArray jcNew = (JCTree.JCNewArray) node;
 
-        UnwrapCallLens lens = visitExpressions(jcNew.dims, replacement -> jcNew.dims = replacement, o);
-        if (Objects.nonNull(lens)) {
-            return lens;
-        }
-
-        return visitExpressions(jcNew.elems, replacement -> jcNew.elems = replacement, o);
+        visitExpressions(() -> jcNew.dims, replacement -> jcNew.dims = replacement, lenses);
+        visitExpressions(() -> jcNew.elems, replacement -> jcNew.elems = replacement, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitNewClass(NewClassTree node, Object o) {
+    public Void visitNewClass(NewClassTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCNewClass jcNew = (JCTree.JCNewClass) node;
-        return visitExpressions(jcNew.args, replacement -> jcNew.args = replacement, o);
+        visitExpressions(() -> jcNew.args, replacement -> jcNew.args = replacement, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitMemberSelect(MemberSelectTree node, Object o) {
+    public Void visitMemberSelect(MemberSelectTree node, ListBuffer<UnwrapCallLens> lenses) {
         JCTree.JCFieldAccess jcField = (JCTree.JCFieldAccess) node;
-
-        JCTree.JCExpression receiver = getUnwrapCallReceiver(jcField.selected);
-        if (receiver != null) {
-            return new UnwrapCallLens(receiver, expr -> jcField.selected = expr);
-        }
-
-        return visit(jcField.selected, o);
+        visitOperand(jcField.selected, expr -> jcField.selected = expr, lenses);
+        return null;
     }
 
     @Override
-    public UnwrapCallLens visitReturn(ReturnTree node, Object o) {
+    public Void visitReturn(ReturnTree node, ListBuffer<UnwrapCallLens> lenses) {
         // do not need special support because
         // node.getExpression cannot be the unwrap method call.
         // So, search method call deeply
-        return visit(node.getExpression(), o);
+        return visit(node.getExpression(), lenses);
     }
 
-    private UnwrapCallLens reduce(UnwrapCallLens r1, UnwrapCallLens r2) {
-        return Objects.nonNull(r1) ? r1 : r2;
+    /**
+     * Visit expression at position where unwrap call is allowed.
+     */
+    private void visitOperand(JCTree.JCExpression expression,
+                              Consumer<JCTree.JCIdent> replaceF,
+                              ListBuffer<UnwrapCallLens> lenses) {
+        JCTree.JCFieldAccess unwrap = getUnwrapCall(expression);
+        if (unwrap != null) {
+            visitUnwrapCall(unwrap, replaceF, lenses);
+        } else {
+            visit(expression, lenses);
+        }
+    }
+
+    private void visitUnwrapCall(JCTree.JCFieldAccess unwrap,
+                                 Consumer<JCTree.JCIdent> replaceF,
+                                 ListBuffer<UnwrapCallLens> lenses) {
+        // receiver type has to be captured before nested unwrap calls are replaced
+        UnwrapCallLens lens = new UnwrapCallLens(unwrap, unwrap.selected.type, replaceF);
+
+        // receiver is evaluated before unwrap call itself,
+        // so nested unwrap calls have to be processed first
+        visitOperand(unwrap.selected, expr -> unwrap.selected = expr, lenses);
+
+        lenses.append(lens);
     }
 
-    private UnwrapCallLens visitExpressions(List<JCTree.JCExpression> expressions,
-                                            Consumer<List<JCTree.JCExpression>> replaceF,
-                                            Object o) {
+    private void visitExpressions(Supplier<List<JCTree.JCExpression>> expressionsF,
+                                  Consumer<List<JCTree.JCExpression>> replaceF,
+                                  ListBuffer<UnwrapCallLens> lenses) {
+        List<JCTree.JCExpression> expressions = expressionsF.get();
         if (Objects.isNull(expressions)) {
-            return null;
+            return;
         }
         for (JCTree.JCExpression expression : expressions) {
-            JCTree.JCExpression argReceiver = getUnwrapCallReceiver(expression);
-            if (Objects.nonNull(argReceiver)) {
-                return new UnwrapCallLens(argReceiver, expr -> replaceF.accept(replace(expressions, expression, expr)));
-            }
-            UnwrapCallLens argLens = visit(expression, o);
-            if (Objects.nonNull(argLens)) {
-                return argLens;
-            }
+            // several expressions from the same list can be replaced,
+            // so replacement has to be applied to the actual list
+            visitOperand(expression, expr -> replaceF.accept(replace(expressionsF.get(), expression, expr)), lenses);
         }
-        return null;
     }
 
-
     private static List<JCTree.JCExpression> replace(List<JCTree.JCExpression> list,
                                                      JCTree.JCExpression original,
                                                      JCTree.JCExpression replacement) {
         return list.map(expr -> expr == original ? replacement : expr);
     }
 
-    private JCTree.JCExpression getUnwrapCallReceiver(JCTree.JCExpression expression) {
+    private JCTree.JCFieldAccess getUnwrapCall(JCTree.JCExpression expression) {
         if (expression == null) {
             return null;
         }
@@ -372,8 +320,8 @@ class UnwrapCallSearcher extends SimpleTreeVisitor<UnwrapCallLens, Object> {
             return null;
         }
 
-        if (fieldAccess.selected.type.tsym.equals(type)) {
-            return fieldAccess.selected;
+        if (types.contains(fieldAccess.selected.type.tsym)) {
+            return fieldAccess;
         }
 
         return null;
@@ -187,11 +187,26 @@ public abstract class AbstractPluginTest {
         }
     }
 
-    public record PluginOptions(boolean prettyPrint) {
+    public record PluginOptions(boolean prettyPrint, Path statsFile, boolean trace) {
+
+        public PluginOptions(boolean prettyPrint) {
+            this(prettyPrint, null);
+        }
+
+        public PluginOptions(boolean prettyPrint, Path statsFile) {
+            this(prettyPrint, statsFile, false);
+        }
 
         @Override
         public String toString() {
-            return "-Xplugin:result4j prettyPrint=" + prettyPrint;
+            String options = "-Xplugin:result4j prettyPrint=" + prettyPrint;
+            if (statsFile != null) {
+                options += " stats=" + statsFile;
+            }
+            if (trace) {
+                options += " trace=true";
+            }
+            return options;
         }
     }
 
@@ -0,0 +1,108 @@
+package dev.khbd.result4j.javac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.JavacMessages;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class PropagateComponentsTest {
+
+    private static final int UNITS = 50;
+
+    @Test
+    public void compile_manyUnitsInOneTask_pluginInfrastructureIsCreatedOnce() throws Exception {
+        List<JavaFileObject> sources = IntStream.range(0, UNITS)
+                .mapToObj(PropagateComponentsTest::source)
+                .collect(Collectors.toList());
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Path output = Files.createTempDirectory("result4j-components");
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+
+            List<String> arguments = List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-Xplugin:result4j",
+                    "-proc:none"
+            );
+
+            JavacTask task = (JavacTask) compiler.getTask(null, fileManager, null, arguments, null, sources);
+            Context context = ((BasicJavacTask) task).getContext();
+
+            List<Integer> bundleCounts = new ArrayList<>();
+            List<PropagateComponents> components = new ArrayList<>();
+
+            task.addTaskListener(new TaskListener() {
+                @Override
+                public void finished(TaskEvent event) {
+                    if (event.getKind() == TaskEvent.Kind.ANALYZE) {
+                        bundleCounts.add(JavacMessages.instance(context).getBundles(Locale.getDefault()).size());
+                        // observe plugin instance without creating it
+                        components.add(context.get(PropagateComponents.KEY));
+                    }
+                }
+            });
+
+            assertThat(task.call()).isTrue();
+
+            assertThat(bundleCounts).hasSize(UNITS);
+            // listener is called before plugin one, so plugin bundles are registered after first unit
+            assertThat(bundleCounts.subList(1, UNITS)).containsOnly(bundleCounts.get(1));
+            // listener is called before plugin one, so components are created after first unit
+            assertThat(components.get(0)).isNull();
+            assertThat(components.subList(1, UNITS))
+                    .doesNotContainNull()
+                    .containsOnly(components.get(1));
+        }
+    }
+
+    private static JavaFileObject source(int index) {
+        String source = """
+                package cases.components;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main%d {
+
+                    public static Result<String, Integer> compute(boolean flag) {
+                        var value = number(flag).unwrap();
+                        return Result.success(value + %d);
+                    }
+
+                    public static Result<String, Integer> number(boolean flag) {
+                        return flag ? Result.success(%d) : Result.error("error");
+                    }
+                }
+                """.formatted(index, index, index);
+
+        return new SimpleJavaFileObject(URI.create("string:///cases/components/Main" + index + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
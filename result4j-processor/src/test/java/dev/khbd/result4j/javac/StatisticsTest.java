@@ -0,0 +1,133 @@
+package dev.khbd.result4j.javac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.Result;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class StatisticsTest extends AbstractPluginTest {
+
+    @Test
+    public void compile_statsFileSpecified_writeStatisticsForEachProcessedUnitAndSummary() throws Exception {
+        String withUnwrap = """
+                package cases.stats;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class WithUnwrap {
+
+                    public static Result<String, Integer> sum(boolean flag) {
+                        var first = number(flag).unwrap();
+                        var second = number(flag).unwrap() + number(flag).unwrap();
+                        return Result.success(first + second);
+                    }
+
+                    public static Result<String, Integer> number(boolean flag) {
+                        return flag ? Result.success(1) : Result.error("error");
+                    }
+                }
+                """;
+        String withoutUnwrap = """
+                package cases.stats;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class WithoutUnwrap {
+
+                    public static Result<String, Integer> number() {
+                        return Result.success(1);
+                    }
+                }
+                """;
+
+        Path statsFile = Files.createTempDirectory("result4j-stats").resolve("stats.jsonl");
+
+        CompilationResult result = compiler.compile(new PluginOptions(false, statsFile), List.of(
+                source("cases/stats/WithUnwrap.java", withUnwrap),
+                source("cases/stats/WithoutUnwrap.java", withoutUnwrap)
+        ));
+
+        assertThat(result.isSuccess()).isTrue();
+
+        List<String> lines = Files.readAllLines(statsFile);
+        assertThat(lines).hasSize(2);
+
+        assertThat(lines.get(0))
+                .startsWith("{\"file\":\"")
+                .contains("WithUnwrap.java\"")
+                .contains("\"replacedCalls\":3")
+                .contains("\"rewrittenStatements\":2")
+                .contains("\"attributedMembers\":1")
+                .contains("\"scanMicros\":")
+                .contains("\"rewriteMicros\":")
+                .contains("\"attributeMicros\":");
+
+        assertThat(lines.get(1))
+                .startsWith("{\"summary\":true")
+                .contains("\"units\":1")
+                .contains("\"skippedUnits\":1")
+                .contains("\"replacedCalls\":3")
+                .contains("\"rewrittenStatements\":2")
+                .contains("\"attributedMembers\":1");
+    }
+
+    @Test
+    public void compile_statsFileCanNotBeOpened_reportWarningAndCompile() throws Exception {
+        String withUnwrap = """
+                package cases.stats;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class WithUnwrap {
+
+                    public static Result<String, Integer> twice(boolean flag) {
+                        var value = number(flag).unwrap();
+                        return Result.success(value * 2);
+                    }
+
+                    public static Result<String, Integer> number(boolean flag) {
+                        return flag ? Result.success(1) : Result.error("error");
+                    }
+                }
+                """;
+
+        // directory can not be opened as a file
+        Path statsFile = Files.createTempDirectory("result4j-stats");
+
+        CompilationResult result = compiler.compile(new PluginOptions(false, statsFile), List.of(
+                source("cases/stats/WithUnwrap.java", withUnwrap)
+        ));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.diagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+                .extracting(diagnostic -> diagnostic.getMessage(null))
+                .anySatisfy(message -> assertThat(message)
+                        .startsWith("Statistics file " + statsFile + " can not be opened"));
+
+        Class<?> clazz = result.classLoader().loadClass("cases.stats.WithUnwrap");
+        Method method = clazz.getMethod("twice", boolean.class);
+        assertThat(method.invoke(null, true)).isEqualTo(Result.success(2));
+    }
+
+    private static JavaFileObject source(String path, String source) {
+        return new SimpleJavaFileObject(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
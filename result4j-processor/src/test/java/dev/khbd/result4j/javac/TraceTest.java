@@ -0,0 +1,109 @@
+package dev.khbd.result4j.javac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.khbd.result4j.core.Option;
+import dev.khbd.result4j.core.Result;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class TraceTest extends AbstractPluginTest {
+
+    private static final String SOURCE = """
+            package cases.trace;
+
+            import dev.khbd.result4j.core.Option;
+            import dev.khbd.result4j.core.Result;
+
+            public class Main {
+
+                public static Result<String, Integer> first(boolean flag) {
+                    var value = second(flag).unwrap();
+                    return Result.success(value + 1);
+                }
+
+                private static Result<String, Integer> second(boolean flag) {
+                    var value = third(flag).unwrap();
+                    return Result.success(value + 1);
+                }
+
+                private static Result<String, Integer> third(boolean flag) {
+                    var value = number(flag).unwrap();
+                    return Result.success(value + 1);
+                }
+
+                private static Result<String, Integer> number(boolean flag) {
+                    return flag ? Result.success(1) : Result.error("error");
+                }
+
+                public static Option<Integer> option(boolean flag) {
+                    var value = (flag ? Option.some(1) : Option.<Integer>none()).unwrap();
+                    return Option.some(value + 1);
+                }
+            }
+            """;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void propagate_traceEnabled_recordUnwrapSites() throws Exception {
+        CompilationResult result = compiler.compile(new PluginOptions(false, null, true), "cases/trace/Main.java", SOURCE);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        Class<?> clazz = result.classLoader().loadClass("cases.trace.Main");
+        Method method = clazz.getMethod("first", boolean.class);
+
+        Result<String, Integer> error = (Result<String, Integer>) method.invoke(null, false);
+        assertThat(error).isEqualTo(Result.error("error"));
+        assertThat(error.propagationTrace())
+                .extracting(StackTraceElement::getMethodName, StackTraceElement::getLineNumber)
+                .containsExactly(
+                        tuple("third", 19),
+                        tuple("second", 14),
+                        tuple("first", 9)
+                );
+        assertThat(error.propagationTrace())
+                .allSatisfy(element -> {
+                    assertThat(element.getClassName()).isEqualTo("cases.trace.Main");
+                    assertThat(element.getFileName()).isEqualTo("Main.java");
+                });
+
+        Result<String, Integer> success = (Result<String, Integer>) method.invoke(null, true);
+        assertThat(success).isEqualTo(Result.success(4));
+        assertThat(success.propagationTrace()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void propagate_traceEnabledAndTypeIsNotResult_propagateWithoutTrace() throws Exception {
+        CompilationResult result = compiler.compile(new PluginOptions(false, null, true), "cases/trace/Main.java", SOURCE);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        Class<?> clazz = result.classLoader().loadClass("cases.trace.Main");
+        Method method = clazz.getMethod("option", boolean.class);
+
+        assertThat((Option<Integer>) method.invoke(null, false)).isEqualTo(Option.none());
+        assertThat((Option<Integer>) method.invoke(null, true)).isEqualTo(Option.some(2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void propagate_traceDisabled_traceIsEmpty() throws Exception {
+        CompilationResult result = compiler.compile(new PluginOptions(false), "cases/trace/Main.java", SOURCE);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        Class<?> clazz = result.classLoader().loadClass("cases.trace.Main");
+        Method method = clazz.getMethod("first", boolean.class);
+
+        Result<String, Integer> error = (Result<String, Integer>) method.invoke(null, false);
+        assertThat(error).isEqualTo(Result.error("error"));
+        assertThat(error.propagationTrace()).isEmpty();
+    }
+}
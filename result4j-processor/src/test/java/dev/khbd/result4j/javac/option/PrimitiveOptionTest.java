@@ -0,0 +1,122 @@
+package dev.khbd.result4j.javac.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.DoubleOption;
+import dev.khbd.result4j.core.IntOption;
+import dev.khbd.result4j.core.LongOption;
+import dev.khbd.result4j.javac.AbstractPluginTest;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class PrimitiveOptionTest extends AbstractPluginTest {
+
+    @Test
+    public void propagate_unwrapIntOption_propagate() throws Exception {
+        String source = """
+                package cases.primitive_option;
+
+                import dev.khbd.result4j.core.IntOption;
+
+                public class Main {
+
+                    public static IntOption length(String text) {
+                        return IntOption.some(nonEmpty(text).unwrap() * 2);
+                    }
+
+                    private static IntOption nonEmpty(String text) {
+                        return text.isEmpty() ? IntOption.none() : IntOption.some(text.length());
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_option/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_option.Main");
+        Method method = clazz.getMethod("length", String.class);
+
+        IntOption length = (IntOption) method.invoke(null, "");
+        assertThat(length).isSameAs(IntOption.none());
+
+        length = (IntOption) method.invoke(null, "Alex");
+        assertThat(length).isEqualTo(IntOption.some(8));
+    }
+
+    @Test
+    public void propagate_unwrapLongOption_propagate() throws Exception {
+        String source = """
+                package cases.primitive_option;
+
+                import dev.khbd.result4j.core.LongOption;
+
+                public class Main {
+
+                    public static LongOption sum(long first, long second) {
+                        long sum = positive(first).unwrap();
+                        sum += positive(second).unwrap();
+                        return LongOption.some(sum);
+                    }
+
+                    private static LongOption positive(long value) {
+                        return value > 0 ? LongOption.some(value) : LongOption.none();
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_option/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_option.Main");
+        Method method = clazz.getMethod("sum", long.class, long.class);
+
+        LongOption sum = (LongOption) method.invoke(null, 1L, -1L);
+        assertThat(sum).isSameAs(LongOption.none());
+
+        sum = (LongOption) method.invoke(null, 1L, 10_000_000_000L);
+        assertThat(sum).isEqualTo(LongOption.some(10_000_000_001L));
+    }
+
+    @Test
+    public void propagate_unwrapDoubleOption_propagate() throws Exception {
+        String source = """
+                package cases.primitive_option;
+
+                import dev.khbd.result4j.core.DoubleOption;
+
+                public class Main {
+
+                    public static DoubleOption inverse(double value) {
+                        double nonZero = nonZero(value).unwrap();
+                        return DoubleOption.some(1 / nonZero);
+                    }
+
+                    private static DoubleOption nonZero(double value) {
+                        return value == 0 ? DoubleOption.none() : DoubleOption.some(value);
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_option/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_option.Main");
+        Method method = clazz.getMethod("inverse", double.class);
+
+        DoubleOption inverse = (DoubleOption) method.invoke(null, 0.0);
+        assertThat(inverse).isSameAs(DoubleOption.none());
+
+        inverse = (DoubleOption) method.invoke(null, 4.0);
+        assertThat(inverse).isEqualTo(DoubleOption.some(0.25));
+    }
+}
@@ -6,6 +6,7 @@ import dev.khbd.result4j.core.Result;
 import dev.khbd.result4j.javac.AbstractPluginTest;
 import org.testng.annotations.Test;
 
+import javax.tools.Diagnostic;
 import java.lang.reflect.Method;
 
 /**
@@ -117,6 +118,39 @@ public class GenericTests extends AbstractPluginTest {
         assertThat(unwrapped.get()).isEqualTo("Alex");
     }
 
+    @Test
+    public void propagate_errorTypeIsSubtype_returnTheSameErrorInstance() throws Exception {
+        String source = """
+                package cases.generics;
+                
+                import dev.khbd.result4j.core.Result;
+                
+                public class Main {
+                
+                    public static Result<CharSequence, Integer> get(Result<String, Integer> value) {
+                        return Result.success(value.unwrap() + 1);
+                    }
+                }
+                
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/generics/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.generics.Main");
+        Method method = clazz.getMethod("get", Result.class);
+
+        Result<String, Integer> error = Result.error("error");
+        Result<CharSequence, Integer> unwrapped = (Result<CharSequence, Integer>) method.invoke(null, error);
+        assertThat(unwrapped).isSameAs(error);
+
+        unwrapped = (Result<CharSequence, Integer>) method.invoke(null, Result.success(10));
+        assertThat(unwrapped.isSuccess()).isTrue();
+        assertThat(unwrapped.get()).isEqualTo(11);
+    }
+
     @Test
     public void propagate_useWildcardWithNoBounds() throws Exception {
         String source = """
@@ -183,4 +217,28 @@ public class GenericTests extends AbstractPluginTest {
         assertThat(unwrapped.isSuccess()).isTrue();
         assertThat(unwrapped.get()).isEqualTo("Alex");
     }
+
+    @Test
+    public void propagate_receiverTypeIsResultSubtype_reportError() {
+        String source = """
+                package cases.generics;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, String> getName() {
+                        Result.Ok<String, String> ok = new Result.Ok<>("Alex");
+                        String name = ok.unwrap();
+                        return Result.success(name);
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/generics/Main.java", source);
+
+        assertThat(result.isFail()).isTrue();
+        assertThat(result.getErrors()).extracting(Diagnostic::toString)
+                .anyMatch(msg -> msg.contains(" Unsupported position for unwrap method call"));
+    }
 }
@@ -0,0 +1,159 @@
+package dev.khbd.result4j.javac.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.Result;
+import dev.khbd.result4j.javac.AbstractPluginTest;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Sergei_Khadanovich
+ */
+public class MultipleUnwrapCallsTest extends AbstractPluginTest {
+
+    @Test
+    public void propagate_severalUnwrapCallsInOneStatement_evaluateInOriginalOrder() throws Exception {
+        String source = """
+                package cases.multiple_unwrap;
+                                
+                import dev.khbd.result4j.core.Result;
+                import java.util.List;
+                                
+                public class Main {
+                                
+                    public static Result<String, String> get(List<String> log, String fail) {
+                        var value = concat(step(log, fail, "a").unwrap(), step(log, fail, "b").unwrap())
+                                + step(log, fail, step(log, fail, "c").unwrap() + "d").unwrap();
+                        return Result.success(value);
+                    }
+                    
+                    public static String concat(String s1, String s2) {
+                        return s1 + s2;
+                    }
+                    
+                    public static Result<String, String> step(List<String> log, String fail, String value) {
+                        log.add(value);
+                        return value.equals(fail) ? Result.error(value) : Result.success(value);
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/multiple_unwrap/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.multiple_unwrap.Main");
+        Method method = clazz.getMethod("get", List.class, String.class);
+
+        // all steps are successful
+        List<String> log = new ArrayList<>();
+        Result<String, String> value = (Result<String, String>) method.invoke(null, log, "");
+        assertThat(value.isSuccess()).isTrue();
+        assertThat(value.get()).isEqualTo("abcd");
+        assertThat(log).containsExactly("a", "b", "c", "cd");
+
+        // nested step fails
+        log = new ArrayList<>();
+        value = (Result<String, String>) method.invoke(null, log, "c");
+        assertThat(value.isError()).isTrue();
+        assertThat(value.getError()).isEqualTo("c");
+        assertThat(log).containsExactly("a", "b", "c");
+
+        // first step fails
+        log = new ArrayList<>();
+        value = (Result<String, String>) method.invoke(null, log, "a");
+        assertThat(value.isError()).isTrue();
+        assertThat(value.getError()).isEqualTo("a");
+        assertThat(log).containsExactly("a");
+    }
+
+    @Test
+    public void propagate_manyUnwrapCallsInOneStatement() throws Exception {
+        String sum = IntStream.range(0, 200)
+                .mapToObj(i -> "number(" + i + ", fail).unwrap()")
+                .collect(Collectors.joining(" + "));
+
+        String source = """
+                package cases.multiple_unwrap;
+                                
+                import dev.khbd.result4j.core.Result;
+                                
+                public class Main {
+                                
+                    public static Result<String, Integer> sum(int fail) {
+                        int sum = %s;
+                        return Result.success(sum);
+                    }
+                    
+                    public static Result<String, Integer> number(int number, int fail) {
+                        return number == fail ? Result.error("fail at " + number) : Result.success(number);
+                    }
+                }
+                """.formatted(sum);
+
+        CompilationResult result = compiler.compile(new PluginOptions(false), "cases/multiple_unwrap/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.multiple_unwrap.Main");
+        Method method = clazz.getMethod("sum", int.class);
+
+        Result<String, Integer> value = (Result<String, Integer>) method.invoke(null, -1);
+        assertThat(value.isSuccess()).isTrue();
+        assertThat(value.get()).isEqualTo(199 * 200 / 2);
+
+        value = (Result<String, Integer>) method.invoke(null, 150);
+        assertThat(value.isError()).isTrue();
+        assertThat(value.getError()).isEqualTo("fail at 150");
+    }
+
+    @Test
+    public void propagate_manyStatementsWithUnwrapCalls() throws Exception {
+        String statements = IntStream.range(0, 300)
+                .mapToObj(i -> "sum += number(" + i + ", fail).unwrap();")
+                .collect(Collectors.joining("\n"));
+
+        String source = """
+                package cases.multiple_unwrap;
+                                
+                import dev.khbd.result4j.core.Result;
+                                
+                public class Main {
+                                
+                    public static Result<String, Integer> sum(int fail) {
+                        int sum = 0;
+                        %s
+                        return Result.success(sum);
+                    }
+                    
+                    public static Result<String, Integer> number(int number, int fail) {
+                        return number == fail ? Result.error("fail at " + number) : Result.success(number);
+                    }
+                }
+                """.formatted(statements);
+
+        CompilationResult result = compiler.compile(new PluginOptions(false), "cases/multiple_unwrap/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.multiple_unwrap.Main");
+        Method method = clazz.getMethod("sum", int.class);
+
+        Result<String, Integer> value = (Result<String, Integer>) method.invoke(null, -1);
+        assertThat(value.isSuccess()).isTrue();
+        assertThat(value.get()).isEqualTo(299 * 300 / 2);
+
+        value = (Result<String, Integer>) method.invoke(null, 0);
+        assertThat(value.isError()).isTrue();
+        assertThat(value.getError()).isEqualTo("fail at 0");
+    }
+}
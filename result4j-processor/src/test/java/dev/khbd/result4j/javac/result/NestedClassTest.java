@@ -0,0 +1,198 @@
+package dev.khbd.result4j.javac.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.Result;
+import dev.khbd.result4j.javac.AbstractPluginTest;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class NestedClassTest extends AbstractPluginTest {
+
+    @Test
+    public void propagate_unwrapCallInStaticNestedClass() throws Exception {
+        String source = """
+                package cases.nested_class;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, Integer> getLength(boolean flag) {
+                        return Nested.length(flag);
+                    }
+
+                    static class Nested {
+
+                        static Result<String, Integer> length(boolean flag) {
+                            var name = name(flag).unwrap();
+                            return Result.success(name.length());
+                        }
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/nested_class/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        assertLength(result.classLoader().loadClass("cases.nested_class.Main"));
+    }
+
+    @Test
+    public void propagate_unwrapCallInAnonymousClass() throws Exception {
+        String source = """
+                package cases.nested_class;
+
+                import dev.khbd.result4j.core.Result;
+                import java.util.function.Function;
+
+                public class Main {
+
+                    public static Result<String, Integer> getLength(boolean flag) {
+                        Function<Boolean, Result<String, Integer>> function = new Function<>() {
+                            @Override
+                            public Result<String, Integer> apply(Boolean flag) {
+                                var name = name(flag).unwrap();
+                                return Result.success(name.length());
+                            }
+                        };
+                        return function.apply(flag);
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/nested_class/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        assertLength(result.classLoader().loadClass("cases.nested_class.Main"));
+    }
+
+    @Test
+    public void propagate_unwrapCallNearLocalClass() throws Exception {
+        String source = """
+                package cases.nested_class;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, Integer> getLength(boolean flag) {
+                        class Local {
+                            int length(String name) {
+                                return name.length();
+                            }
+                        }
+                        var name = name(flag).unwrap();
+                        return Result.success(new Local().length(name));
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/nested_class/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        assertThat(classLoader.loadClass("cases.nested_class.Main$1Local")).isNotNull();
+        assertLength(classLoader.loadClass("cases.nested_class.Main"));
+    }
+
+    @Test
+    public void propagate_unwrapCallInEnumMember() throws Exception {
+        String source = """
+                package cases.nested_class;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, Integer> getLength(boolean flag) {
+                        return Kind.NAME.length(flag);
+                    }
+
+                    enum Kind {
+                        NAME;
+
+                        Result<String, Integer> length(boolean flag) {
+                            var name = Main.name(flag).unwrap();
+                            return Result.success(name.length());
+                        }
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/nested_class/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        assertLength(result.classLoader().loadClass("cases.nested_class.Main"));
+    }
+
+    @Test
+    public void propagate_unwrapCallInFieldLambda() throws Exception {
+        String source = """
+                package cases.nested_class;
+
+                import dev.khbd.result4j.core.Result;
+                import java.util.function.Function;
+
+                public class Main {
+
+                    private static final Function<Boolean, Result<String, Integer>> LENGTH = flag -> {
+                        var name = Main.name(flag).unwrap();
+                        return Result.success(name.length());
+                    };
+
+                    public static Result<String, Integer> getLength(boolean flag) {
+                        return LENGTH.apply(flag);
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/nested_class/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        assertLength(result.classLoader().loadClass("cases.nested_class.Main"));
+    }
+
+    private static void assertLength(Class<?> clazz) throws Exception {
+        Method method = clazz.getMethod("getLength", boolean.class);
+
+        // call with false
+        Result<String, Integer> length = (Result<String, Integer>) method.invoke(null, false);
+        assertThat(length.isError()).isTrue();
+        assertThat(length.getError()).isEqualTo("error");
+
+        // call with true
+        length = (Result<String, Integer>) method.invoke(null, true);
+        assertThat(length.isSuccess()).isTrue();
+        assertThat(length.get()).isEqualTo(4);
+    }
+}
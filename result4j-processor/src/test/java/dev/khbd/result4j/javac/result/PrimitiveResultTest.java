@@ -0,0 +1,192 @@
+package dev.khbd.result4j.javac.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.DoubleResult;
+import dev.khbd.result4j.core.IntResult;
+import dev.khbd.result4j.core.LongResult;
+import dev.khbd.result4j.javac.AbstractPluginTest;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import java.lang.reflect.Method;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class PrimitiveResultTest extends AbstractPluginTest {
+
+    @Test
+    public void propagate_unwrapIntResult_propagate() throws Exception {
+        String source = """
+                package cases.primitive_result;
+
+                import dev.khbd.result4j.core.IntResult;
+
+                public class Main {
+
+                    public static IntResult<String> sum(String first, String second) {
+                        int sum = parse(first).unwrap() + parse(second).unwrap();
+                        return IntResult.success(sum);
+                    }
+
+                    private static IntResult<String> parse(String text) {
+                        try {
+                            return IntResult.success(Integer.parseInt(text));
+                        } catch (NumberFormatException e) {
+                            return IntResult.error("not a number: " + text);
+                        }
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_result/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_result.Main");
+        Method method = clazz.getMethod("sum", String.class, String.class);
+
+        IntResult<String> sum = (IntResult<String>) method.invoke(null, "1", "x");
+        assertThat(sum).isEqualTo(IntResult.error("not a number: x"));
+
+        sum = (IntResult<String>) method.invoke(null, "1", "2");
+        assertThat(sum).isEqualTo(IntResult.success(3));
+    }
+
+    @Test
+    public void propagate_unwrapLongResult_propagate() throws Exception {
+        String source = """
+                package cases.primitive_result;
+
+                import dev.khbd.result4j.core.LongResult;
+
+                public class Main {
+
+                    public static LongResult<String> twice(long value) {
+                        long checked = positive(value).unwrap();
+                        return LongResult.success(checked * 2);
+                    }
+
+                    private static LongResult<String> positive(long value) {
+                        return value > 0 ? LongResult.success(value) : LongResult.error("negative");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_result/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_result.Main");
+        Method method = clazz.getMethod("twice", long.class);
+
+        LongResult<String> twice = (LongResult<String>) method.invoke(null, -1L);
+        assertThat(twice).isEqualTo(LongResult.error("negative"));
+
+        twice = (LongResult<String>) method.invoke(null, 10_000_000_000L);
+        assertThat(twice).isEqualTo(LongResult.success(20_000_000_000L));
+    }
+
+    @Test
+    public void propagate_unwrapDoubleResult_propagate() throws Exception {
+        String source = """
+                package cases.primitive_result;
+
+                import dev.khbd.result4j.core.DoubleResult;
+
+                public class Main {
+
+                    public static DoubleResult<String> root(double value) {
+                        return DoubleResult.success(Math.sqrt(positive(value).unwrap()));
+                    }
+
+                    private static DoubleResult<String> positive(double value) {
+                        return value >= 0 ? DoubleResult.success(value) : DoubleResult.error("negative");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_result/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_result.Main");
+        Method method = clazz.getMethod("root", double.class);
+
+        DoubleResult<String> root = (DoubleResult<String>) method.invoke(null, -1.0);
+        assertThat(root).isEqualTo(DoubleResult.error("negative"));
+
+        root = (DoubleResult<String>) method.invoke(null, 16.0);
+        assertThat(root).isEqualTo(DoubleResult.success(4.0));
+    }
+
+    @Test
+    public void propagate_resultTypeIsNotImported_propagate() throws Exception {
+        String source = """
+                package cases.primitive_result;
+
+                public class Main {
+
+                    public static dev.khbd.result4j.core.IntResult<String> inc(int value) {
+                        var checked = Validator.positive(value).unwrap();
+                        return Validator.positive(checked + 1);
+                    }
+                }
+
+                class Validator {
+
+                    static dev.khbd.result4j.core.IntResult<String> positive(int value) {
+                        return value > 0
+                                ? dev.khbd.result4j.core.IntResult.success(value)
+                                : dev.khbd.result4j.core.IntResult.error("negative");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_result/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.primitive_result.Main");
+        Method method = clazz.getMethod("inc", int.class);
+
+        IntResult<String> inc = (IntResult<String>) method.invoke(null, -1);
+        assertThat(inc).isEqualTo(IntResult.error("negative"));
+
+        inc = (IntResult<String>) method.invoke(null, 1);
+        assertThat(inc).isEqualTo(IntResult.success(2));
+    }
+
+    @Test
+    public void propagate_unwrapIntResultInGenericResultMethod_failCompilation() {
+        String source = """
+                package cases.primitive_result;
+
+                import dev.khbd.result4j.core.IntResult;
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, String> name(int value) {
+                        int checked = positive(value).unwrap();
+                        return Result.success("name" + checked);
+                    }
+
+                    private static IntResult<String> positive(int value) {
+                        return value > 0 ? IntResult.success(value) : IntResult.error("negative");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/primitive_result/Main.java", source);
+
+        assertThat(result.isFail()).isTrue();
+        assertThat(result.getErrors()).extracting(Diagnostic::toString)
+                .anyMatch(msg -> msg.contains("incompatible types"));
+    }
+}
@@ -0,0 +1,85 @@
+package dev.khbd.result4j.javac.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.khbd.result4j.core.Result;
+import dev.khbd.result4j.javac.AbstractPluginTest;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Sergei Khadanovich
+ */
+public class UnicodeEscapeTest extends AbstractPluginTest {
+
+    @Test
+    public void propagate_unwrapCallWrittenWithUnicodeEscape() throws Exception {
+        String source = """
+                package cases.unicode_escape;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, String> getName(boolean flag) {
+                        var name = name(flag).\\u0075nwrap();
+                        return Result.success(name.toUpperCase());
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/unicode_escape/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.unicode_escape.Main");
+        Method method = clazz.getMethod("getName", boolean.class);
+
+        // call with false
+        Result<String, String> name = (Result<String, String>) method.invoke(null, false);
+        assertThat(name.isError()).isTrue();
+        assertThat(name.getError()).isEqualTo("error");
+
+        // call with true
+        name = (Result<String, String>) method.invoke(null, true);
+        assertThat(name.isSuccess()).isTrue();
+        assertThat(name.get()).isEqualTo("ALEX");
+    }
+
+    @Test
+    public void compile_unitWithoutUnwrapCalls() throws Exception {
+        String source = """
+                package cases.unicode_escape;
+
+                import dev.khbd.result4j.core.Result;
+
+                public class Main {
+
+                    public static Result<String, String> getName(boolean flag) {
+                        return name(flag).map(String::toUpperCase);
+                    }
+
+                    public static Result<String, String> name(boolean flag) {
+                        return flag ? Result.success("Alex") : Result.error("error");
+                    }
+                }
+                """;
+
+        CompilationResult result = compiler.compile(new PluginOptions(true), "cases/unicode_escape/Main.java", source);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ClassLoader classLoader = result.classLoader();
+        Class<?> clazz = classLoader.loadClass("cases.unicode_escape.Main");
+        Method method = clazz.getMethod("getName", boolean.class);
+
+        Result<String, String> name = (Result<String, String>) method.invoke(null, true);
+        assertThat(name.get()).isEqualTo("ALEX");
+    }
+}